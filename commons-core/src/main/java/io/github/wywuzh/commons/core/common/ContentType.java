@@ -355,6 +355,8 @@ public class ContentType {
     public static final String TEXT_POINT_VXML = "text/xml";
     public static final String TEXT_POINT_TSD = "text/xml";
     public static final String TEXT_POINT_TXT = "text/plain";
+    public static final String TEXT_POINT_CSV = "text/csv";
+    public static final String TEXT_POINT_TSV = "text/tab-separated-values";
     public static final String TEXT_POINT_ULS = "text/iuls";
     public static final String TEXT_POINT_VCF = "text/x-vcard";
     public static final String TEXT_POINT_VML = "text/xml";
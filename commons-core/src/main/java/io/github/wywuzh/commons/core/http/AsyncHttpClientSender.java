@@ -0,0 +1,398 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.http.HttpStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * 类AsyncHttpClientSender的实现描述：异步HTTP请求发送器
+ *
+ * <pre>
+ * 基于JDK自带的 {@link HttpClient}（NIO），请求发出后不占用调用线程，响应通过 {@link CompletableFuture} 返回，
+ * 适用于一次请求中需要并发调用大量外部接口的场景。
+ * 1. 同时执行的请求数不超过 maxInFlight，超出的请求进入等待队列，有请求完成时再依次发出；等待队列已满时直接返回失败（{@link RejectedExecutionException}）
+ * 2. 每个请求可以单独指定超时时间，未指定时使用默认超时时间
+ * 3. 响应结果与 {@link HttpClientUtils.HttpClientSender} 一致：请求失败（连接失败、超时等）时返回状态码为500的 {@link ResponseMessage}，result为异常堆栈
+ *
+ * 注：应作为单例长期复用，HttpClient内部维护了连接池
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 22:07:33
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class AsyncHttpClientSender {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncHttpClientSender.class);
+
+    private final HttpClient httpClient;
+    private final Duration requestTimeout;
+    private final int maxInFlight;
+    private final int maxPending;
+
+    /**
+     * 执行中的请求数
+     */
+    private final AtomicInteger inFlight = new AtomicInteger();
+    /**
+     * 等待执行的请求数。注：ConcurrentLinkedQueue.size()需要遍历队列，单独计数
+     */
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Queue<PendingRequest> pendingQueue = new ConcurrentLinkedQueue<>();
+
+    private AsyncHttpClientSender(Builder builder) {
+        HttpClient.Builder httpClientBuilder = HttpClient.newBuilder().connectTimeout(builder.connectTimeout).followRedirects(HttpClient.Redirect.NORMAL);
+        if (builder.executor != null) {
+            httpClientBuilder.executor(builder.executor);
+        }
+        this.httpClient = httpClientBuilder.build();
+        this.requestTimeout = builder.requestTimeout;
+        this.maxInFlight = builder.maxInFlight;
+        this.maxPending = builder.maxPending;
+    }
+
+    /**
+     * 创建AsyncHttpClientSender构建器
+     *
+     * @return 构建器
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * GET请求数据
+     *
+     * @param uri    请求URI地址
+     * @param header 请求参数（header）
+     * @return 响应结果
+     */
+    public CompletableFuture<ResponseMessage> doGet(String uri, Map<String, String> header) {
+        return doGet(uri, header, null);
+    }
+
+    /**
+     * GET请求数据
+     *
+     * @param uri     请求URI地址
+     * @param header  请求参数（header）
+     * @param timeout 超时时间，为空时使用默认超时时间
+     * @return 响应结果
+     */
+    public CompletableFuture<ResponseMessage> doGet(String uri, Map<String, String> header, Duration timeout) {
+        Assert.notNull(uri, "uri must not be null");
+
+        HttpRequest.Builder requestBuilder = newRequestBuilder(uri, header, timeout).GET();
+        return doRequest(requestBuilder.build());
+    }
+
+    /**
+     * POST请求数据(form表单)
+     *
+     * @param uri     请求URI地址
+     * @param param   请求参数
+     * @param header  header参数
+     * @param timeout 超时时间，为空时使用默认超时时间
+     * @return 响应结果
+     */
+    public CompletableFuture<ResponseMessage> doPost(String uri, Map<String, String> param, Map<String, String> header, Duration timeout) {
+        Assert.notNull(uri, "uri must not be null");
+
+        StringBuilder form = new StringBuilder();
+        if (param != null) {
+            for (Map.Entry<String, String> entry : param.entrySet()) {
+                if (form.length() > 0) {
+                    form.append('&');
+                }
+                form.append(URLEncoder.encode(entry.getKey(), StandardCharsets.UTF_8)).append('=').append(URLEncoder.encode(StringUtils.defaultString(entry.getValue()), StandardCharsets.UTF_8));
+            }
+        }
+        HttpRequest.Builder requestBuilder = newRequestBuilder(uri, header, timeout).header("Content-Type", "application/x-www-form-urlencoded; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(form.toString(), StandardCharsets.UTF_8));
+        return doRequest(requestBuilder.build());
+    }
+
+    /**
+     * POST请求数据(json)
+     *
+     * @param uri          请求URI地址
+     * @param postDataJson 请求参数
+     * @param header       header参数
+     * @param timeout      超时时间，为空时使用默认超时时间
+     * @return 响应结果
+     */
+    public CompletableFuture<ResponseMessage> doPostJson(String uri, String postDataJson, Map<String, String> header, Duration timeout) {
+        Assert.notNull(uri, "uri must not be null");
+
+        HttpRequest.Builder requestBuilder = newRequestBuilder(uri, header, timeout);
+        if (header == null || header.keySet().stream().noneMatch("Content-Type"::equalsIgnoreCase)) {
+            requestBuilder.header("Content-Type", "application/json; charset=utf-8");
+        }
+        requestBuilder.POST(postDataJson == null ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(postDataJson, StandardCharsets.UTF_8));
+        return doRequest(requestBuilder.build());
+    }
+
+    /**
+     * 处理用户请求，响应回调在请求完成的线程中执行
+     *
+     * @param request  http请求
+     * @param callBack 请求回调
+     * @return 回调执行完成后结束
+     */
+    public CompletableFuture<Void> doRequest(HttpRequest request, ResponseCallBack callBack) {
+        Assert.notNull(callBack, "callBack must not be null");
+        return doRequest(request).thenAccept(responseMessage -> callBack.response(responseMessage.getStatusCode(), responseMessage.getResult()));
+    }
+
+    /**
+     * 处理用户请求。请求未指定超时时间时使用默认超时时间
+     *
+     * @param request http请求
+     * @return 响应结果，等待队列已满时以 {@link RejectedExecutionException} 结束
+     */
+    public CompletableFuture<ResponseMessage> doRequest(HttpRequest request) {
+        Assert.notNull(request, "request must not be null");
+
+        if (request.timeout().isEmpty() && requestTimeout != null) {
+            request = HttpRequest.newBuilder(request, (name, value) -> true).timeout(requestTimeout).build();
+        }
+        PendingRequest pendingRequest = new PendingRequest(request);
+        if (tryAcquire()) {
+            send(pendingRequest);
+            return pendingRequest.future;
+        }
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            pendingRequest.future.completeExceptionally(new RejectedExecutionException("pending requests exceed " + maxPending));
+            return pendingRequest.future;
+        }
+        pendingQueue.offer(pendingRequest);
+        // 入队期间可能已有请求完成，需要重新检查
+        drain();
+        return pendingRequest.future;
+    }
+
+    private HttpRequest.Builder newRequestBuilder(String uri, Map<String, String> header, Duration timeout) {
+        HttpRequest.Builder requestBuilder = HttpRequest.newBuilder(URI.create(uri));
+        if (header != null) {
+            header.forEach(requestBuilder::header);
+        }
+        if (timeout != null) {
+            requestBuilder.timeout(timeout);
+        }
+        return requestBuilder;
+    }
+
+    private boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= maxInFlight) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    private void release() {
+        inFlight.decrementAndGet();
+        drain();
+    }
+
+    /**
+     * 有空闲名额时发出等待队列中的请求
+     */
+    private void drain() {
+        while (!pendingQueue.isEmpty()) {
+            if (!tryAcquire()) {
+                return;
+            }
+            PendingRequest pendingRequest = pendingQueue.poll();
+            if (pendingRequest == null) {
+                // 其他线程已取走，归还名额后重新检查队列
+                inFlight.decrementAndGet();
+                continue;
+            }
+            pending.decrementAndGet();
+            send(pendingRequest);
+        }
+    }
+
+    private void send(PendingRequest pendingRequest) {
+        HttpRequest request = pendingRequest.request;
+        if (pendingRequest.future.isDone()) {
+            // 调用方已取消
+            release();
+            return;
+        }
+        CompletableFuture<HttpResponse<byte[]>> responseFuture;
+        try {
+            responseFuture = httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray());
+        } catch (RuntimeException e) {
+            release();
+            complete(pendingRequest, null, e);
+            return;
+        }
+        responseFuture.whenComplete((response, throwable) -> {
+            release();
+            complete(pendingRequest, response, throwable);
+        });
+    }
+
+    private void complete(PendingRequest pendingRequest, HttpResponse<byte[]> response, Throwable throwable) {
+        HttpRequest request = pendingRequest.request;
+        if (throwable != null) {
+            Throwable cause = ExceptionUtils.getRootCause(throwable) != null ? ExceptionUtils.getRootCause(throwable) : throwable;
+            LOGGER.error("url={}, method={} 请求失败：", request.uri(), request.method(), cause);
+            pendingRequest.future.complete(new ResponseMessage(HttpStatus.SC_INTERNAL_SERVER_ERROR, ExceptionUtils.getStackTrace(cause)));
+            return;
+        }
+        pendingRequest.future.complete(new ResponseMessage(response.statusCode(), new String(response.body(), getCharset(response))));
+    }
+
+    /**
+     * 获取响应内容的字符集，未指定时使用UTF-8
+     */
+    private static Charset getCharset(HttpResponse<?> response) {
+        String contentType = response.headers().firstValue("Content-Type").orElse(null);
+        if (contentType != null) {
+            for (String part : contentType.split(";")) {
+                String value = part.trim();
+                if (StringUtils.startsWithIgnoreCase(value, "charset=")) {
+                    try {
+                        return Charset.forName(StringUtils.strip(value.substring("charset=".length()), "\""));
+                    } catch (IllegalArgumentException e) {
+                        LOGGER.warn("Content-Type={} 字符集不支持，使用UTF-8", contentType);
+                    }
+                }
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    /**
+     * @return 执行中的请求数
+     */
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * @return 等待执行的请求数
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * @return JDK HttpClient
+     */
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    private static final class PendingRequest {
+        final HttpRequest request;
+        final CompletableFuture<ResponseMessage> future = new CompletableFuture<>();
+
+        PendingRequest(HttpRequest request) {
+            this.request = request;
+        }
+    }
+
+    /**
+     * 类Builder的实现描述：AsyncHttpClientSender构建器
+     */
+    public static class Builder {
+        private Duration connectTimeout = Duration.ofSeconds(30);
+        private Duration requestTimeout = Duration.ofSeconds(30);
+        private int maxInFlight = 256;
+        private int maxPending = 10000;
+        private Executor executor;
+
+        private Builder() {
+        }
+
+        /**
+         * @param connectTimeout 连接超时，默认30秒
+         */
+        public Builder setConnectTimeout(Duration connectTimeout) {
+            Assert.notNull(connectTimeout, "connectTimeout must not be null");
+            this.connectTimeout = connectTimeout;
+            return this;
+        }
+
+        /**
+         * @param requestTimeout 默认的请求超时（从发出请求到收到响应头），默认30秒，为空时不限制
+         */
+        public Builder setRequestTimeout(Duration requestTimeout) {
+            this.requestTimeout = requestTimeout;
+            return this;
+        }
+
+        /**
+         * @param maxInFlight 同时执行的最大请求数，默认256
+         */
+        public Builder setMaxInFlight(int maxInFlight) {
+            Assert.isTrue(maxInFlight > 0, "maxInFlight must be greater than 0");
+            this.maxInFlight = maxInFlight;
+            return this;
+        }
+
+        /**
+         * @param maxPending 等待执行的最大请求数，默认10000
+         */
+        public Builder setMaxPending(int maxPending) {
+            Assert.isTrue(maxPending >= 0, "maxPending must not be negative");
+            this.maxPending = maxPending;
+            return this;
+        }
+
+        /**
+         * @param executor 处理响应、执行回调的线程池，为空时使用HttpClient默认的线程池
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public AsyncHttpClientSender build() {
+            return new AsyncHttpClientSender(this);
+        }
+    }
+
+}
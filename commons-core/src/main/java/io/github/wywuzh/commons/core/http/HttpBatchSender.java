@@ -0,0 +1,262 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.URIUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import io.github.wywuzh.commons.core.http.HttpClientUtils.HttpClientSender;
+
+/**
+ * 类HttpBatchSender的实现描述：批量HTTP请求发送器
+ *
+ * <pre>
+ * 批量请求并发执行，同时执行的请求数不超过 concurrency，复用 {@link HttpClientSender} 的连接池：
+ * 1. {@link #execute(List)} 等待全部请求完成，按请求顺序返回响应结果
+ * 2. {@link #execute(Stream, BatchCallBack)} 请求逐个从流中读取，每完成一个请求回调一次（按完成顺序），不在内存中保留全部请求和响应
+ * 3. 可选按host限流：每个host每秒最多发出 rateLimit 个请求
+ *
+ * 注：concurrency 应不大于连接池每个路由的最大连接数，超出部分只会在连接池中排队等待连接。
+ * 请求在线程池中执行，每个执行中的请求占用一个线程，线程数不超过 concurrency
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-19 00:21:14
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class HttpBatchSender {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpBatchSender.class);
+
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    /**
+     * 默认线程池：执行中的请求数由Semaphore限制，线程空闲60秒后回收
+     */
+    private static final ExecutorService DEFAULT_EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "http-batch-" + THREAD_NUMBER.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final HttpClientSender sender;
+    private final Charset charset;
+    private final int concurrency;
+    /**
+     * 相邻两个请求的最小间隔，单位为纳秒，0表示不限流
+     */
+    private final long rateInterval;
+    private final Executor executor;
+    /**
+     * 每个host下一个请求最早可以发出的时间（System.nanoTime()）
+     */
+    private final ConcurrentMap<String, AtomicLong> nextSendTimes = new ConcurrentHashMap<>();
+
+    private HttpBatchSender(Builder builder) {
+        this.sender = builder.sender != null ? builder.sender : HttpClientUtils.httpClientSender;
+        this.charset = builder.charset;
+        this.concurrency = builder.concurrency;
+        this.rateInterval = builder.rateLimit > 0 ? TimeUnit.SECONDS.toNanos(1) / builder.rateLimit : 0;
+        this.executor = builder.executor != null ? builder.executor : DEFAULT_EXECUTOR;
+    }
+
+    /**
+     * 创建HttpBatchSender构建器
+     *
+     * @return 构建器
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 批量处理用户请求，等待全部请求完成
+     *
+     * @param requests http请求
+     * @return 响应结果，与请求顺序一致。请求失败时为状态码500的 {@link ResponseMessage}，与 {@link HttpClientSender#doRequest(HttpRequestBase)} 一致
+     * @throws InterruptedException 等待过程中线程被中断，此时不再发出新的请求
+     */
+    public List<ResponseMessage> execute(List<? extends HttpRequestBase> requests) throws InterruptedException {
+        Assert.notNull(requests, "requests must not be null");
+
+        ResponseMessage[] responseMessages = new ResponseMessage[requests.size()];
+        execute(requests.iterator(), (index, request, responseMessage) -> responseMessages[index] = responseMessage);
+        // 所有回调都在execute返回前完成，Semaphore保证了数组写入对当前线程可见
+        return new ArrayList<>(Arrays.asList(responseMessages));
+    }
+
+    /**
+     * 批量处理用户请求，每完成一个请求回调一次，等待全部请求完成后返回
+     *
+     * @param requests http请求流，按需读取
+     * @param callBack 请求回调，在执行请求的线程中调用，需要自行保证线程安全
+     * @throws InterruptedException 等待过程中线程被中断，此时不再发出新的请求
+     */
+    public void execute(Stream<? extends HttpRequestBase> requests, BatchCallBack callBack) throws InterruptedException {
+        Assert.notNull(requests, "requests must not be null");
+        Assert.notNull(callBack, "callBack must not be null");
+
+        execute(requests.iterator(), callBack);
+    }
+
+    private void execute(Iterator<? extends HttpRequestBase> iterator, BatchCallBack callBack) throws InterruptedException {
+        Semaphore semaphore = new Semaphore(concurrency);
+        try {
+            for (int index = 0; iterator.hasNext(); index++) {
+                HttpRequestBase request = iterator.next();
+                semaphore.acquire();
+                int current = index;
+                try {
+                    executor.execute(() -> {
+                        try {
+                            callBack.response(current, request, send(request));
+                        } catch (RuntimeException e) {
+                            LOGGER.error("url={}, method={} 回调处理失败：", request.getURI(), request.getMethod(), e);
+                        } finally {
+                            semaphore.release();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    semaphore.release();
+                    throw e;
+                }
+            }
+        } finally {
+            // 取回全部许可，即等待已发出的请求全部完成
+            semaphore.acquireUninterruptibly(concurrency);
+        }
+    }
+
+    private ResponseMessage send(HttpRequestBase request) {
+        if (rateInterval > 0 && request.getURI() != null) {
+            acquireRate(URIUtils.extractHost(request.getURI()).toURI());
+        }
+        return sender.doRequest(request, charset);
+    }
+
+    /**
+     * 按host限流：每个请求预占一个发送时间点（CAS），未到该时间点前等待
+     */
+    private void acquireRate(String host) {
+        AtomicLong nextSendTime = nextSendTimes.computeIfAbsent(host, key -> new AtomicLong(System.nanoTime()));
+        long now;
+        long sendTime;
+        while (true) {
+            now = System.nanoTime();
+            long next = nextSendTime.get();
+            // 空闲一段时间后不累积发送额度
+            sendTime = next - now > 0 ? next : now;
+            if (nextSendTime.compareAndSet(next, sendTime + rateInterval)) {
+                break;
+            }
+        }
+        long waitTime = sendTime - now;
+        while (waitTime > 0) {
+            LockSupport.parkNanos(waitTime);
+            waitTime = sendTime - System.nanoTime();
+        }
+    }
+
+    /**
+     * 批量请求回调
+     */
+    @FunctionalInterface
+    public interface BatchCallBack {
+
+        /**
+         * @param index           请求序号，从0开始
+         * @param request         http请求
+         * @param responseMessage 响应结果
+         */
+        void response(int index, HttpRequestBase request, ResponseMessage responseMessage);
+    }
+
+    public static class Builder {
+        private HttpClientSender sender;
+        private Charset charset = StandardCharsets.UTF_8;
+        private int concurrency = 50;
+        private int rateLimit = 0;
+        private Executor executor;
+
+        /**
+         * @param sender 发送请求的HttpClientSender，默认使用 {@link HttpClientUtils#httpClientSender}
+         */
+        public Builder setSender(HttpClientSender sender) {
+            this.sender = sender;
+            return this;
+        }
+
+        /**
+         * @param charset 响应内容编码，默认UTF-8
+         */
+        public Builder setCharset(Charset charset) {
+            this.charset = charset;
+            return this;
+        }
+
+        /**
+         * @param concurrency 同时执行的最大请求数，默认50（与HttpClientSender默认的每个路由最大连接数一致）
+         */
+        public Builder setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+            return this;
+        }
+
+        /**
+         * @param rateLimit 每个host每秒最多发出的请求数，默认0，即不限流
+         */
+        public Builder setRateLimit(int rateLimit) {
+            this.rateLimit = rateLimit;
+            return this;
+        }
+
+        /**
+         * @param executor 执行请求的线程池，默认使用内部的守护线程池。注：线程池的线程数应不小于 concurrency
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public HttpBatchSender build() {
+            Assert.notNull(charset, "charset must not be null");
+            Assert.isTrue(concurrency > 0, "concurrency must be greater than 0");
+            Assert.isTrue(rateLimit >= 0, "rateLimit must not be negative");
+            return new HttpBatchSender(this);
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * 类HttpCacheStats的实现描述：响应缓存统计快照
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 23:10:45
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class HttpCacheStats extends HttpBasic {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 命中次数：直接使用缓存的响应，没有发出请求
+     */
+    private final long hits;
+    /**
+     * 未命中次数：缓存中没有可用的响应，发出了完整的请求
+     */
+    private final long misses;
+    /**
+     * 重新验证次数：缓存的响应已过期，通过If-None-Match/If-Modified-Since向服务端确认后继续使用（服务端返回304）
+     */
+    private final long validated;
+    /**
+     * 缓存条目数
+     */
+    private final int entries;
+    /**
+     * 缓存的响应内容总字节数
+     */
+    private final long bytes;
+
+    public HttpCacheStats(long hits, long misses, long validated, int entries, long bytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.validated = validated;
+        this.entries = entries;
+        this.bytes = bytes;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getValidated() {
+        return validated;
+    }
+
+    public int getEntries() {
+        return entries;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * @return 命中率（重新验证也视为命中），没有请求时为0
+     */
+    public double getHitRate() {
+        long total = hits + misses + validated;
+        return total == 0 ? 0 : (double) (hits + validated) / total;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpConnectionMetrics;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.URIUtils;
+import org.apache.http.config.Registry;
+import org.apache.http.conn.ConnectionPoolTimeoutException;
+import org.apache.http.conn.ConnectionRequest;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 类HttpClientMetrics的实现描述：HttpClientSender请求指标采集
+ *
+ * <pre>
+ * 按host、请求方法统计连接等待、建立连接、首字节、总耗时直方图，以及返回码、异常、收发字节数：
+ * 1. 同步请求在调用线程中执行，请求开始时将计时对象放入ThreadLocal，连接池、请求执行器在同一线程中取出并记录各阶段耗时
+ * 2. 收发字节数取自连接的HttpConnectionMetrics，在连接归还连接池时计算本次请求的增量
+ * 3. 未开启时HttpClientSender不创建该对象，也不替换连接池、请求执行器，没有额外开销
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-19 01:20:04
+ * @version v3.5.0
+ * @since JDK 17
+ */
+class HttpClientMetrics implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(HttpClientMetrics.class);
+
+    private final ConcurrentMap<String, Endpoint> endpoints = new ConcurrentHashMap<>();
+    private final ThreadLocal<Timing> currentTiming = new ThreadLocal<>();
+    private final ScheduledExecutorService logExecutor;
+
+    /**
+     * @param logInterval 定时输出统计日志的间隔，单位为毫秒，小于等于0时不输出
+     */
+    HttpClientMetrics(long logInterval) {
+        if (logInterval > 0) {
+            logExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "http-client-metrics");
+                thread.setDaemon(true);
+                return thread;
+            });
+            logExecutor.scheduleAtFixedRate(this::log, logInterval, logInterval, TimeUnit.MILLISECONDS);
+        } else {
+            logExecutor = null;
+        }
+    }
+
+    /**
+     * 创建记录连接等待、建立连接耗时以及收发字节数的连接池
+     */
+    PoolingHttpClientConnectionManager newConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry, long timeToLive) {
+        return new ConnectionManager(socketFactoryRegistry, timeToLive);
+    }
+
+    /**
+     * 创建记录首字节耗时的请求执行器
+     */
+    HttpRequestExecutor newRequestExecutor() {
+        return new RequestExecutor();
+    }
+
+    /**
+     * 请求开始
+     */
+    void start(HttpRequestBase request) {
+        String host = URIUtils.extractHost(request.getURI()).toURI();
+        Endpoint endpoint = endpoints.computeIfAbsent(request.getMethod() + " " + host, key -> new Endpoint(request.getMethod(), host));
+        currentTiming.set(new Timing(endpoint));
+    }
+
+    /**
+     * 请求结束：响应内容已读取完毕、连接已归还连接池
+     *
+     * @param statusCode 返回码，没有收到响应时为0
+     * @param error      请求失败的异常，成功时为null
+     */
+    void finish(int statusCode, Throwable error) {
+        Timing timing = currentTiming.get();
+        if (timing == null) {
+            return;
+        }
+        currentTiming.remove();
+        Endpoint endpoint = timing.endpoint;
+        endpoint.total.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - timing.startTime));
+        if (statusCode > 0) {
+            endpoint.statusCodes.computeIfAbsent(statusCode, key -> new LongAdder()).increment();
+        }
+        if (error != null) {
+            endpoint.errors.computeIfAbsent(error.getClass().getName(), key -> new LongAdder()).increment();
+        }
+    }
+
+    /**
+     * @return 按host、请求方法统计的指标快照
+     */
+    List<HttpEndpointStats> snapshot() {
+        List<HttpEndpointStats> endpointStatsList = new ArrayList<>(endpoints.size());
+        for (Endpoint endpoint : new TreeMap<>(endpoints).values()) {
+            endpointStatsList.add(new HttpEndpointStats(endpoint.method, endpoint.host, endpoint.leaseWait.snapshot(), endpoint.connect.snapshot(),
+                    endpoint.timeToFirstByte.snapshot(), endpoint.total.snapshot(), sum(endpoint.statusCodes), sum(endpoint.errors), endpoint.bytesIn.sum(),
+                    endpoint.bytesOut.sum()));
+        }
+        return endpointStatsList;
+    }
+
+    private static <K extends Comparable<K>> Map<K, Long> sum(Map<K, LongAdder> counters) {
+        Map<K, Long> result = new TreeMap<>();
+        counters.forEach((key, counter) -> result.put(key, counter.sum()));
+        return result;
+    }
+
+    private void log() {
+        try {
+            for (HttpEndpointStats endpointStats : snapshot()) {
+                LOGGER.info("HttpClient metrics: {}", endpointStats);
+            }
+        } catch (RuntimeException e) {
+            LOGGER.error("输出HttpClient统计日志失败：", e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (logExecutor != null) {
+            logExecutor.shutdownNow();
+        }
+    }
+
+    private static long elapsedMicros(long startTime) {
+        return TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startTime);
+    }
+
+    /**
+     * 按host、请求方法统计的指标
+     */
+    private static final class Endpoint {
+        private final String method;
+        private final String host;
+        private final LatencyHistogram leaseWait = new LatencyHistogram();
+        private final LatencyHistogram connect = new LatencyHistogram();
+        private final LatencyHistogram timeToFirstByte = new LatencyHistogram();
+        private final LatencyHistogram total = new LatencyHistogram();
+        private final ConcurrentMap<Integer, LongAdder> statusCodes = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> errors = new ConcurrentHashMap<>();
+        private final LongAdder bytesIn = new LongAdder();
+        private final LongAdder bytesOut = new LongAdder();
+
+        private Endpoint(String method, String host) {
+            this.method = method;
+            this.host = host;
+        }
+    }
+
+    /**
+     * 一次请求的计时
+     */
+    private static final class Timing {
+        private final Endpoint endpoint;
+        private final long startTime = System.nanoTime();
+        /**
+         * 当前使用的连接以及开始使用时的收发字节数
+         */
+        private HttpClientConnection connection;
+        private long receivedBytes;
+        private long sentBytes;
+
+        private Timing(Endpoint endpoint) {
+            this.endpoint = endpoint;
+        }
+    }
+
+    private final class ConnectionManager extends PoolingHttpClientConnectionManager {
+
+        private ConnectionManager(Registry<ConnectionSocketFactory> socketFactoryRegistry, long timeToLive) {
+            super(socketFactoryRegistry, null, null, null, timeToLive, TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+            ConnectionRequest connectionRequest = super.requestConnection(route, state);
+            Timing timing = currentTiming.get();
+            if (timing == null) {
+                return connectionRequest;
+            }
+            return new ConnectionRequest() {
+                @Override
+                public HttpClientConnection get(long timeout, TimeUnit timeUnit) throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+                    long startTime = System.nanoTime();
+                    try {
+                        return connectionRequest.get(timeout, timeUnit);
+                    } finally {
+                        timing.endpoint.leaseWait.record(elapsedMicros(startTime));
+                    }
+                }
+
+                @Override
+                public boolean cancel() {
+                    return connectionRequest.cancel();
+                }
+            };
+        }
+
+        @Override
+        public void connect(HttpClientConnection managedConn, HttpRoute route, int connectTimeout, HttpContext context) throws IOException {
+            Timing timing = currentTiming.get();
+            if (timing == null) {
+                super.connect(managedConn, route, connectTimeout, context);
+                return;
+            }
+            long startTime = System.nanoTime();
+            try {
+                super.connect(managedConn, route, connectTimeout, context);
+            } finally {
+                timing.endpoint.connect.record(elapsedMicros(startTime));
+            }
+        }
+
+        @Override
+        public void releaseConnection(HttpClientConnection managedConn, Object state, long keepAlive, TimeUnit timeUnit) {
+            Timing timing = currentTiming.get();
+            if (timing != null && timing.connection == managedConn) {
+                timing.connection = null;
+                try {
+                    HttpConnectionMetrics connectionMetrics = managedConn.getMetrics();
+                    timing.endpoint.bytesIn.add(connectionMetrics.getReceivedBytesCount() - timing.receivedBytes);
+                    timing.endpoint.bytesOut.add(connectionMetrics.getSentBytesCount() - timing.sentBytes);
+                } catch (RuntimeException e) {
+                    // 连接已失效时不统计字节数
+                    LOGGER.debug("获取连接收发字节数失败：", e);
+                }
+            }
+            super.releaseConnection(managedConn, state, keepAlive, timeUnit);
+        }
+    }
+
+    private final class RequestExecutor extends HttpRequestExecutor {
+
+        @Override
+        public HttpResponse execute(HttpRequest request, HttpClientConnection conn, HttpContext context) throws IOException, HttpException {
+            Timing timing = currentTiming.get();
+            if (timing == null) {
+                return super.execute(request, conn, context);
+            }
+            HttpConnectionMetrics connectionMetrics = conn.getMetrics();
+            timing.connection = conn;
+            timing.receivedBytes = connectionMetrics.getReceivedBytesCount();
+            timing.sentBytes = connectionMetrics.getSentBytesCount();
+            long startTime = System.nanoTime();
+            HttpResponse response = super.execute(request, conn, context);
+            timing.endpoint.timeToFirstByte.record(elapsedMicros(startTime));
+            return response;
+        }
+    }
+
+}
@@ -15,18 +15,32 @@
  */
 package io.github.wywuzh.commons.core.http;
 
+import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.lang.reflect.Type;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import javax.net.ssl.SSLContext;
 
@@ -36,7 +50,9 @@ import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.http.*;
 import org.apache.http.client.ClientProtocolException;
-import org.apache.http.client.HttpClient;
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.cache.CacheResponseStatus;
+import org.apache.http.client.cache.HttpCacheContext;
 import org.apache.http.client.config.AuthSchemes;
 import org.apache.http.client.config.CookieSpecs;
 import org.apache.http.client.config.RequestConfig;
@@ -44,6 +60,8 @@ import org.apache.http.client.entity.UrlEncodedFormEntity;
 import org.apache.http.client.methods.*;
 import org.apache.http.config.Registry;
 import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
 import org.apache.http.conn.socket.ConnectionSocketFactory;
 import org.apache.http.conn.socket.PlainConnectionSocketFactory;
 import org.apache.http.conn.ssl.NoopHostnameVerifier;
@@ -54,10 +72,15 @@ import org.apache.http.entity.mime.HttpMultipartMode;
 import org.apache.http.entity.mime.MultipartEntityBuilder;
 import org.apache.http.entity.mime.content.StringBody;
 import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
 import org.apache.http.impl.client.HttpClientBuilder;
+import org.apache.http.impl.client.cache.CacheConfig;
+import org.apache.http.impl.client.cache.CachingHttpClientBuilder;
 import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.message.BasicNameValuePair;
+import org.apache.http.pool.PoolStats;
+import org.apache.http.protocol.HttpContext;
 import org.apache.http.util.EntityUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -96,9 +119,11 @@ public class HttpClientUtils {
     private static final Logger logger = LoggerFactory.getLogger(HttpClientUtils.class);
 
     /**
+     * 所有静态方法共用的请求发送器。[v3.5.0] 使用 {@link HttpClientSender.Builder} 的默认配置：最大200个连接，每个路由最大50个连接，后台清理空闲连接
+     *
      * @since v2.5.2
      */
-    public static HttpClientSender httpClientSender = new HttpClientSender();
+    public static HttpClientSender httpClientSender = HttpClientSender.builder().build();
 
     /**
      * GET请求数据
@@ -395,6 +420,42 @@ public class HttpClientUtils {
         return httpClientSender.doRequest(httpPost);
     }
 
+    /**
+     * 批量POST请求数据(json)：通过共用的连接池并发发送，同时执行的请求数不超过concurrency
+     *
+     * @param uri          请求URI地址
+     * @param postDataList 请求参数列表，每个元素发送一个请求
+     * @param header       header参数
+     * @param charset      字符集
+     * @param concurrency  同时执行的最大请求数
+     * @return 响应结果，与请求参数顺序一致
+     * @throws InterruptedException 等待过程中线程被中断
+     * @see HttpBatchSender
+     * @since v3.5.0
+     */
+    public static List<ResponseMessage> doPostJsonBatch(String uri, List<?> postDataList, Map<String, String> header, Charset charset, int concurrency)
+            throws InterruptedException {
+        Assert.notNull(uri, "uri must not be null");
+        Assert.notNull(postDataList, "postDataList must not be null");
+        Assert.notNull(charset, "charset must not be null");
+
+        List<HttpPost> requests = new ArrayList<>(postDataList.size());
+        for (Object postData : postDataList) {
+            HttpPost httpPost = new HttpPost(uri);
+            if (null != postData) {
+                String postDataJson = postData instanceof String ? (String) postData : GsonUtil.format(postData);
+                httpPost.setEntity(new StringEntity(postDataJson, charset));
+            }
+            if (null != header) {
+                for (Map.Entry<String, String> entry : header.entrySet()) {
+                    httpPost.addHeader(entry.getKey(), entry.getValue());
+                }
+            }
+            requests.add(httpPost);
+        }
+        return HttpBatchSender.builder().setCharset(charset).setConcurrency(concurrency).build().execute(requests);
+    }
+
     /**
      * POST请求数据(json)
      *
@@ -675,32 +736,21 @@ public class HttpClientUtils {
         Assert.notNull(uri, "uri must not be null");
         Assert.notNull(charset, "charset must not be null");
 
-        String result = null;
+        HttpDelete httpDelete = new HttpDelete();
+        if (StringUtils.isNotEmpty(param)) {
+            uri = uri + "?" + param;
+        }
         try {
-            HttpClient httpClient = HttpClientBuilder.create().build();
-            HttpDelete httpDelete = new HttpDelete();
-
-            if (StringUtils.isNotEmpty(param)) {
-                uri = uri + "?" + param;
-            }
             httpDelete.setURI(new URI(uri));
-
-            // 调用DELETE请求
-            HttpResponse httpResponse = httpClient.execute(httpDelete);
-
-            // 返回处理结果状态
-            int statusCode = httpResponse.getStatusLine().getStatusCode();
-            if (statusCode == 200) {
-                result = EntityUtils.toString(httpResponse.getEntity(), charset);
-            }
-        } catch (ClientProtocolException e) {
-            logger.error("ClientProtocolException：", e);
-        } catch (IOException e) {
-            logger.error("IOException：", e);
         } catch (URISyntaxException e) {
             logger.error("URISyntaxException：", e);
+            return null;
         }
-        return result;
+
+        // 调用DELETE请求。[v3.5.0] 使用共用的连接池，不再每次调用都创建一个新的httpclient
+        ResponseMessage responseMessage = httpClientSender.doRequest(httpDelete, charset);
+        // 返回处理结果状态
+        return responseMessage.getStatusCode() == HttpStatus.SC_OK ? responseMessage.getResult() : null;
     }
 
     /**
@@ -749,41 +799,8 @@ public class HttpClientUtils {
             throw new IllegalArgumentException("HttpUriRequest URI must not be null");
         }
 
-        // 设置全局的标准cookie策略
-        RequestConfig config = RequestConfig.custom().setCookieSpec(CookieSpecs.STANDARD_STRICT).setExpectContinueEnabled(true)
-                .setTargetPreferredAuthSchemes(Arrays.asList(AuthSchemes.NTLM, AuthSchemes.DIGEST)).setProxyPreferredAuthSchemes(Arrays.asList(AuthSchemes.BASIC)).setConnectTimeout(30 * 1000)
-                .setSocketTimeout(30 * 1000).setConnectionRequestTimeout(30 * 1000).build();
-        // 创建可用Scheme
-        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory> create().register(Scheme.HTTP.name(), PlainConnectionSocketFactory.INSTANCE)
-                .register(Scheme.HTTPS.name(), getConnectionSocketFactory()).build();
-        // 创建ConnectionManager
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
-        // 设置可关闭的httpclient
-        CloseableHttpClient httpClient = HttpClientBuilder.create().setConnectionManager(connectionManager).setDefaultRequestConfig(config).build();
-
-        ResponseMessage responseMessage = null;
-        try {
-            // 发起用户请求
-            CloseableHttpResponse httpResponse = httpClient.execute(request);
-            // 处理结果返回码
-            int statusCode = httpResponse.getStatusLine().getStatusCode();
-            // 返回结果
-            String entity = EntityUtils.toString(httpResponse.getEntity());
-            responseMessage = new ResponseMessage(statusCode, entity);
-        } catch (ClientProtocolException e) {
-            logger.error("ClientProtocolException：", e);
-            responseMessage = new ResponseMessage(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.toString());
-        } catch (IOException e) {
-            logger.error("IOException：", e);
-            responseMessage = new ResponseMessage(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.toString());
-        } finally {
-            try {
-                httpClient.close();
-            } catch (IOException e) {
-                logger.error("IOException：", e);
-            }
-        }
-        return responseMessage;
+        // [v3.5.0] 使用共用的连接池发送请求，不再每次调用都创建、关闭一个新的连接池
+        return httpClientSender.doRequest(toHttpRequestBase(request));
     }
 
     /**
@@ -803,88 +820,401 @@ public class HttpClientUtils {
             throw new IllegalArgumentException("HttpUriRequest URI must not be null");
         }
 
-        // 设置全局的标准cookie策略
-        RequestConfig config = RequestConfig.custom().setCookieSpec(CookieSpecs.STANDARD_STRICT).setExpectContinueEnabled(true)
-                .setTargetPreferredAuthSchemes(Arrays.asList(AuthSchemes.NTLM, AuthSchemes.DIGEST)).setProxyPreferredAuthSchemes(Arrays.asList(AuthSchemes.BASIC))
-                // 设置连接超时为30秒，单位为毫秒
-                // tips: 连接超时是指HttpClient在建立与远程服务器的连接时等待的时间。如果在这个时间内无法建立连接，HttpClient将抛出异常。连接超时通常用于控制网络延迟较高或服务器响应较慢的情况
-                .setConnectTimeout(30 * 1000)
-                // 设置读取超时为30秒，单位为毫秒
-                // tips: 读取超时是指HttpClient在读取服务器响应时等待的时间。如果在这个时间内无法读取到完整的响应，HttpClient将抛出异常。读取超时通常用于控制服务器处理请求的时间过长或网络传输速度较慢的情况
-                .setSocketTimeout(30 * 1000)
-                // 设置从连接池中获取连接的超时为10秒，单位为毫秒
-                .setConnectionRequestTimeout(10 * 1000).build();
-        // 创建可用Scheme
-        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory> create().register(Scheme.HTTP.name(), PlainConnectionSocketFactory.INSTANCE)
-                .register(Scheme.HTTPS.name(), getConnectionSocketFactory()).build();
-        // 创建ConnectionManager
-        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
-        // 设置可关闭的httpclient
-        CloseableHttpClient httpClient = HttpClientBuilder.create().setConnectionManager(connectionManager).setDefaultRequestConfig(config).build();
-
-        try {
-            // 发起用户请求
-            CloseableHttpResponse httpResponse = httpClient.execute(request);
+        // [v3.5.0] 使用共用的连接池发送请求，不再每次调用都创建、关闭一个新的连接池
+        httpClientSender.doRequest(toHttpRequestBase(request), callBack);
+    }
 
-            // 是否将处理结果返回
-            if (null != callBack) {
-                // 返回码
-                int statusCode = httpResponse.getStatusLine().getStatusCode();
-                // 返回结果
-                String result = EntityUtils.toString(httpResponse.getEntity(), Charset.forName("UTF-8"));
-                // 响应回调
-                callBack.response(statusCode, result);
-            }
-        } catch (ClientProtocolException e) {
-            logger.error("ClientProtocolException：", e);
-            if (null != callBack) {
-                callBack.response(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.toString());
-            }
-        } catch (IOException e) {
-            logger.error("IOException：", e);
-            if (null != callBack) {
-                callBack.response(HttpStatus.SC_INTERNAL_SERVER_ERROR, e.toString());
-            }
-        } finally {
-            try {
-                httpClient.close();
-            } catch (IOException e) {
-                logger.error("IOException：", e);
-            }
+    private static HttpRequestBase toHttpRequestBase(HttpUriRequest request) {
+        if (request instanceof HttpRequestBase) {
+            return (HttpRequestBase) request;
+        }
+        HttpRequestBase requestBase;
+        if (request instanceof HttpEntityEnclosingRequest) {
+            HttpEntityEnclosingRequestBase entityRequest = new HttpEntityEnclosingRequestBase() {
+                @Override
+                public String getMethod() {
+                    return request.getMethod();
+                }
+            };
+            entityRequest.setEntity(((HttpEntityEnclosingRequest) request).getEntity());
+            requestBase = entityRequest;
+        } else {
+            requestBase = new HttpRequestBase() {
+                @Override
+                public String getMethod() {
+                    return request.getMethod();
+                }
+            };
         }
+        requestBase.setURI(request.getURI());
+        requestBase.setHeaders(request.getAllHeaders());
+        return requestBase;
     }
 
     /**
+     * HTTP请求发送器，内部维护一个连接池，应作为单例长期复用
+     *
+     * <pre>
+     * [v3.5.0] 通过 {@link #builder()} 配置连接池：
+     * 1. 最大连接数、每个路由的最大连接数（HttpClient默认每个路由只有2个连接，并发调用同一个服务时会排队等待连接）
+     * 2. 长连接保持时间：服务端返回Keep-Alive时使用服务端的值（不超过配置值），否则使用配置值，避免复用已被服务端关闭的连接
+     * 3. 后台定时关闭空闲、过期的连接，连接空闲超过一定时间后复用前先检查连接是否可用
+     * 4. 通过 {@link #getPoolStats()} 获取连接池使用情况
+     * 5. 通过 {@link Builder#setCacheMaxEntries(int)} 开启GET响应缓存：按Cache-Control/Expires判断响应是否可以直接使用，
+     *    过期后通过If-None-Match/If-Modified-Since向服务端重新验证，通过 {@link #getCacheStats()} 获取命中情况
+     * 6. 通过 {@link Builder#setMetricsEnabled(boolean)} 开启请求指标采集，通过 {@link #getMetrics()} 获取每个host、请求方法的耗时分布、返回码、异常以及收发字节数
+     * </pre>
+     *
      * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2022-04-19 18:21:42
      * @version v2.5.2
      */
-    public static class HttpClientSender {
+    public static class HttpClientSender implements Closeable {
 
         private RequestConfig requestConfig;
         /**
          * 可关闭的httpclient
          */
         private CloseableHttpClient httpClient;
+        /**
+         * 连接池
+         *
+         * @since v3.5.0
+         */
+        private PoolingHttpClientConnectionManager connectionManager;
+        /**
+         * 响应缓存，未开启缓存时为null
+         *
+         * @since v3.5.0
+         */
+        private LruHttpCacheStorage cacheStorage;
+        private final LongAdder cacheHits = new LongAdder();
+        private final LongAdder cacheMisses = new LongAdder();
+        private final LongAdder cacheValidated = new LongAdder();
+        /**
+         * 请求指标采集，未开启时为null
+         *
+         * @since v3.5.0
+         */
+        private HttpClientMetrics metrics;
 
         public HttpClientSender() {
+            this(new Builder());
+        }
+
+        private HttpClientSender(Builder builder) {
             // 设置全局的标准cookie策略
             requestConfig = RequestConfig.custom().setCookieSpec(CookieSpecs.STANDARD_STRICT).setExpectContinueEnabled(true)
                     .setTargetPreferredAuthSchemes(Arrays.asList(AuthSchemes.NTLM, AuthSchemes.DIGEST)).setProxyPreferredAuthSchemes(Arrays.asList(AuthSchemes.BASIC))
-                    // 设置连接超时为30秒，单位为毫秒
+                    // 设置连接超时，单位为毫秒
                     // tips: 连接超时是指HttpClient在建立与远程服务器的连接时等待的时间。如果在这个时间内无法建立连接，HttpClient将抛出异常。连接超时通常用于控制网络延迟较高或服务器响应较慢的情况
-                    .setConnectTimeout(30 * 1000)
-                    // 设置读取超时为30秒，单位为毫秒
+                    .setConnectTimeout(builder.connectTimeout)
+                    // 设置读取超时，单位为毫秒
                     // tips: 读取超时是指HttpClient在读取服务器响应时等待的时间。如果在这个时间内无法读取到完整的响应，HttpClient将抛出异常。读取超时通常用于控制服务器处理请求的时间过长或网络传输速度较慢的情况
-                    .setSocketTimeout(30 * 1000)
-                    // 设置从连接池中获取连接的超时为10秒，单位为毫秒
-                    .setConnectionRequestTimeout(10 * 1000).build();
+                    .setSocketTimeout(builder.socketTimeout)
+                    // 设置从连接池中获取连接的超时，单位为毫秒
+                    .setConnectionRequestTimeout(builder.connectionRequestTimeout).build();
             // 创建可用Scheme
             Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory> create().register(Scheme.HTTP.name(), PlainConnectionSocketFactory.INSTANCE)
                     .register(Scheme.HTTPS.name(), getConnectionSocketFactory()).build();
             // 创建ConnectionManager
-            PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+            if (builder.metricsEnabled) {
+                // [v3.5.0] 开启请求指标采集：替换为记录各阶段耗时的连接池
+                metrics = new HttpClientMetrics(builder.metricsLogInterval);
+                connectionManager = metrics.newConnectionManager(socketFactoryRegistry, builder.timeToLive);
+            } else {
+                connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry, null, null, null, builder.timeToLive, TimeUnit.MILLISECONDS);
+            }
+            connectionManager.setMaxTotal(builder.maxTotal);
+            connectionManager.setDefaultMaxPerRoute(builder.maxPerRoute);
+            for (Map.Entry<HttpHost, Integer> entry : builder.routeMaxPerRoute.entrySet()) {
+                // 注：路由需要与DefaultRoutePlanner生成的一致，https路由为安全路由
+                HttpHost target = entry.getKey();
+                connectionManager.setMaxPerRoute(new HttpRoute(target, null, Scheme.HTTPS.getName().equalsIgnoreCase(target.getSchemeName())), entry.getValue());
+            }
+            connectionManager.setValidateAfterInactivity(builder.validateAfterInactivity);
             // 设置可关闭的httpclient
-            httpClient = HttpClientBuilder.create().setConnectionManager(connectionManager).setDefaultRequestConfig(requestConfig).build();
+            HttpClientBuilder httpClientBuilder;
+            if (builder.cacheMaxEntries > 0) {
+                // [v3.5.0] 开启响应缓存：缓存仅供当前进程使用（非共享缓存），不对没有缓存头的响应做启发式缓存
+                cacheStorage = new LruHttpCacheStorage(builder.cacheMaxEntries, builder.cacheMaxBytes);
+                CacheConfig cacheConfig = CacheConfig.custom().setMaxCacheEntries(builder.cacheMaxEntries).setMaxObjectSize(builder.cacheMaxObjectSize).setSharedCache(false)
+                        .setHeuristicCachingEnabled(false).build();
+                httpClientBuilder = CachingHttpClientBuilder.create().setCacheConfig(cacheConfig).setHttpCacheStorage(cacheStorage);
+            } else {
+                httpClientBuilder = HttpClientBuilder.create();
+            }
+            httpClientBuilder.setConnectionManager(connectionManager).setDefaultRequestConfig(requestConfig).setKeepAliveStrategy(new KeepAliveStrategy(builder.keepAlive));
+            if (metrics != null) {
+                httpClientBuilder.setRequestExecutor(metrics.newRequestExecutor());
+            }
+            if (builder.maxIdleTime > 0) {
+                // 后台线程定时关闭过期连接以及空闲时间超过maxIdleTime的连接，httpClient关闭时一起停止
+                httpClientBuilder.evictExpiredConnections().evictIdleConnections(builder.maxIdleTime, TimeUnit.MILLISECONDS);
+            }
+            httpClient = httpClientBuilder.build();
+        }
+
+        /**
+         * 创建HttpClientSender构建器
+         *
+         * @return 构建器
+         * @since v3.5.0
+         */
+        public static Builder builder() {
+            return new Builder();
+        }
+
+        /**
+         * 获取连接池统计快照
+         *
+         * @return 连接池整体以及每个路由的使用中、空闲、等待中的连接数
+         * @since v3.5.0
+         */
+        public HttpPoolStats getPoolStats() {
+            Map<String, HttpPoolStats.RouteStats> routes = new LinkedHashMap<>();
+            for (HttpRoute route : connectionManager.getRoutes()) {
+                routes.put(route.getTargetHost().toURI(), toRouteStats(connectionManager.getStats(route)));
+            }
+            return new HttpPoolStats(toRouteStats(connectionManager.getTotalStats()), routes);
+        }
+
+        private static HttpPoolStats.RouteStats toRouteStats(PoolStats poolStats) {
+            return new HttpPoolStats.RouteStats(poolStats.getLeased(), poolStats.getAvailable(), poolStats.getPending(), poolStats.getMax());
+        }
+
+        /**
+         * 获取响应缓存统计快照
+         *
+         * <pre>
+         * 只统计通过HttpClientSender发送的请求，直接使用 {@link #getHttpClient()} 发送的请求不计入
+         * </pre>
+         *
+         * @return 命中、未命中、重新验证次数以及缓存条目数、字节数，未开启缓存时返回null
+         * @since v3.5.0
+         */
+        public HttpCacheStats getCacheStats() {
+            if (cacheStorage == null) {
+                return null;
+            }
+            return new HttpCacheStats(cacheHits.sum(), cacheMisses.sum(), cacheValidated.sum(), cacheStorage.size(), cacheStorage.bytes());
+        }
+
+        /**
+         * 获取请求指标快照
+         *
+         * <pre>
+         * 按host、请求方法统计：连接等待、建立连接、首字节、总耗时的分布（次数、平均值、p50、p90、p99、最大值），返回码、异常次数以及收发字节数。
+         * 只统计通过HttpClientSender发送的请求，直接使用 {@link #getHttpClient()} 发送的请求只统计连接等待、建立连接、首字节耗时
+         * </pre>
+         *
+         * @return 每个host、请求方法的指标，未开启指标采集时返回null
+         * @since v3.5.0
+         */
+        public List<HttpEndpointStats> getMetrics() {
+            return metrics == null ? null : metrics.snapshot();
+        }
+
+        /**
+         * 发送请求，开启缓存时记录缓存命中情况
+         */
+        private CloseableHttpResponse send(HttpRequestBase request) throws IOException {
+            if (metrics != null) {
+                metrics.start(request);
+            }
+            if (cacheStorage == null) {
+                return httpClient.execute(request);
+            }
+            HttpCacheContext context = HttpCacheContext.create();
+            CloseableHttpResponse httpResponse = httpClient.execute(request, context);
+            CacheResponseStatus cacheResponseStatus = context.getCacheResponseStatus();
+            if (cacheResponseStatus == CacheResponseStatus.VALIDATED) {
+                cacheValidated.increment();
+            } else if (cacheResponseStatus == CacheResponseStatus.CACHE_MISS) {
+                cacheMisses.increment();
+            } else if (cacheResponseStatus != null) {
+                // CACHE_HIT以及由缓存模块直接生成的响应（如only-if-cached时返回的504），都没有请求服务端
+                cacheHits.increment();
+            }
+            return httpResponse;
+        }
+
+        /**
+         * @return httpclient，用于发送需要自行处理响应的请求。注：不要关闭该httpclient
+         * @since v3.5.0
+         */
+        public CloseableHttpClient getHttpClient() {
+            return httpClient;
+        }
+
+        /**
+         * @return 默认请求配置
+         * @since v3.5.0
+         */
+        public RequestConfig getRequestConfig() {
+            return requestConfig;
+        }
+
+        /**
+         * 关闭httpclient、连接池以及后台清理线程
+         *
+         * @since v3.5.0
+         */
+        @Override
+        public void close() throws IOException {
+            httpClient.close();
+            if (metrics != null) {
+                metrics.close();
+            }
+        }
+
+        /**
+         * 处理用户请求，将响应内容流交给handler处理，不将响应内容读取为字符串
+         *
+         * <pre>
+         * 1. 响应为gzip、deflate压缩时，handler读取到的是解压后的内容（由HttpClient在读取时解压，不会整体解压到内存中）
+         * 2. handler返回后关闭响应流，连接归还连接池；handler抛出异常时中断请求，连接不再复用
+         * </pre>
+         *
+         * @param request http请求
+         * @param handler 响应流处理
+         * @return handler的处理结果
+         * @throws IOException 请求失败或handler处理失败
+         * @since v3.5.0
+         */
+        public <T> T execute(HttpRequestBase request, ResponseStreamHandler<T> handler) throws IOException {
+            Assert.notNull(handler, "handler must not be null");
+            return execute(request, (statusCode, httpEntity) -> {
+                if (httpEntity == null) {
+                    return handler.handle(statusCode, InputStream.nullInputStream(), 0);
+                }
+                try (InputStream inputStream = httpEntity.getContent()) {
+                    return handler.handle(statusCode, inputStream, httpEntity.getContentLength());
+                }
+            });
+        }
+
+        /**
+         * 下载文件：响应内容边读取边写入文件，内存占用只有一个缓冲区
+         *
+         * <pre>
+         * 先写入目标文件所在目录下的临时文件，下载完成后再替换目标文件，下载失败时不会留下不完整的文件
+         * </pre>
+         *
+         * @param request http请求
+         * @param target  目标文件，已存在时覆盖
+         * @return 写入的字节数
+         * @throws HttpResponseException 返回码不是2xx
+         * @throws IOException           请求失败或写入文件失败
+         * @since v3.5.0
+         */
+        public long download(HttpRequestBase request, Path target) throws IOException {
+            Assert.notNull(target, "target must not be null");
+            return execute(request, (statusCode, inputStream, contentLength) -> {
+                if (statusCode < HttpStatus.SC_OK || statusCode >= HttpStatus.SC_MULTIPLE_CHOICES) {
+                    throw new HttpResponseException(statusCode, "url=" + request.getURI() + " 下载失败");
+                }
+                Path directory = target.toAbsolutePath().getParent();
+                Files.createDirectories(directory);
+                Path tempFile = Files.createTempFile(directory, target.getFileName().toString(), ".download");
+                try {
+                    long bytes = 0;
+                    byte[] buffer = new byte[getBufferSize(contentLength)];
+                    ByteBuffer byteBuffer = ByteBuffer.wrap(buffer);
+                    try (FileChannel fileChannel = FileChannel.open(tempFile, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                        int n;
+                        while ((n = inputStream.read(buffer)) != -1) {
+                            byteBuffer.clear().limit(n);
+                            while (byteBuffer.hasRemaining()) {
+                                fileChannel.write(byteBuffer);
+                            }
+                            bytes += n;
+                        }
+                    }
+                    try {
+                        Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                    } catch (AtomicMoveNotSupportedException e) {
+                        Files.move(tempFile, target, StandardCopyOption.REPLACE_EXISTING);
+                    }
+                    return bytes;
+                } finally {
+                    Files.deleteIfExists(tempFile);
+                }
+            });
+        }
+
+        /**
+         * 处理用户请求，从响应流中直接解析json，不需要先将整个响应读取为字符串
+         *
+         * @param request http请求
+         * @param type    需要转换的数据类型
+         * @return 转换成功的对象
+         * @throws HttpResponseException 返回码不是2xx
+         * @throws IOException           请求失败
+         * @since v3.5.0
+         */
+        public <T> T doRequestJson(HttpRequestBase request, Type type) throws IOException {
+            Assert.notNull(type, "type must not be null");
+            return execute(request, (statusCode, httpEntity) -> {
+                if (statusCode < HttpStatus.SC_OK || statusCode >= HttpStatus.SC_MULTIPLE_CHOICES) {
+                    throw new HttpResponseException(statusCode, "url=" + request.getURI() + " 请求失败");
+                }
+                if (httpEntity == null) {
+                    return null;
+                }
+                ContentType contentType = ContentType.get(httpEntity);
+                Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : Consts.UTF_8;
+                try (Reader reader = new InputStreamReader(httpEntity.getContent(), charset)) {
+                    return GsonUtil.parse(reader, type);
+                }
+            });
+        }
+
+        private <T> T execute(HttpRequestBase request, EntityHandler<T> handler) throws IOException {
+            if (null == request) {
+                throw new IllegalArgumentException("HttpUriRequest must not be null");
+            }
+            if (null == request.getURI()) {
+                throw new IllegalArgumentException("HttpUriRequest URI must not be null");
+            }
+
+            request.setConfig(requestConfig);
+            boolean completed = false;
+            int statusCode = 0;
+            Throwable error = null;
+            try (CloseableHttpResponse httpResponse = send(request)) {
+                statusCode = httpResponse.getStatusLine().getStatusCode();
+                T result = handler.handle(statusCode, httpResponse.getEntity());
+                completed = true;
+                return result;
+            } catch (IOException | RuntimeException e) {
+                error = e;
+                logger.error("url={}, method={} 请求失败：", request.getURI(), request.getMethod(), e);
+                throw e;
+            } finally {
+                if (!completed) {
+                    // 响应内容未读取完时直接中断，避免关闭时读取剩余的内容
+                    request.abort();
+                }
+                request.releaseConnection();
+                if (metrics != null) {
+                    metrics.finish(statusCode, error);
+                }
+            }
+        }
+
+        /**
+         * 根据响应内容长度确定缓冲区大小：8KB ~ 1MB，长度未知时为64KB
+         */
+        private static int getBufferSize(long contentLength) {
+            if (contentLength < 0) {
+                return 64 * 1024;
+            }
+            return (int) Math.max(8 * 1024, Math.min(contentLength, 1024 * 1024));
+        }
+
+        @FunctionalInterface
+        private interface EntityHandler<T> {
+            T handle(int statusCode, HttpEntity httpEntity) throws IOException;
         }
 
         /**
@@ -894,6 +1224,18 @@ public class HttpClientUtils {
          * @return
          */
         public ResponseMessage doRequest(HttpRequestBase request) {
+            return doRequest(request, Consts.UTF_8);
+        }
+
+        /**
+         * 处理用户请求
+         *
+         * @param request http请求
+         * @param charset 响应内容未指定字符集时使用的字符集
+         * @return
+         * @since v3.5.0
+         */
+        public ResponseMessage doRequest(HttpRequestBase request, Charset charset) {
             if (null == request) {
                 throw new IllegalArgumentException("HttpUriRequest must not be null");
             }
@@ -903,27 +1245,33 @@ public class HttpClientUtils {
 
             CloseableHttpResponse httpResponse = null;
             HttpEntity httpEntity = null;
+            int statusCode = 0;
+            Throwable error = null;
             ResponseMessage responseMessage = null;
             try {
                 request.setConfig(requestConfig);
 
                 // 发起用户请求
-                httpResponse = httpClient.execute(request);
+                httpResponse = send(request);
                 // 处理结果返回码
-                int statusCode = httpResponse.getStatusLine().getStatusCode();
+                statusCode = httpResponse.getStatusLine().getStatusCode();
                 // 返回结果
                 httpEntity = httpResponse.getEntity();
-                responseMessage = new ResponseMessage(statusCode, EntityUtils.toString(httpEntity, Charset.forName("UTF-8")));
+                responseMessage = new ResponseMessage(statusCode, EntityUtils.toString(httpEntity, charset));
             } catch (ClientProtocolException e) {
+                error = e;
                 logger.error("url={}, method={} 请求失败：", request.getURI(), request.getMethod(), e);
                 responseMessage = new ResponseMessage(HttpStatus.SC_INTERNAL_SERVER_ERROR, ExceptionUtils.getStackTrace(e));
             } catch (IOException e) {
+                error = e;
                 logger.error("url={}, method={} 请求失败：", request.getURI(), request.getMethod(), e);
                 responseMessage = new ResponseMessage(HttpStatus.SC_INTERNAL_SERVER_ERROR, ExceptionUtils.getStackTrace(e));
             } catch (Exception e) {
+                error = e;
                 logger.error("url={}, method={} 请求失败：", request.getURI(), request.getMethod(), e);
                 responseMessage = new ResponseMessage(HttpStatus.SC_INTERNAL_SERVER_ERROR, ExceptionUtils.getStackTrace(e));
             } catch (Throwable e) {
+                error = e;
                 logger.error("url={}, method={} 请求失败：", request.getURI(), request.getMethod(), e);
                 responseMessage = new ResponseMessage(HttpStatus.SC_INTERNAL_SERVER_ERROR, ExceptionUtils.getStackTrace(e));
             } finally {
@@ -944,6 +1292,9 @@ public class HttpClientUtils {
                     }
                 }
                 request.releaseConnection();
+                if (metrics != null) {
+                    metrics.finish(statusCode, error);
+                }
             }
             return responseMessage;
         }
@@ -964,13 +1315,15 @@ public class HttpClientUtils {
 
             CloseableHttpResponse httpResponse = null;
             HttpEntity httpEntity = null;
+            int statusCode = 0;
+            Throwable error = null;
             try {
                 request.setConfig(requestConfig);
 
                 // 发起用户请求
-                httpResponse = httpClient.execute(request);
+                httpResponse = send(request);
                 // 处理结果返回码
-                int statusCode = httpResponse.getStatusLine().getStatusCode();
+                statusCode = httpResponse.getStatusLine().getStatusCode();
                 // 返回结果
                 httpEntity = httpResponse.getEntity();
 
@@ -980,21 +1333,25 @@ public class HttpClientUtils {
                     callBack.response(statusCode, EntityUtils.toString(httpResponse.getEntity(), Charset.forName("UTF-8")));
                 }
             } catch (ClientProtocolException e) {
+                error = e;
                 logger.error("url={}, method={} 请求失败：", request.getURI(), request.getMethod(), e);
                 if (null != callBack) {
                     callBack.response(HttpStatus.SC_INTERNAL_SERVER_ERROR, ExceptionUtils.getStackTrace(e));
                 }
             } catch (IOException e) {
+                error = e;
                 logger.error("url={}, method={} 请求失败：", request.getURI(), request.getMethod(), e);
                 if (null != callBack) {
                     callBack.response(HttpStatus.SC_INTERNAL_SERVER_ERROR, ExceptionUtils.getStackTrace(e));
                 }
             } catch (Exception e) {
+                error = e;
                 logger.error("url={}, method={} 请求失败：", request.getURI(), request.getMethod(), e);
                 if (null != callBack) {
                     callBack.response(HttpStatus.SC_INTERNAL_SERVER_ERROR, ExceptionUtils.getStackTrace(e));
                 }
             } catch (Throwable e) {
+                error = e;
                 logger.error("url={}, method={} 请求失败：", request.getURI(), request.getMethod(), e);
                 if (null != callBack) {
                     callBack.response(HttpStatus.SC_INTERNAL_SERVER_ERROR, ExceptionUtils.getStackTrace(e));
@@ -1017,6 +1374,197 @@ public class HttpClientUtils {
                     }
                 }
                 request.releaseConnection();
+                if (metrics != null) {
+                    metrics.finish(statusCode, error);
+                }
+            }
+        }
+
+        /**
+         * 长连接保持策略：服务端返回Keep-Alive时使用服务端的值（不超过keepAlive），否则使用keepAlive
+         *
+         * @since v3.5.0
+         */
+        private static class KeepAliveStrategy implements ConnectionKeepAliveStrategy {
+            private final long keepAlive;
+
+            KeepAliveStrategy(long keepAlive) {
+                this.keepAlive = keepAlive;
+            }
+
+            @Override
+            public long getKeepAliveDuration(HttpResponse response, HttpContext context) {
+                long duration = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+                if (keepAlive <= 0) {
+                    return duration;
+                }
+                return duration > 0 ? Math.min(duration, keepAlive) : keepAlive;
+            }
+        }
+
+        /**
+         * 类Builder的实现描述：HttpClientSender构建器
+         *
+         * @since v3.5.0
+         */
+        public static class Builder {
+            private int maxTotal = 200;
+            private int maxPerRoute = 50;
+            private final Map<HttpHost, Integer> routeMaxPerRoute = new LinkedHashMap<>();
+            private int connectTimeout = 30 * 1000;
+            private int socketTimeout = 30 * 1000;
+            private int connectionRequestTimeout = 10 * 1000;
+            private long keepAlive = 30 * 1000L;
+            private long timeToLive = -1L;
+            private long maxIdleTime = 60 * 1000L;
+            private int validateAfterInactivity = 2 * 1000;
+            private int cacheMaxEntries = 0;
+            private long cacheMaxBytes = 64 * 1024 * 1024L;
+            private long cacheMaxObjectSize = 1024 * 1024L;
+            private boolean metricsEnabled = false;
+            private long metricsLogInterval = 0;
+
+            private Builder() {
+            }
+
+            /**
+             * @param maxTotal 连接池最大连接数，默认200
+             */
+            public Builder setMaxTotal(int maxTotal) {
+                Assert.isTrue(maxTotal > 0, "maxTotal must be greater than 0");
+                this.maxTotal = maxTotal;
+                return this;
+            }
+
+            /**
+             * @param maxPerRoute 每个路由（协议 + 主机 + 端口）的最大连接数，默认50
+             */
+            public Builder setMaxPerRoute(int maxPerRoute) {
+                Assert.isTrue(maxPerRoute > 0, "maxPerRoute must be greater than 0");
+                this.maxPerRoute = maxPerRoute;
+                return this;
+            }
+
+            /**
+             * 单独设置指定地址的最大连接数
+             *
+             * @param uri         目标地址，如 https://oapi.dingtalk.com
+             * @param maxPerRoute 最大连接数
+             */
+            public Builder setMaxPerRoute(String uri, int maxPerRoute) {
+                Assert.hasText(uri, "uri must not be empty");
+                Assert.isTrue(maxPerRoute > 0, "maxPerRoute must be greater than 0");
+                URI target = URI.create(uri);
+                String scheme = target.getScheme() == null ? Scheme.HTTP.getName() : target.getScheme();
+                int port = target.getPort() > 0 ? target.getPort() : (Scheme.HTTPS.getName().equalsIgnoreCase(scheme) ? 443 : 80);
+                // 注：HttpRoute中的目标地址总是带端口
+                routeMaxPerRoute.put(new HttpHost(target.getHost(), port, scheme), maxPerRoute);
+                return this;
+            }
+
+            /**
+             * @param connectTimeout 连接超时，单位为毫秒，默认30秒
+             */
+            public Builder setConnectTimeout(int connectTimeout) {
+                this.connectTimeout = connectTimeout;
+                return this;
+            }
+
+            /**
+             * @param socketTimeout 读取超时，单位为毫秒，默认30秒
+             */
+            public Builder setSocketTimeout(int socketTimeout) {
+                this.socketTimeout = socketTimeout;
+                return this;
+            }
+
+            /**
+             * @param connectionRequestTimeout 从连接池中获取连接的超时，单位为毫秒，默认10秒
+             */
+            public Builder setConnectionRequestTimeout(int connectionRequestTimeout) {
+                this.connectionRequestTimeout = connectionRequestTimeout;
+                return this;
+            }
+
+            /**
+             * @param keepAlive 长连接最大保持时间，单位为毫秒，默认30秒。小于等于0时只使用服务端返回的Keep-Alive，服务端未返回时一直保持
+             */
+            public Builder setKeepAlive(long keepAlive) {
+                this.keepAlive = keepAlive;
+                return this;
+            }
+
+            /**
+             * @param timeToLive 连接最大存活时间，单位为毫秒，超过后不再复用。默认-1，不限制
+             */
+            public Builder setTimeToLive(long timeToLive) {
+                this.timeToLive = timeToLive;
+                return this;
+            }
+
+            /**
+             * @param maxIdleTime 连接最大空闲时间，单位为毫秒，后台线程会定时关闭空闲超时以及过期的连接。默认60秒，小于等于0时不启动后台线程
+             */
+            public Builder setMaxIdleTime(long maxIdleTime) {
+                this.maxIdleTime = maxIdleTime;
+                return this;
+            }
+
+            /**
+             * @param validateAfterInactivity 连接空闲超过该时间后，复用前先检查连接是否可用，单位为毫秒，默认2秒。小于等于0时不检查
+             */
+            public Builder setValidateAfterInactivity(int validateAfterInactivity) {
+                this.validateAfterInactivity = validateAfterInactivity;
+                return this;
+            }
+
+            /**
+             * @param cacheMaxEntries 响应缓存最大条目数，默认0，即不开启缓存。大于0时缓存GET请求的响应
+             */
+            public Builder setCacheMaxEntries(int cacheMaxEntries) {
+                this.cacheMaxEntries = cacheMaxEntries;
+                return this;
+            }
+
+            /**
+             * @param cacheMaxBytes 响应缓存最大总字节数，默认64M，超出时淘汰最久未使用的响应
+             */
+            public Builder setCacheMaxBytes(long cacheMaxBytes) {
+                this.cacheMaxBytes = cacheMaxBytes;
+                return this;
+            }
+
+            /**
+             * @param cacheMaxObjectSize 单个响应内容超过该字节数时不缓存，默认1M
+             */
+            public Builder setCacheMaxObjectSize(long cacheMaxObjectSize) {
+                this.cacheMaxObjectSize = cacheMaxObjectSize;
+                return this;
+            }
+
+            /**
+             * @param metricsEnabled 是否采集请求指标（各阶段耗时、返回码、异常、收发字节数），默认false。通过 {@link HttpClientSender#getMetrics()} 获取
+             */
+            public Builder setMetricsEnabled(boolean metricsEnabled) {
+                this.metricsEnabled = metricsEnabled;
+                return this;
+            }
+
+            /**
+             * @param metricsLogInterval 定时输出请求指标日志的间隔，单位为毫秒，默认0，即不输出。大于0时同时开启指标采集
+             */
+            public Builder setMetricsLogInterval(long metricsLogInterval) {
+                this.metricsLogInterval = metricsLogInterval;
+                if (metricsLogInterval > 0) {
+                    this.metricsEnabled = true;
+                }
+                return this;
+            }
+
+            public HttpClientSender build() {
+                Assert.isTrue(maxPerRoute <= maxTotal, "maxPerRoute must not be greater than maxTotal");
+                Assert.isTrue(cacheMaxEntries <= 0 || cacheMaxObjectSize <= cacheMaxBytes, "cacheMaxObjectSize must not be greater than cacheMaxBytes");
+                return new HttpClientSender(this);
             }
         }
 
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.util.Map;
+
+/**
+ * 类HttpEndpointStats的实现描述：按host、请求方法统计的请求指标快照
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-19 01:12:50
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class HttpEndpointStats extends HttpBasic {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 请求方法
+     */
+    private final String method;
+    /**
+     * 目标host，如：http://127.0.0.1:8080
+     */
+    private final String host;
+    /**
+     * 从连接池获取连接的等待时间
+     */
+    private final Latency leaseWait;
+    /**
+     * 建立连接的耗时（包括TLS握手），只统计新建的连接
+     */
+    private final Latency connect;
+    /**
+     * 从开始发送请求到收到响应头的耗时
+     */
+    private final Latency timeToFirstByte;
+    /**
+     * 请求总耗时：从发起请求到响应内容读取完毕
+     */
+    private final Latency total;
+    /**
+     * 每个返回码的次数
+     */
+    private final Map<Integer, Long> statusCodes;
+    /**
+     * 每种异常（类名）的次数
+     */
+    private final Map<String, Long> errors;
+    /**
+     * 接收的字节数（响应行、响应头、压缩前的响应内容）
+     */
+    private final long bytesIn;
+    /**
+     * 发送的字节数（请求行、请求头、请求内容）
+     */
+    private final long bytesOut;
+
+    public HttpEndpointStats(String method, String host, Latency leaseWait, Latency connect, Latency timeToFirstByte, Latency total, Map<Integer, Long> statusCodes,
+            Map<String, Long> errors, long bytesIn, long bytesOut) {
+        this.method = method;
+        this.host = host;
+        this.leaseWait = leaseWait;
+        this.connect = connect;
+        this.timeToFirstByte = timeToFirstByte;
+        this.total = total;
+        this.statusCodes = statusCodes;
+        this.errors = errors;
+        this.bytesIn = bytesIn;
+        this.bytesOut = bytesOut;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getHost() {
+        return host;
+    }
+
+    public Latency getLeaseWait() {
+        return leaseWait;
+    }
+
+    public Latency getConnect() {
+        return connect;
+    }
+
+    public Latency getTimeToFirstByte() {
+        return timeToFirstByte;
+    }
+
+    public Latency getTotal() {
+        return total;
+    }
+
+    public Map<Integer, Long> getStatusCodes() {
+        return statusCodes;
+    }
+
+    public Map<String, Long> getErrors() {
+        return errors;
+    }
+
+    public long getBytesIn() {
+        return bytesIn;
+    }
+
+    public long getBytesOut() {
+        return bytesOut;
+    }
+
+    @Override
+    public String toString() {
+        return method + " " + host + " total=" + total + ", leaseWait=" + leaseWait + ", connect=" + connect + ", ttfb=" + timeToFirstByte + ", status=" + statusCodes
+                + ", errors=" + errors + ", bytesIn=" + bytesIn + ", bytesOut=" + bytesOut;
+    }
+
+    /**
+     * 耗时统计，单位为毫秒
+     */
+    public static class Latency extends HttpBasic {
+        private static final long serialVersionUID = 1L;
+
+        private final long count;
+        private final double mean;
+        private final double p50;
+        private final double p90;
+        private final double p99;
+        private final double max;
+
+        public Latency(long count, double mean, double p50, double p90, double p99, double max) {
+            this.count = count;
+            this.mean = mean;
+            this.p50 = p50;
+            this.p90 = p90;
+            this.p99 = p99;
+            this.max = max;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMean() {
+            return mean;
+        }
+
+        public double getP50() {
+            return p50;
+        }
+
+        public double getP90() {
+            return p90;
+        }
+
+        public double getP99() {
+            return p99;
+        }
+
+        public double getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[count=%d, mean=%.2f, p50=%.2f, p90=%.2f, p99=%.2f, max=%.2f]", count, mean, p50, p90, p99, max);
+        }
+    }
+
+}
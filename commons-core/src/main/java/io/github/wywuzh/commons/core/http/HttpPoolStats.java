@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.util.Map;
+
+import org.apache.commons.lang3.builder.ToStringBuilder;
+
+/**
+ * 类HttpPoolStats的实现描述：连接池统计快照
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 21:26:40
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class HttpPoolStats extends HttpBasic {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 连接池整体统计
+     */
+    private final RouteStats total;
+    /**
+     * 按路由统计，key=目标地址（如 https://oapi.dingtalk.com:443）
+     */
+    private final Map<String, RouteStats> routes;
+
+    public HttpPoolStats(RouteStats total, Map<String, RouteStats> routes) {
+        this.total = total;
+        this.routes = routes;
+    }
+
+    public RouteStats getTotal() {
+        return total;
+    }
+
+    public Map<String, RouteStats> getRoutes() {
+        return routes;
+    }
+
+    @Override
+    public String toString() {
+        return ToStringBuilder.reflectionToString(this);
+    }
+
+    /**
+     * 类RouteStats的实现描述：单个路由（或整个连接池）的连接统计
+     */
+    public static class RouteStats extends HttpBasic {
+        private static final long serialVersionUID = 1L;
+
+        /**
+         * 使用中的连接数
+         */
+        private final int leased;
+        /**
+         * 空闲的连接数
+         */
+        private final int available;
+        /**
+         * 等待获取连接的请求数
+         */
+        private final int pending;
+        /**
+         * 最大连接数
+         */
+        private final int max;
+
+        public RouteStats(int leased, int available, int pending, int max) {
+            this.leased = leased;
+            this.available = available;
+            this.pending = pending;
+            this.max = max;
+        }
+
+        public int getLeased() {
+            return leased;
+        }
+
+        public int getAvailable() {
+            return available;
+        }
+
+        public int getPending() {
+            return pending;
+        }
+
+        public int getMax() {
+            return max;
+        }
+
+        @Override
+        public String toString() {
+            return ToStringBuilder.reflectionToString(this);
+        }
+    }
+
+}
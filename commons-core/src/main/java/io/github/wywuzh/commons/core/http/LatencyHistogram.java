@@ -0,0 +1,125 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 类LatencyHistogram的实现描述：耗时直方图
+ *
+ * <pre>
+ * 参考HdrHistogram的对数-线性分桶：每个2的幂区间再等分为16个桶，相对误差不超过1/16，
+ * 记录一次只需要计算桶下标并做一次原子自增，不保存原始样本，内存占用固定（608个桶）。
+ * 单位为微秒，超过2^41微秒（约25天）的值记入最后一个桶
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-19 01:05:37
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class LatencyHistogram {
+
+    /**
+     * 每个2的幂区间的桶数：2^SUB_BUCKET_BITS
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 40;
+    private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * 记录一次耗时
+     *
+     * @param micros 耗时，单位为微秒，小于0时按0记录
+     */
+    public void record(long micros) {
+        long value = Math.max(micros, 0);
+        buckets.incrementAndGet(index(value));
+        sum.add(value);
+        long current = max.get();
+        while (value > current && !max.compareAndSet(current, value)) {
+            current = max.get();
+        }
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKETS - 1;
+        }
+        int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) + subBucket;
+    }
+
+    /**
+     * @return 下标为index的桶的中间值
+     */
+    static long value(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int exponent = (index >> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        long lowerBound = (long) (SUB_BUCKETS + (index & (SUB_BUCKETS - 1))) << (exponent - SUB_BUCKET_BITS);
+        return lowerBound + (1L << (exponent - SUB_BUCKET_BITS)) / 2;
+    }
+
+    /**
+     * 获取统计快照。注：与record并发执行时，各项统计之间可能相差正在记录的几个样本
+     *
+     * @return 次数、平均值、p50、p90、p99、最大值，单位为毫秒
+     */
+    public HttpEndpointStats.Latency snapshot() {
+        long[] counts = new long[BUCKETS];
+        long count = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+            count += counts[i];
+        }
+        if (count == 0) {
+            return new HttpEndpointStats.Latency(0, 0, 0, 0, 0, 0);
+        }
+        long maxValue = max.get();
+        return new HttpEndpointStats.Latency(count, toMillis(sum.sum()) / count, toMillis(percentile(counts, count, 0.5, maxValue)),
+                toMillis(percentile(counts, count, 0.9, maxValue)), toMillis(percentile(counts, count, 0.99, maxValue)), toMillis(maxValue));
+    }
+
+    private static long percentile(long[] counts, long count, double percentile, long maxValue) {
+        long rank = (long) Math.ceil(count * percentile);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                // 桶的中间值可能大于实际的最大值
+                return Math.min(value(i), maxValue);
+            }
+        }
+        return maxValue;
+    }
+
+    private static double toMillis(double micros) {
+        return micros / 1000;
+    }
+
+}
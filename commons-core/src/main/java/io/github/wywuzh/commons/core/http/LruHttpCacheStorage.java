@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.apache.http.client.cache.HttpCacheEntry;
+import org.apache.http.client.cache.HttpCacheStorage;
+import org.apache.http.client.cache.HttpCacheUpdateCallback;
+import org.apache.http.client.cache.Resource;
+import org.springframework.util.Assert;
+
+/**
+ * 类LruHttpCacheStorage的实现描述：按条目数、字节数限制的LRU响应缓存
+ *
+ * <pre>
+ * httpclient-cache自带的BasicHttpCacheStorage只限制条目数，这里同时限制缓存的响应内容总字节数，
+ * 任一限制超出时淘汰最久未使用的条目
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 23:02:18
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class LruHttpCacheStorage implements HttpCacheStorage {
+
+    private final int maxEntries;
+    private final long maxBytes;
+    /**
+     * accessOrder=true：按访问顺序排列，第一个为最久未使用的条目
+     */
+    private final LinkedHashMap<String, HttpCacheEntry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    /**
+     * @param maxEntries 最大条目数
+     * @param maxBytes   响应内容最大总字节数
+     */
+    public LruHttpCacheStorage(int maxEntries, long maxBytes) {
+        Assert.isTrue(maxEntries > 0, "maxEntries must be greater than 0");
+        Assert.isTrue(maxBytes > 0, "maxBytes must be greater than 0");
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public synchronized void putEntry(String key, HttpCacheEntry entry) throws IOException {
+        HttpCacheEntry previous = entries.put(key, entry);
+        if (previous != null) {
+            bytes -= length(previous);
+        }
+        bytes += length(entry);
+        evict();
+    }
+
+    @Override
+    public synchronized HttpCacheEntry getEntry(String key) throws IOException {
+        return entries.get(key);
+    }
+
+    @Override
+    public synchronized void removeEntry(String key) throws IOException {
+        HttpCacheEntry previous = entries.remove(key);
+        if (previous != null) {
+            bytes -= length(previous);
+        }
+    }
+
+    @Override
+    public synchronized void updateEntry(String key, HttpCacheUpdateCallback callback) throws IOException {
+        HttpCacheEntry updated = callback.update(entries.get(key));
+        if (updated == null) {
+            removeEntry(key);
+        } else {
+            putEntry(key, updated);
+        }
+    }
+
+    /**
+     * 淘汰最久未使用的条目，直到条目数、字节数都不超过限制
+     */
+    private void evict() {
+        Iterator<Map.Entry<String, HttpCacheEntry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || bytes > maxBytes) && iterator.hasNext()) {
+            bytes -= length(iterator.next().getValue());
+            iterator.remove();
+        }
+    }
+
+    private static long length(HttpCacheEntry entry) {
+        Resource resource = entry.getResource();
+        return resource == null ? 0 : resource.length();
+    }
+
+    /**
+     * @return 缓存条目数
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return 缓存的响应内容总字节数
+     */
+    public synchronized long bytes() {
+        return bytes;
+    }
+
+    /**
+     * 清空缓存
+     */
+    public synchronized void clear() {
+        entries.clear();
+        bytes = 0;
+    }
+
+}
@@ -0,0 +1,594 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.commons.lang3.exception.ExceptionUtils;
+import org.apache.http.HttpEntity;
+import org.apache.http.HttpEntityEnclosingRequest;
+import org.apache.http.HttpStatus;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpRequestBase;
+import org.apache.http.client.utils.URIUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import io.github.wywuzh.commons.core.http.HttpClientUtils.HttpClientSender;
+
+/**
+ * 类ResilientHttpClientSender的实现描述：带重试、熔断、对冲请求的HTTP请求发送器
+ *
+ * <pre>
+ * 在 {@link HttpClientSender} 外层增加容错处理：
+ * 1. 重试：只重试幂等请求（GET、HEAD、OPTIONS、PUT、DELETE、TRACE，且请求体可重复读取），连接失败、超时以及返回502、503、504时重试，
+ *    重试间隔按指数退避并加入随机抖动，避免大量请求同时重试
+ * 2. 熔断：按host统计，连续失败（连接失败、超时或返回5xx）达到阈值后熔断，熔断期间直接返回503，不再请求该host；
+ *    熔断时间结束后放行一个探测请求，成功则恢复，失败则继续熔断
+ * 3. 对冲请求（可选）：GET请求超过该host最近请求耗时的p95仍未返回时，再发送一个相同的请求，使用先返回的响应，中断另一个请求
+ *
+ * 每个host的熔断状态、耗时统计都通过CAS更新，不加锁。
+ * 注：应作为单例长期复用，不再使用时调用 {@link #close()} 关闭内部创建的HttpClientSender、线程池（外部传入的不会关闭）
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 23:36:52
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class ResilientHttpClientSender implements Closeable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ResilientHttpClientSender.class);
+
+    private static final Set<String> IDEMPOTENT_METHODS = Set.of("GET", "HEAD", "OPTIONS", "PUT", "DELETE", "TRACE");
+    private static final AtomicInteger THREAD_NUMBER = new AtomicInteger();
+    /**
+     * 内部线程池的最大线程数：每个对冲中的请求占用2个线程，超过时不再发送对冲请求
+     */
+    private static final int DEFAULT_MAX_THREADS = 64;
+
+    private final HttpClientSender sender;
+    private final Charset charset;
+    private final int maxRetries;
+    private final long backoff;
+    private final long maxBackoff;
+    private final int failureThreshold;
+    private final long openTime;
+    private final boolean hedgeEnabled;
+    private final long minHedgeDelay;
+    private final Executor executor;
+    /**
+     * 内部创建、需要在close时关闭的资源，外部传入时为null
+     */
+    private final HttpClientSender ownedSender;
+    private final ExecutorService ownedExecutor;
+
+    private final ConcurrentMap<String, HostState> hosts = new ConcurrentHashMap<>();
+    private final LongAdder retries = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+
+    private ResilientHttpClientSender(Builder builder) {
+        this.ownedSender = builder.sender != null ? null : HttpClientSender.builder().build();
+        this.sender = builder.sender != null ? builder.sender : ownedSender;
+        this.charset = builder.charset;
+        this.maxRetries = builder.maxRetries;
+        this.backoff = builder.backoff;
+        this.maxBackoff = builder.maxBackoff;
+        this.failureThreshold = builder.failureThreshold;
+        this.openTime = builder.openTime;
+        this.hedgeEnabled = builder.hedgeEnabled;
+        this.minHedgeDelay = builder.minHedgeDelay;
+        this.ownedExecutor = builder.executor == null && builder.hedgeEnabled ? newDefaultExecutor() : null;
+        this.executor = builder.executor != null ? builder.executor : ownedExecutor;
+    }
+
+    /**
+     * 有界线程池：不排队，线程数达到上限时拒绝，由调用方改为不发送对冲请求
+     */
+    private static ExecutorService newDefaultExecutor() {
+        return new ThreadPoolExecutor(0, DEFAULT_MAX_THREADS, 60L, TimeUnit.SECONDS, new SynchronousQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "resilient-http-" + THREAD_NUMBER.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 创建ResilientHttpClientSender构建器
+     *
+     * @return 构建器
+     */
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 处理用户请求
+     *
+     * @param request http请求
+     * @return 响应结果：熔断期间返回状态码为503的 {@link ResponseMessage}；重试后仍然请求失败时返回状态码为500的 {@link ResponseMessage}，result为异常堆栈
+     */
+    public ResponseMessage doRequest(HttpRequestBase request) {
+        if (null == request) {
+            throw new IllegalArgumentException("HttpUriRequest must not be null");
+        }
+        if (null == request.getURI()) {
+            throw new IllegalArgumentException("HttpUriRequest URI must not be null");
+        }
+
+        String host = URIUtils.extractHost(request.getURI()).toURI();
+        HostState hostState = hosts.computeIfAbsent(host, key -> new HostState());
+        boolean retryable = isRetryable(request);
+        boolean hedgeable = hedgeEnabled && "GET".equals(request.getMethod());
+        for (int attempt = 0;; attempt++) {
+            if (!hostState.tryAcquire(System.currentTimeMillis())) {
+                rejected.increment();
+                return new ResponseMessage(HttpStatus.SC_SERVICE_UNAVAILABLE, "Circuit breaker is open: " + host);
+            }
+
+            ResponseMessage responseMessage;
+            boolean failed;
+            try {
+                responseMessage = hedgeable ? executeHedged(request, hostState) : execute(request, hostState);
+                failed = responseMessage.getStatusCode() >= HttpStatus.SC_INTERNAL_SERVER_ERROR;
+            } catch (IOException | RuntimeException e) {
+                responseMessage = new ResponseMessage(HttpStatus.SC_INTERNAL_SERVER_ERROR, ExceptionUtils.getStackTrace(e));
+                failed = true;
+            }
+            if (failed) {
+                hostState.onFailure(System.currentTimeMillis());
+            } else {
+                hostState.onSuccess();
+            }
+
+            if (!retryable || attempt >= maxRetries || !shouldRetry(responseMessage.getStatusCode())) {
+                return responseMessage;
+            }
+            try {
+                Thread.sleep(backoff(attempt));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return responseMessage;
+            }
+            LOGGER.warn("url={}, method={} 第{}次重试，上次返回码={}", request.getURI(), request.getMethod(), attempt + 1, responseMessage.getStatusCode());
+            retries.increment();
+            // 请求失败时已被中断（abort），重置后才能再次执行
+            request.reset();
+        }
+    }
+
+    private static boolean isRetryable(HttpRequestBase request) {
+        if (!IDEMPOTENT_METHODS.contains(request.getMethod())) {
+            return false;
+        }
+        if (request instanceof HttpEntityEnclosingRequest) {
+            HttpEntity entity = ((HttpEntityEnclosingRequest) request).getEntity();
+            return entity == null || entity.isRepeatable();
+        }
+        return true;
+    }
+
+    private static boolean shouldRetry(int statusCode) {
+        // 500为请求失败（连接失败、超时等）或服务端内部错误，502、503、504一般为服务端暂时不可用
+        return statusCode == HttpStatus.SC_INTERNAL_SERVER_ERROR || statusCode == HttpStatus.SC_BAD_GATEWAY || statusCode == HttpStatus.SC_SERVICE_UNAVAILABLE
+                || statusCode == HttpStatus.SC_GATEWAY_TIMEOUT;
+    }
+
+    /**
+     * 退避时间：backoff * 2^attempt（不超过maxBackoff），取其中一半加上另一半以内的随机值
+     */
+    private long backoff(int attempt) {
+        long delay = Math.min(maxBackoff, backoff << Math.min(attempt, 30));
+        long half = delay / 2;
+        return half + ThreadLocalRandom.current().nextLong(delay - half + 1);
+    }
+
+    private ResponseMessage execute(HttpRequestBase request, HostState hostState) throws IOException {
+        long startTime = System.nanoTime();
+        ResponseMessage responseMessage = sender.execute(request,
+                (statusCode, inputStream, contentLength) -> new ResponseMessage(statusCode, new String(inputStream.readAllBytes(), charset)));
+        hostState.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        return responseMessage;
+    }
+
+    /**
+     * 对冲请求：超过p95耗时仍未返回时再发送一个相同的请求，使用先成功返回的响应
+     */
+    private ResponseMessage executeHedged(HttpRequestBase request, HostState hostState) throws IOException {
+        long p95 = hostState.latencyP95();
+        if (p95 < 0) {
+            // 样本不足时不发送对冲请求
+            return execute(request, hostState);
+        }
+        CompletableFuture<ResponseMessage> primary;
+        try {
+            primary = CompletableFuture.supplyAsync(() -> executeUnchecked(request, hostState), executor);
+        } catch (RejectedExecutionException e) {
+            // 线程池已满，不发送对冲请求
+            return execute(request, hostState);
+        }
+        try {
+            return primary.get(Math.max(p95, minHedgeDelay), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // 超过p95耗时仍未返回，发送对冲请求
+        } catch (InterruptedException e) {
+            request.abort();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+
+        // 注：不能使用clone()，克隆的请求与原请求共用同一个Cancellable引用，abort时无法中断原请求
+        HttpGet hedgeRequest = new HttpGet(request.getURI());
+        hedgeRequest.setHeaders(request.getAllHeaders());
+        hedgeRequest.setConfig(request.getConfig());
+        hedgeRequest.setProtocolVersion(request.getProtocolVersion());
+        CompletableFuture<ResponseMessage> hedge;
+        try {
+            hedge = CompletableFuture.supplyAsync(() -> executeUnchecked(hedgeRequest, hostState), executor);
+        } catch (RejectedExecutionException e) {
+            return awaitPrimary(primary, request);
+        }
+        hedges.increment();
+        CompletableFuture<ResponseMessage> first = new CompletableFuture<>();
+        AtomicInteger remaining = new AtomicInteger(2);
+        for (CompletableFuture<ResponseMessage> future : Arrays.asList(primary, hedge)) {
+            future.whenComplete((responseMessage, throwable) -> {
+                if (throwable == null) {
+                    first.complete(responseMessage);
+                } else if (remaining.decrementAndGet() == 0) {
+                    // 两个请求都失败时才算失败
+                    first.completeExceptionally(throwable);
+                }
+            });
+        }
+        try {
+            return first.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } finally {
+            // 中断未返回的请求，释放连接
+            if (!primary.isDone()) {
+                request.abort();
+            }
+            if (!hedge.isDone()) {
+                hedgeRequest.abort();
+            }
+        }
+    }
+
+    private static ResponseMessage awaitPrimary(CompletableFuture<ResponseMessage> primary, HttpRequestBase request) throws IOException {
+        try {
+            return primary.get();
+        } catch (InterruptedException e) {
+            request.abort();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(e.getMessage());
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private ResponseMessage executeUnchecked(HttpRequestBase request, HostState hostState) {
+        try {
+            return execute(request, hostState);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        while (cause instanceof UncheckedIOException || cause instanceof CompletionException) {
+            cause = cause.getCause();
+        }
+        if (cause instanceof IOException) {
+            return (IOException) cause;
+        }
+        if (cause instanceof RuntimeException) {
+            throw (RuntimeException) cause;
+        }
+        return new IOException(cause);
+    }
+
+    /**
+     * @param uri 请求URI地址
+     * @return 该host是否处于熔断状态（包括熔断时间结束、等待探测请求的状态）
+     */
+    public boolean isCircuitOpen(String uri) {
+        HostState hostState = hosts.get(URIUtils.extractHost(URI.create(uri)).toURI());
+        return hostState != null && hostState.circuit.get().openUntil > 0;
+    }
+
+    /**
+     * @return 重试次数
+     */
+    public long getRetries() {
+        return retries.sum();
+    }
+
+    /**
+     * @return 熔断期间直接拒绝的请求数
+     */
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return 发送的对冲请求数
+     */
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    /**
+     * @return 内部使用的HttpClientSender
+     */
+    public HttpClientSender getSender() {
+        return sender;
+    }
+
+    /**
+     * 关闭内部创建的线程池、HttpClientSender，通过 {@link Builder#setSender(HttpClientSender)}、{@link Builder#setExecutor(Executor)} 传入的由调用方关闭
+     */
+    @Override
+    public void close() throws IOException {
+        if (ownedExecutor != null) {
+            ownedExecutor.shutdownNow();
+        }
+        if (ownedSender != null) {
+            ownedSender.close();
+        }
+    }
+
+    /**
+     * 熔断状态，不可变，通过CAS整体替换
+     */
+    private static final class Circuit {
+        private static final Circuit CLOSED = new Circuit(0, 0, false);
+
+        /**
+         * 连续失败次数
+         */
+        private final int failures;
+        /**
+         * 熔断结束时间，0表示未熔断
+         */
+        private final long openUntil;
+        /**
+         * 熔断时间结束后，是否已放行探测请求
+         */
+        private final boolean probing;
+
+        private Circuit(int failures, long openUntil, boolean probing) {
+            this.failures = failures;
+            this.openUntil = openUntil;
+            this.probing = probing;
+        }
+    }
+
+    /**
+     * 每个host的熔断状态以及最近请求耗时
+     */
+    private final class HostState {
+        private static final int WINDOW_SIZE = 128;
+        private static final int MIN_SAMPLES = 20;
+
+        private final AtomicReference<Circuit> circuit = new AtomicReference<>(Circuit.CLOSED);
+        /**
+         * 最近WINDOW_SIZE个请求的耗时（环形数组），单位为毫秒
+         */
+        private final AtomicLongArray latencies = new AtomicLongArray(WINDOW_SIZE);
+        private final AtomicLong samples = new AtomicLong();
+
+        boolean tryAcquire(long now) {
+            while (true) {
+                Circuit current = circuit.get();
+                if (current.openUntil == 0) {
+                    return true;
+                }
+                if (now < current.openUntil || current.probing) {
+                    return false;
+                }
+                // 熔断时间结束，只放行一个探测请求
+                if (circuit.compareAndSet(current, new Circuit(current.failures, current.openUntil, true))) {
+                    return true;
+                }
+            }
+        }
+
+        void onSuccess() {
+            while (true) {
+                Circuit current = circuit.get();
+                if (current == Circuit.CLOSED || circuit.compareAndSet(current, Circuit.CLOSED)) {
+                    return;
+                }
+            }
+        }
+
+        void onFailure(long now) {
+            while (true) {
+                Circuit current = circuit.get();
+                Circuit next;
+                if (current.openUntil > 0) {
+                    if (!current.probing) {
+                        // 熔断前已发出的请求失败，不影响熔断状态
+                        return;
+                    }
+                    // 探测请求失败，继续熔断
+                    next = new Circuit(current.failures, now + openTime, false);
+                } else if (current.failures + 1 >= failureThreshold) {
+                    next = new Circuit(current.failures + 1, now + openTime, false);
+                } else {
+                    next = new Circuit(current.failures + 1, 0, false);
+                }
+                if (circuit.compareAndSet(current, next)) {
+                    if (next.openUntil > 0) {
+                        LOGGER.warn("连续失败{}次，熔断{}ms", next.failures, openTime);
+                    }
+                    return;
+                }
+            }
+        }
+
+        void recordLatency(long millis) {
+            latencies.set((int) (samples.getAndIncrement() % WINDOW_SIZE), millis);
+        }
+
+        /**
+         * @return 最近请求耗时的p95，样本不足时返回-1
+         */
+        long latencyP95() {
+            int size = (int) Math.min(samples.get(), WINDOW_SIZE);
+            if (size < MIN_SAMPLES) {
+                return -1;
+            }
+            long[] values = new long[size];
+            for (int i = 0; i < size; i++) {
+                values[i] = latencies.get(i);
+            }
+            Arrays.sort(values);
+            return values[(int) Math.ceil(size * 0.95) - 1];
+        }
+    }
+
+    public static class Builder {
+        private HttpClientSender sender;
+        private Charset charset = StandardCharsets.UTF_8;
+        private int maxRetries = 2;
+        private long backoff = 100;
+        private long maxBackoff = 2000;
+        private int failureThreshold = 5;
+        private long openTime = 10 * 1000L;
+        private boolean hedgeEnabled = false;
+        private long minHedgeDelay = 10;
+        private Executor executor;
+
+        /**
+         * @param sender 实际发送请求的HttpClientSender，默认新建一个（随close一起关闭）
+         */
+        public Builder setSender(HttpClientSender sender) {
+            this.sender = sender;
+            return this;
+        }
+
+        /**
+         * @param charset 响应内容编码，默认UTF-8
+         */
+        public Builder setCharset(Charset charset) {
+            this.charset = charset;
+            return this;
+        }
+
+        /**
+         * @param maxRetries 最大重试次数，默认2次，0表示不重试
+         */
+        public Builder setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+            return this;
+        }
+
+        /**
+         * @param backoff    首次重试的退避时间，单位为毫秒，默认100毫秒，之后每次翻倍
+         * @param maxBackoff 最大退避时间，单位为毫秒，默认2秒
+         */
+        public Builder setBackoff(long backoff, long maxBackoff) {
+            this.backoff = backoff;
+            this.maxBackoff = maxBackoff;
+            return this;
+        }
+
+        /**
+         * @param failureThreshold 连续失败多少次后熔断，默认5次
+         */
+        public Builder setFailureThreshold(int failureThreshold) {
+            this.failureThreshold = failureThreshold;
+            return this;
+        }
+
+        /**
+         * @param openTime 熔断时间，单位为毫秒，默认10秒
+         */
+        public Builder setOpenTime(long openTime) {
+            this.openTime = openTime;
+            return this;
+        }
+
+        /**
+         * @param hedgeEnabled 是否对GET请求发送对冲请求，默认false
+         */
+        public Builder setHedgeEnabled(boolean hedgeEnabled) {
+            this.hedgeEnabled = hedgeEnabled;
+            return this;
+        }
+
+        /**
+         * @param minHedgeDelay 发送对冲请求前的最小等待时间，单位为毫秒，默认10毫秒。p95耗时小于该值时按该值等待
+         */
+        public Builder setMinHedgeDelay(long minHedgeDelay) {
+            this.minHedgeDelay = minHedgeDelay;
+            return this;
+        }
+
+        /**
+         * @param executor 执行对冲请求的线程池，默认使用内部的有界守护线程池（随close一起关闭）
+         */
+        public Builder setExecutor(Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        public ResilientHttpClientSender build() {
+            Assert.notNull(charset, "charset must not be null");
+            Assert.isTrue(maxRetries >= 0, "maxRetries must not be negative");
+            Assert.isTrue(backoff > 0 && backoff <= maxBackoff, "backoff must be greater than 0 and not greater than maxBackoff");
+            Assert.isTrue(failureThreshold > 0, "failureThreshold must be greater than 0");
+            Assert.isTrue(openTime > 0, "openTime must be greater than 0");
+            return new ResilientHttpClientSender(this);
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 类ResponseStreamHandler的实现描述：响应流处理接口
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 22:41:52
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@FunctionalInterface
+public interface ResponseStreamHandler<T> {
+
+    /**
+     * 处理响应流
+     *
+     * @param statusCode    返回码
+     * @param inputStream   响应内容流（已解压gzip/deflate），处理完成后由调用方关闭，不需要读取到末尾
+     * @param contentLength 响应内容长度，未知或已解压时为-1
+     * @return 处理结果
+     * @throws IOException 读取响应内容失败
+     */
+    T handle(int statusCode, InputStream inputStream, long contentLength) throws IOException;
+
+}
@@ -18,6 +18,7 @@ package io.github.wywuzh.commons.core.json.gson;
 import com.google.gson.*;
 import com.google.gson.stream.JsonReader;
 
+import java.io.Reader;
 import java.io.StringReader;
 import java.lang.reflect.Type;
 import java.util.Date;
@@ -199,6 +200,33 @@ public class GsonUtil {
         return t;
     }
 
+    /**
+     * 从字符流中读取json并转换为对象，边读取边解析，不需要先将整个json读取为字符串
+     *
+     * @param reader json字符流，由调用方负责关闭
+     * @param type   需要转换的数据类型
+     * @return 转换成功的Bean对象
+     * @since v3.5.0
+     */
+    public static <T> T parse(Reader reader, Type type) {
+        if (gson == null) {
+            synchronized (GsonUtil.class) {
+                if (gson == null) {
+                    create();
+                }
+            }
+        }
+
+        try {
+            JsonReader jsonReader = new JsonReader(reader);
+            jsonReader.setLenient(true);
+            return gson.fromJson(jsonReader, type);
+        } catch (Exception e) {
+            logger.error(e.getMessage(), e);
+            throw e;
+        }
+    }
+
     /**
      * 将json转换为对象
      *
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UnsupportedEncodingException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import io.github.wywuzh.commons.core.common.ContentType;
+import io.github.wywuzh.commons.core.poi.annotation.ExcelCell;
+import io.github.wywuzh.commons.core.poi.constants.CellStyleConstants;
+import io.github.wywuzh.commons.core.poi.enums.CellTypeEnum;
+import io.github.wywuzh.commons.core.poi.modle.ExcelExportRequest;
+import io.github.wywuzh.commons.core.poi.support.ExcelColumnPlan;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 类CsvUtils的实现描述：CSV/TSV导出工具
+ *
+ * <pre>
+ * 与 {@link ExcelUtils} 共用 {@link ExcelExportRequest} 的列定义（columns、columnTitles）以及 @ExcelCell 注解中的日期、数值格式，
+ * 数据行直接写入带缓冲的字符流，不经过POI，适用于百万级以上、供其他系统使用的数据导出。
+ *
+ * 1. 文件格式根据文件后缀判断：“.tsv”使用制表符分隔，其他使用逗号分隔；以“.gz”结尾时使用gzip压缩
+ * 2. 文件以UTF-8编码写入，并带有BOM头，避免使用Excel打开时中文乱码
+ * 3. 字段值中包含分隔符、双引号、换行符时，按照RFC 4180使用双引号包裹
+ * 4. sheetName、tips、下拉框、冻结窗口、列宽等Excel专有的配置会被忽略
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 16:32:08
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class CsvUtils {
+    private static final Logger LOGGER = LoggerFactory.getLogger(CsvUtils.class);
+
+    /**
+     * 逗号分隔符
+     */
+    public static final char DELIMITER_COMMA = ',';
+    /**
+     * 制表符分隔符
+     */
+    public static final char DELIMITER_TAB = '\t';
+    /**
+     * 默认缓冲区大小：64KB
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final char BOM = '\uFEFF';
+    /**
+     * 可以直接用于DecimalFormat的Excel数值格式，如：0、0.00、###,##0.00、0.00%、$#,##0.00。
+     * 日期、会计专用、科学计数、文本（@）等格式不在此列，数值按原值输出
+     */
+    private static final Pattern NUMBER_PATTERN = Pattern.compile("[$¥￥]?[#,0]*[#0](\\.[#0]+)?%?");
+
+    /**
+     * 是否为CSV/TSV文件：文件后缀为“.csv”、“.tsv”，或者gzip压缩后的“.csv.gz”、“.tsv.gz”
+     *
+     * @param fileName 文件名
+     * @return true表示CSV/TSV文件
+     */
+    public static boolean isCsvFile(String fileName) {
+        String name = StringUtils.removeEndIgnoreCase(fileName, ".gz");
+        return StringUtils.endsWithIgnoreCase(name, ".csv") || StringUtils.endsWithIgnoreCase(name, ".tsv");
+    }
+
+    /**
+     * 导出数据
+     *
+     * @param request            请求信息
+     * @param response           响应信息
+     * @param fileName           导出文件名，注意需要包含文件后缀。eg：用户信息.csv、用户信息.tsv.gz
+     * @param excelExportRequest 导出数据请求条件
+     * @return 写入的数据行数（不包含标题行）
+     */
+    public static long exportData(HttpServletRequest request, HttpServletResponse response, String fileName, ExcelExportRequest excelExportRequest)
+            throws IOException, IllegalAccessException {
+        response.reset();
+        setDownloadHeader(request, response, fileName);
+        return exportData(response.getOutputStream(), fileName, excelExportRequest);
+    }
+
+    /**
+     * 设置CSV/TSV文件下载响应头：“.gz”后缀为gzip，其他根据分隔符设置为text/csv、text/tab-separated-values
+     *
+     * @param request  请求信息
+     * @param response 响应信息
+     * @param fileName 文件名，注意需要包含文件后缀。eg：用户信息.csv、用户信息.tsv.gz
+     */
+    public static void setDownloadHeader(HttpServletRequest request, HttpServletResponse response, String fileName) throws UnsupportedEncodingException {
+        ExcelUtils.setDownloadHeader(request, response, fileName);
+        if (isGzip(fileName)) {
+            response.setContentType(ContentType.APPLICATION_POINT_GZIP);
+        } else {
+            response.setContentType((isTsv(fileName) ? ContentType.TEXT_POINT_TSV : ContentType.TEXT_POINT_CSV) + ";charset=UTF-8");
+        }
+    }
+
+    /**
+     * 导出数据到输出流中，导出完成后会关闭输出流。分隔符、是否gzip压缩根据文件后缀判断
+     *
+     * @param outputStream       输出流
+     * @param fileName           导出文件名，注意需要包含文件后缀。eg：用户信息.csv、用户信息.tsv.gz
+     * @param excelExportRequest 导出数据请求条件
+     * @return 写入的数据行数（不包含标题行）
+     */
+    public static long exportData(OutputStream outputStream, String fileName, ExcelExportRequest excelExportRequest) throws IOException, IllegalAccessException {
+        return exportData(outputStream, excelExportRequest, isTsv(fileName) ? DELIMITER_TAB : DELIMITER_COMMA, isGzip(fileName));
+    }
+
+    /**
+     * 导出数据到输出流中，导出完成后会关闭输出流
+     *
+     * @param outputStream       输出流
+     * @param excelExportRequest 导出数据请求条件
+     * @param delimiter          分隔符
+     * @param gzip               是否使用gzip压缩
+     * @return 写入的数据行数（不包含标题行）
+     */
+    public static long exportData(OutputStream outputStream, ExcelExportRequest excelExportRequest, char delimiter, boolean gzip) throws IOException, IllegalAccessException {
+        Assert.notNull(outputStream, "outputStream must not be null");
+        Assert.notNull(excelExportRequest, "excelExportRequest must not be null");
+        Assert.notEmpty(excelExportRequest.getColumns(), "columns must not be empty");
+
+        long startTime = System.currentTimeMillis();
+        OutputStream target = gzip ? new GZIPOutputStream(outputStream, DEFAULT_BUFFER_SIZE) : outputStream;
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), DEFAULT_BUFFER_SIZE)) {
+            writer.write(BOM);
+            long rows = writeData(writer, excelExportRequest, delimiter);
+            LOGGER.debug("CSV导出完成，数据行数={}，耗时={}ms", rows, System.currentTimeMillis() - startTime);
+            return rows;
+        }
+    }
+
+    /**
+     * 写入标题行、数据行
+     *
+     * @param writer             字符输出流
+     * @param excelExportRequest 导出数据请求条件
+     * @param delimiter          分隔符
+     * @return 写入的数据行数（不包含标题行）
+     */
+    public static long writeData(Writer writer, ExcelExportRequest excelExportRequest, char delimiter) throws IOException, IllegalAccessException {
+        String[] columns = excelExportRequest.getColumns();
+        // 标题行，未设置标题时使用字段名
+        String[] columnTitles = excelExportRequest.getColumnTitles() != null ? excelExportRequest.getColumnTitles() : columns;
+        for (int j = 0; j < columnTitles.length; j++) {
+            if (j > 0) {
+                writer.write(delimiter);
+            }
+            writeValue(writer, columnTitles[j], delimiter);
+        }
+        writer.write(LINE_SEPARATOR);
+
+        Iterator<?> iterator = ExcelUtils.getDataIterator(excelExportRequest);
+        if (iterator == null) {
+            return 0;
+        }
+        long rows = 0;
+        // 列取值计划：同一数据类型只解析一次字段/方法和@ExcelCell注解
+        ExcelColumnPlan columnPlan = null;
+        // 数值格式，与列取值计划一起缓存，第一次遇到数值时才创建。注：DecimalFormat非线程安全，只在当前导出中使用
+        String[] numberPatterns = null;
+        DecimalFormat[] numberFormats = null;
+        while (iterator.hasNext()) {
+            Object data = iterator.next();
+            if (data == null) {
+                continue;
+            }
+            if (columnPlan == null || columnPlan.getType() != data.getClass()) {
+                columnPlan = ExcelColumnPlan.of(data.getClass(), columns);
+                numberPatterns = new String[columns.length];
+                numberFormats = new DecimalFormat[columns.length];
+                for (int k = 0; k < columns.length; k++) {
+                    numberPatterns[k] = getNumberPattern(columnPlan.getAccessor(k).getExcelCell());
+                }
+            }
+
+            for (int k = 0; k < columns.length; k++) {
+                if (k > 0) {
+                    writer.write(delimiter);
+                }
+                ExcelColumnPlan.ColumnAccessor columnAccessor = columnPlan.getAccessor(k);
+                Object realValue = columnAccessor.getValue(data);
+                if (realValue == null) {
+                    continue;
+                }
+                if (realValue instanceof Date) {
+                    writeValue(writer, columnAccessor.formatDate((Date) realValue), delimiter);
+                } else if (realValue instanceof Number) {
+                    writeNumber(writer, (Number) realValue, getNumberFormat(numberPatterns, numberFormats, k), delimiter);
+                } else {
+                    writeValue(writer, realValue.toString(), delimiter);
+                }
+            }
+            writer.write(LINE_SEPARATOR);
+            rows++;
+        }
+        return rows;
+    }
+
+    /**
+     * 获取第index列的数值格式，格式无效时记录日志并按原值输出
+     */
+    private static DecimalFormat getNumberFormat(String[] numberPatterns, DecimalFormat[] numberFormats, int index) {
+        if (numberFormats[index] == null && numberPatterns[index] != null) {
+            try {
+                numberFormats[index] = new DecimalFormat(numberPatterns[index]);
+            } catch (IllegalArgumentException e) {
+                LOGGER.warn("数值格式[{}]无效，按原值输出：{}", numberPatterns[index], e.getMessage());
+                numberPatterns[index] = null;
+            }
+        }
+        return numberFormats[index];
+    }
+
+    private static void writeNumber(Writer writer, Number number, DecimalFormat numberFormat, char delimiter) throws IOException {
+        if (numberFormat != null) {
+            // 注：格式化后可能包含千分位分隔符，需要转义
+            writeValue(writer, numberFormat.format(number instanceof BigDecimal ? number : new BigDecimal(number.toString())), delimiter);
+        } else if (number instanceof BigDecimal) {
+            writer.write(((BigDecimal) number).toPlainString());
+        } else {
+            writer.write(number.toString());
+        }
+    }
+
+    /**
+     * 写入字段值，包含分隔符、双引号、换行符时使用双引号包裹，字段值中的双引号转义为两个双引号
+     */
+    private static void writeValue(Writer writer, String value, char delimiter) throws IOException {
+        if (value == null) {
+            return;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == delimiter || c == '"' || c == '\r' || c == '\n') {
+                quote = true;
+                break;
+            }
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    /**
+     * 获取数值格式，与Excel导出保持一致。优先级别：format > cellType，format不是数值格式时忽略
+     */
+    private static String getNumberPattern(ExcelCell excelCell) {
+        if (excelCell == null) {
+            return null;
+        }
+        if (StringUtils.isNotBlank(excelCell.format()) && NUMBER_PATTERN.matcher(excelCell.format()).matches()) {
+            return excelCell.format();
+        }
+        CellTypeEnum cellTypeEnum = excelCell.cellType();
+        if (CellTypeEnum.BigDecimal.equals(cellTypeEnum)) { // 2位小数
+            return CellStyleConstants.STYLE_FORMAT_BigDecimal;
+        } else if (CellTypeEnum.Integer.equals(cellTypeEnum)) { // 整型数值
+            return CellStyleConstants.STYLE_FORMAT_Integer;
+        } else if (CellTypeEnum.Money.equals(cellTypeEnum)) { // 金额，保留2位小数
+            return CellStyleConstants.STYLE_FORMAT_Money;
+        } else if (CellTypeEnum.Rate.equals(cellTypeEnum)) { // 率，保留4位小数
+            return CellStyleConstants.STYLE_FORMAT_Rate;
+        }
+        return null;
+    }
+
+    private static boolean isGzip(String fileName) {
+        return StringUtils.endsWithIgnoreCase(fileName, ".gz");
+    }
+
+    private static boolean isTsv(String fileName) {
+        return StringUtils.endsWithIgnoreCase(StringUtils.removeEndIgnoreCase(fileName, ".gz"), ".tsv");
+    }
+
+}
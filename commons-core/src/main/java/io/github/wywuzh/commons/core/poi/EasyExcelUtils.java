@@ -31,6 +31,7 @@ import java.io.OutputStream;
 import java.util.*;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.collections4.iterators.PeekingIterator;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.xssf.streaming.SXSSFWorkbook;
@@ -44,6 +45,7 @@ import io.github.wywuzh.commons.core.poi.style.SheetFreezePaneWriteHandler;
 import io.github.wywuzh.commons.core.poi.style.SheetValidationWriteHandler;
 import io.github.wywuzh.commons.core.poi.style.VerticalCellStyleStrategy;
 import io.github.wywuzh.commons.core.poi.style.column.ColumnWidthAdaptiveStyleStrategy;
+import io.github.wywuzh.commons.core.poi.style.column.ColumnWidthSampler;
 import io.github.wywuzh.commons.core.reflect.ReflectUtils;
 import io.github.wywuzh.commons.core.util.Assert;
 
@@ -182,8 +184,16 @@ public class EasyExcelUtils {
         Map<String, String[]> columnValidation = excelExportRequest.getColumnValidation();
         // 列字段格式：key=字段标题, value=ExcelCellField
         Map<String, ExcelCellField> fieldTitleExcelCellMap = new HashMap<>();
-        if (CollectionUtils.isNotEmpty(excelExportRequest.getDataColl())) {
-            Object data = excelExportRequest.getDataColl().iterator().next();
+        Object data = null;
+        if (excelExportRequest.getDataIterator() != null) {
+            // 按需拉取的数据：预读第一条数据用于解析字段格式，预读的数据仍会被写入
+            PeekingIterator<?> peekingIterator = PeekingIterator.peekingIterator(excelExportRequest.getDataIterator());
+            excelExportRequest.setDataIterator(peekingIterator);
+            data = peekingIterator.peek();
+        } else if (CollectionUtils.isNotEmpty(excelExportRequest.getDataColl())) {
+            data = excelExportRequest.getDataColl().iterator().next();
+        }
+        if (data != null) {
             List<ExcelCellField> excelCellFieldList = ExcelUtils.resolvedExcelCellField(data.getClass());
             if (CollectionUtils.isNotEmpty(excelCellFieldList)) {
                 for (ExcelCellField excelCellField : excelCellFieldList) {
@@ -198,7 +208,7 @@ public class EasyExcelUtils {
                 // 字段有效性验证(下拉列表)
                 .registerWriteHandler(new SheetValidationWriteHandler(columns, columnTitles, columnLengths, columnValidation))
                 // 自适应列宽
-                .registerWriteHandler(new ColumnWidthAdaptiveStyleStrategy(columnLengths))
+                .registerWriteHandler(new ColumnWidthAdaptiveStyleStrategy(columnLengths, ColumnWidthSampler.of(excelExportRequest)))
                 // 自定义列样式
                 .registerWriteHandler(new VerticalCellStyleStrategy(columns, columnTitles, columnLengths, requiredColumnTitles, fieldTitleExcelCellMap))
                 // 压缩临时文件
@@ -320,6 +330,42 @@ public class EasyExcelUtils {
         excelWriter.write(data, writeSheet);
     }
 
+    /**
+     * 写入数据：按批次从 dataIterator/dataColl 中拉取数据写入，内存中最多只保留一个批次的数据
+     *
+     * @param excelWriter        ExcelWriter对象
+     * @param writeSheet         WriteSheet对象，建议通过 {@link #createWriteSheet(ExcelExportRequest)} 创建
+     * @param excelExportRequest 导出请求
+     * @param batchSize          每批次写入的数据行数
+     * @return 写入的数据行数
+     * @since v3.5.0
+     */
+    public static long writeData(ExcelWriter excelWriter, WriteSheet writeSheet, ExcelExportRequest excelExportRequest, int batchSize) {
+        Assert.notNull(excelExportRequest, "excelExportRequest参数不能为空");
+        Assert.notEmpty(excelExportRequest.getColumns(), "excelExportRequest.columns参数不能为空");
+        Assert.isTrue(batchSize > 0, "batchSize必须大于0");
+
+        Iterator<?> iterator = ExcelUtils.getDataIterator(excelExportRequest);
+        if (iterator == null) {
+            return 0;
+        }
+        long total = 0;
+        List<Object> batch = new ArrayList<>(batchSize);
+        while (iterator.hasNext()) {
+            batch.add(iterator.next());
+            if (batch.size() >= batchSize) {
+                writeData(excelWriter, writeSheet, batch, excelExportRequest.getColumns());
+                total += batch.size();
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeData(excelWriter, writeSheet, batch, excelExportRequest.getColumns());
+            total += batch.size();
+        }
+        return total;
+    }
+
     /**
      * 关闭IO、清理临时文件
      *
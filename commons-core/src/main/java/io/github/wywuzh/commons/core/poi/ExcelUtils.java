@@ -24,15 +24,20 @@ import java.text.DecimalFormat;
 import java.text.MessageFormat;
 import java.text.NumberFormat;
 import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import org.apache.commons.collections.CollectionUtils;
+import org.apache.commons.io.FileUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.reflect.MethodUtils;
+import org.apache.poi.poifs.filesystem.FileMagic;
 import org.apache.poi.ss.usermodel.*;
 import org.apache.poi.ss.util.CellRangeAddress;
 import org.apache.poi.ss.util.CellRangeAddressList;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.apache.poi.xssf.usermodel.XSSFDataValidation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -46,7 +51,13 @@ import io.github.wywuzh.commons.core.poi.enums.CellTypeEnum;
 import io.github.wywuzh.commons.core.poi.modle.ExcelCellField;
 import io.github.wywuzh.commons.core.poi.modle.ExcelExportRequest;
 import io.github.wywuzh.commons.core.poi.modle.FreezePane;
+import io.github.wywuzh.commons.core.poi.style.CellStyleRegistry;
 import io.github.wywuzh.commons.core.poi.style.CellStyleTools;
+import io.github.wywuzh.commons.core.poi.style.column.ColumnWidthSampler;
+import io.github.wywuzh.commons.core.poi.support.ExcelColumnPlan;
+import io.github.wywuzh.commons.core.poi.support.ExcelColumnPlan.ColumnAccessor;
+import io.github.wywuzh.commons.core.poi.support.ValidationListRegistry;
+import io.github.wywuzh.commons.core.poi.support.XlsxStreamingReader;
 import io.github.wywuzh.commons.core.reflect.ReflectUtils;
 import io.github.wywuzh.commons.core.util.DateUtils;
 import io.github.wywuzh.commons.core.util.SortUtils;
@@ -67,7 +78,20 @@ public class ExcelUtils {
     public static final int MAX_ROW = 50000;
 
     /**
-     * 解析Cell列公式
+     * 流式导出时内存中默认保留的行数
+     *
+     * @since v3.5.0
+     */
+    public static final int DEFAULT_ROW_ACCESS_WINDOW_SIZE = 500;
+    /**
+     * 每个sheet默认最多写入的数据行数。注：“.xlsx”单个sheet最多支持1048576行
+     *
+     * @since v3.5.0
+     */
+    public static final int DEFAULT_MAX_ROWS_PER_SHEET = 1000000;
+
+    /**
+     * 解析Cell列公式。注：并行导入时每个sheet在各自线程上创建、移除，读取sheet数据的线程之间互不影响
      */
     private static ThreadLocal<FormulaEvaluator> FORMULA_EVALUATOR_LOCAL = new ThreadLocal<>();
 
@@ -208,6 +232,20 @@ public class ExcelUtils {
      */
     public static void exportData(HttpServletRequest request, HttpServletResponse response, String fileName, ExcelExportRequest excelExportRequest)
             throws IOException, NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+        // [v3.5.0]流式导出：数据行写入磁盘临时文件，超出单sheet行数时自动创建新的sheet
+        if (isStreaming(fileName, excelExportRequest)) {
+            SXSSFWorkbook workbook = createStreamingWorkbook(excelExportRequest);
+            try {
+                writeDataWithRollover(workbook, excelExportRequest);
+                // 将workbook工作簿内容写入输出流中
+                writeWorkbook(request, response, workbook, fileName);
+            } finally {
+                // 清理临时文件
+                dispose(workbook);
+            }
+            return;
+        }
+
         // 创建workbook
         Workbook workbook = createWorkbook(fileName);
         // 创建sheet
@@ -219,6 +257,56 @@ public class ExcelUtils {
         writeWorkbook(request, response, workbook, fileName);
     }
 
+    /**
+     * 导出数据到输出流中，导出完成后会关闭输出流
+     *
+     * @param outputStream       输出流
+     * @param fileName           导出文件名，注意需要包含文件后缀
+     * @param excelExportRequest 导出数据请求条件
+     * @since v3.5.0
+     */
+    public static void exportData(OutputStream outputStream, String fileName, ExcelExportRequest excelExportRequest)
+            throws IOException, NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+        Assert.notNull(outputStream, "outputStream must not be null");
+
+        Workbook workbook = null;
+        try {
+            if (isStreaming(fileName, excelExportRequest)) {
+                workbook = createStreamingWorkbook(excelExportRequest);
+                writeDataWithRollover(workbook, excelExportRequest);
+            } else {
+                workbook = createWorkbook(fileName);
+                Sheet sheet = createSheet(workbook, excelExportRequest);
+                writeData(workbook, sheet, excelExportRequest);
+            }
+            workbook.write(outputStream);
+            outputStream.flush();
+        } finally {
+            if (workbook instanceof SXSSFWorkbook) {
+                dispose((SXSSFWorkbook) workbook);
+            }
+            outputStream.close();
+        }
+    }
+
+    /**
+     * 是否使用流式导出：请求中开启了streaming，并且导出文件为“.xlsx”格式
+     *
+     * @param fileName           导出文件名
+     * @param excelExportRequest 导出数据请求条件
+     * @return true表示使用流式导出
+     */
+    private static boolean isStreaming(String fileName, ExcelExportRequest excelExportRequest) {
+        if (excelExportRequest == null || !excelExportRequest.isStreaming()) {
+            return false;
+        }
+        if (!StringUtils.endsWithIgnoreCase(fileName, ".xlsx")) {
+            LOGGER.warn("fileName={} 流式导出只支持“.xlsx”格式文件，将使用普通模式导出！", fileName);
+            return false;
+        }
+        return true;
+    }
+
     /**
      * 将workbook工作簿内容写入输出流中
      *
@@ -231,8 +319,24 @@ public class ExcelUtils {
     public static <T> void writeWorkbook(HttpServletRequest request, HttpServletResponse response, Workbook workbook, String fileName) throws IOException {
         OutputStream outputStream = response.getOutputStream();
         response.reset();
+        setDownloadHeader(request, response, fileName);
+
+        workbook.write(outputStream);
+        outputStream.flush();
+        outputStream.close();
+    }
+
+    /**
+     * 设置文件下载的响应头
+     *
+     * @param request
+     * @param response
+     * @param fileName 文件名称
+     * @since v3.5.0
+     */
+    public static void setDownloadHeader(HttpServletRequest request, HttpServletResponse response, String fileName) throws UnsupportedEncodingException {
         // 获取浏览器类型
-        String userAgent = request.getHeader("USER-AGENT").toLowerCase();
+        String userAgent = StringUtils.lowerCase(request.getHeader("USER-AGENT"));
         response.setContentType(ContentType.APPLICATION_POINT_OFFICE2003_XLS);
         if (StringUtils.contains(userAgent, "firefox")) {
             response.setCharacterEncoding("UTF-8");
@@ -241,10 +345,6 @@ public class ExcelUtils {
             String codedFileName = java.net.URLEncoder.encode(fileName, "UTF-8");
             response.setHeader("content-disposition", "attachment;filename=" + codedFileName);
         }
-
-        workbook.write(outputStream);
-        outputStream.flush();
-        outputStream.close();
     }
 
     /**
@@ -260,6 +360,46 @@ public class ExcelUtils {
         return workbook;
     }
 
+    /**
+     * 创建流式workbook（SXSSF），内存中只保留rowAccessWindowSize行，超出部分写入磁盘临时文件
+     *
+     * <pre>
+     * 注：使用完毕后需调用 {@link #dispose(SXSSFWorkbook)} 方法清理临时文件
+     * </pre>
+     *
+     * @param excelExportRequest Excel导出请求
+     * @return 流式workbook
+     * @since v3.5.0
+     */
+    public static SXSSFWorkbook createStreamingWorkbook(ExcelExportRequest excelExportRequest) {
+        int rowAccessWindowSize = DEFAULT_ROW_ACCESS_WINDOW_SIZE;
+        if (excelExportRequest != null && excelExportRequest.getRowAccessWindowSize() != null && excelExportRequest.getRowAccessWindowSize() > 0) {
+            rowAccessWindowSize = excelExportRequest.getRowAccessWindowSize();
+        }
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowAccessWindowSize);
+        // 设置临时文件压缩，会多消耗一些cpu性能，但是临时文件会变小
+        workbook.setCompressTempFiles(true);
+        return workbook;
+    }
+
+    /**
+     * 清理流式workbook生成的临时文件
+     *
+     * @param workbook 流式workbook
+     * @since v3.5.0
+     */
+    public static void dispose(SXSSFWorkbook workbook) {
+        if (workbook == null) {
+            return;
+        }
+        try {
+            workbook.dispose();
+            workbook.close();
+        } catch (IOException e) {
+            LOGGER.error(e.getMessage(), e);
+        }
+    }
+
     /**
      * 创建sheet
      *
@@ -329,18 +469,97 @@ public class ExcelUtils {
         Assert.notEmpty(excelExportRequest.getColumns(), "columns must not be empty");
         Assert.notEmpty(excelExportRequest.getColumnTitles(), "columnTitles must not be empty");
 
+        Iterator<?> iterator = getDataIterator(excelExportRequest);
+        return writeSheetData(workbook, sheet, excelExportRequest, iterator, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 写入数据，单个sheet写满maxRowsPerSheet行后自动创建新的sheet继续写入
+     *
+     * <pre>
+     * 新sheet的名称为：sheetName_2、sheetName_3……，每个sheet都会写入标题行、提示信息、下拉框等内容
+     * </pre>
+     *
+     * @param workbook           工作簿，大数据量时建议使用 {@link #createStreamingWorkbook(ExcelExportRequest)} 创建
+     * @param excelExportRequest Excel导出请求
+     * @return 写入数据的sheet列表
+     * @since v3.5.0
+     */
+    public static List<Sheet> writeDataWithRollover(Workbook workbook, ExcelExportRequest excelExportRequest) throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
+        Assert.notNull(excelExportRequest, "excelRequest must not be null");
+        Assert.notEmpty(excelExportRequest.getColumns(), "columns must not be empty");
+        Assert.notEmpty(excelExportRequest.getColumnTitles(), "columnTitles must not be empty");
+
+        int maxRowsPerSheet = DEFAULT_MAX_ROWS_PER_SHEET;
+        if (excelExportRequest.getMaxRowsPerSheet() != null && excelExportRequest.getMaxRowsPerSheet() > 0) {
+            maxRowsPerSheet = excelExportRequest.getMaxRowsPerSheet();
+        }
+
+        Iterator<?> iterator = Optional.ofNullable(getDataIterator(excelExportRequest)).orElse(Collections.emptyIterator());
+        List<Sheet> sheetList = new ArrayList<>();
+        do {
+            Sheet sheet;
+            if (sheetList.isEmpty()) {
+                sheet = createSheet(workbook, excelExportRequest);
+            } else {
+                sheet = createSheet(workbook, getRolloverSheetName(sheetList.get(0).getSheetName(), sheetList.size() + 1));
+            }
+            writeSheetData(workbook, sheet, excelExportRequest, iterator, maxRowsPerSheet);
+            sheetList.add(sheet);
+        } while (iterator.hasNext());
+        return sheetList;
+    }
+
+    /**
+     * 获取导出数据的迭代器：优先使用 dataIterator，其次使用 dataColl
+     *
+     * @param excelExportRequest Excel导出请求
+     * @return 数据迭代器，都为空时返回null
+     * @since v3.5.0
+     */
+    public static Iterator<?> getDataIterator(ExcelExportRequest excelExportRequest) {
+        if (excelExportRequest.getDataIterator() != null) {
+            return excelExportRequest.getDataIterator();
+        }
+        return excelExportRequest.getDataColl() != null ? excelExportRequest.getDataColl().iterator() : null;
+    }
+
+    /**
+     * 获取自动续写sheet的名称。注：sheet名称最多31个字符
+     *
+     * @param sheetName  第一个sheet的名称
+     * @param sheetIndex sheet序号，从1开始
+     * @return sheet名称
+     */
+    private static String getRolloverSheetName(String sheetName, int sheetIndex) {
+        String suffix = "_" + sheetIndex;
+        return StringUtils.left(sheetName, 31 - suffix.length()) + suffix;
+    }
+
+    /**
+     * 写入数据
+     *
+     * @param workbook           工作簿
+     * @param sheet              写入数据的目标sheet
+     * @param excelExportRequest Excel导出请求
+     * @param iterator           数据迭代器，为空时只写入标题行
+     * @param maxRows            当前sheet最多写入的数据行数
+     * @return
+     */
+    private static Sheet writeSheetData(Workbook workbook, Sheet sheet, ExcelExportRequest excelExportRequest, Iterator<?> iterator, int maxRows)
+            throws NoSuchMethodException, IllegalAccessException, InvocationTargetException {
         // 生成头部列(单元格)样式
-        CellStyle headerStyle = CellStyleTools.createHeaderStyle(workbook);
+        CellStyle headerStyle = CellStyleTools.getHeaderStyle(workbook);
         CellStyle requiredHeaderStyle = null;
         // 生成内容列(单元格)样式
-        CellStyle contentStyle = CellStyleTools.createContentStyle(workbook);
+        CellStyle contentStyle = CellStyleTools.getContentStyle(workbook);
 
         String[] columns = excelExportRequest.getColumns();
         String[] columnTitles = excelExportRequest.getColumnTitles();
         Integer[] columnLengths = excelExportRequest.getColumnLengths();
         List<String> requiredColumnTitles = excelExportRequest.getRequiredColumnTitles();
         if (CollectionUtils.isNotEmpty(requiredColumnTitles)) {
-            requiredHeaderStyle = CellStyleTools.createHeaderStyleForRequired(workbook);
+            requiredHeaderStyle = CellStyleTools.getHeaderStyleForRequired(workbook);
         }
         // 行高
         final float height = -1;
@@ -353,14 +572,13 @@ public class ExcelUtils {
             // 第一行添加提示信息
             Cell cell = tipsRow.createCell(0);
             cell.setCellValue(excelExportRequest.getTips());
-            cell.setCellStyle(CellStyleTools.createHeaderStyleForTips(workbook));
+            cell.setCellStyle(CellStyleTools.getHeaderStyleForTips(workbook));
             // 合并单元格，合并的列与导出列保持一致
             sheet.addMergedRegion(new CellRangeAddress(0, 0, 0, columns.length - 1));
             // 设置第一行高度
             int length = StringUtils.split(excelExportRequest.getTips(), "\n").length;
             tipsRow.setHeightInPoints(length * 18);
-            // 设置自动换行
-            cell.getCellStyle().setWrapText(true);
+            // 注：提示信息样式已设置自动换行，样式为工作簿共享，不能再修改
         }
 
         // 因为POI自动列宽计算的是String.length长度，在中文环境下会有问题，所以自行处理
@@ -407,8 +625,9 @@ public class ExcelUtils {
                 setValidation(workbook, sheet, columnComment, columnValidationData, 1, MAX_ROW, columnTitleIndex, columnTitleIndex);
 
                 // 默认该列为为文本格式
-                CellStyle cellStyleForText = Optional.ofNullable(sheet.getColumnStyle(columnTitleIndex)).orElse(CellStyleTools.createCellStyle(workbook));
-                cellStyleForText.setDataFormat(getCellDateFormat(workbook, CellTypeEnum.String));
+                short textFormat = getCellDateFormat(workbook, CellTypeEnum.String);
+                CellStyle columnStyle = sheet.getColumnStyle(columnTitleIndex);
+                CellStyle cellStyleForText = columnStyle != null ? CellStyleRegistry.getCellStyle(workbook, columnStyle, textFormat) : CellStyleTools.getCellStyle(workbook, textFormat);
                 sheet.setDefaultColumnStyle(columnTitleIndex, cellStyleForText);
             }
         }
@@ -422,29 +641,38 @@ public class ExcelUtils {
         sheet.createFreezePane(freezePane.getColSplit(), freezePane.getRowSplit(), freezePane.getLeftmostColumn(), freezePane.getTopRow());
 
         // 数据行
-        if (excelExportRequest.getDataColl() != null) {
-            Iterator<?> iterator = excelExportRequest.getDataColl().iterator();
+        if (iterator != null) {
             int index = firstRowNumber;
 
             // key=columnName, value=CellStyle
             Map<String, CellStyle> cellStyleMap = new HashMap<>();
-            while (iterator.hasNext()) {
+            // 列取值计划：同一数据类型只解析一次字段/方法和@ExcelCell注解
+            ExcelColumnPlan columnPlan = null;
+            // 列宽计算抽样：只有抽中的数据行才计算字段值长度
+            ColumnWidthSampler columnWidthSampler = ColumnWidthSampler.of(excelExportRequest);
+            boolean fixedColumnLength = columnLengths != null && columnLengths.length > 0;
+            while (index - firstRowNumber < maxRows && iterator.hasNext()) {
                 Object data = iterator.next();
                 if (data == null) {
                     continue;
                 }
+                if (columnPlan == null || columnPlan.getType() != data.getClass()) {
+                    columnPlan = ExcelColumnPlan.of(data.getClass(), columns);
+                }
 
                 // 数据行，从第二行开始
                 Row sheetRow = sheet.createRow(index);
                 sheetRow.setHeightInPoints(height);
+                boolean measureColumnLength = !fixedColumnLength && columnWidthSampler.isSampled(index - firstRowNumber);
 
                 for (int k = 0; k < columns.length; k++) {
                     // 生成第k列 - 单元格
                     int columnIndex = k;
                     Cell cell = sheetRow.createCell(k);
                     String columnName = columns[k];
+                    ColumnAccessor columnAccessor = columnPlan.getAccessor(k);
 
-                    Object realValue = getRealValue(data, columnName);
+                    Object realValue = getRealValue(columnAccessor, data);
                     // 设置cell列字段值
                     setCellValue(workbook, cell, data, columnName, realValue);
                     // 设置cell列style样式
@@ -452,12 +680,9 @@ public class ExcelUtils {
                     CellStyle defaultCellStyle = Optional.ofNullable(sheet.getColumnStyle(k)).orElse(contentStyle);
                     CellStyle columnStyle = cellStyleMap.computeIfAbsent(columnName, (key) -> {
                         // 自定义样式。eg：@ExcelCell(value = "出生日期", cellType = CellTypeEnum.Date, format = "yyyy-MM-dd", index = 5)
-                        short cellDateFormat = getCellDateFormat(workbook, data, columnName);
+                        short cellDateFormat = getCellDateFormat(workbook, columnAccessor);
                         if (cellDateFormat != -1) {
-                            CellStyle cellStyle = CellStyleTools.createContentStyle(workbook);
-                            cellStyle.cloneStyleFrom(defaultCellStyle);
-                            cellStyle.setDataFormat(cellDateFormat);
-                            return cellStyle;
+                            return CellStyleRegistry.getCellStyle(workbook, defaultCellStyle, cellDateFormat);
                         }
                         // sheet列默认样式
                         CellStyle cellStyleForSheet = sheet.getColumnStyle(columnIndex);
@@ -474,10 +699,8 @@ public class ExcelUtils {
                     });
                     cell.setCellStyle(columnStyle);
 
-                    // 列宽有设置时以设置为准，否则通过字段值长度计算列宽
-                    if (columnLengths != null && columnLengths.length > 0) {
-                        maxLength[k] = columnLengths[k] * 30;
-                    } else {
+                    // 列宽有设置时以设置为准（标题行已设置），否则通过抽中数据行的字段值长度计算列宽
+                    if (measureColumnLength) {
                         // 设置列宽
                         int length = getRealLength(realValue) * 357;
                         maxLength[k] = Math.max(length, maxLength[k]);
@@ -500,10 +723,7 @@ public class ExcelUtils {
     private static void setCellStyle(Workbook workbook, Cell cell, CellStyle defaultCellStyle, Object data, String columnName) {
         short cellDateFormat = getCellDateFormat(workbook, data, columnName);
         if (cellDateFormat != -1) {
-            CellStyle cellStyle = CellStyleTools.createContentStyle(workbook);
-            cellStyle.cloneStyleFrom(defaultCellStyle);
-            cellStyle.setDataFormat(cellDateFormat);
-            cell.setCellStyle(cellStyle);
+            cell.setCellStyle(CellStyleRegistry.getCellStyle(workbook, defaultCellStyle, cellDateFormat));
         } else {
             cell.setCellStyle(defaultCellStyle);
         }
@@ -542,6 +762,19 @@ public class ExcelUtils {
         return dataFormat;
     }
 
+    /**
+     * @param workbook       工作簿
+     * @param columnAccessor 列取值器
+     * @return format对应的索引值，未设置单元格格式时返回-1
+     * @since v3.5.0
+     */
+    public static short getCellDateFormat(Workbook workbook, ColumnAccessor columnAccessor) {
+        if (StringUtils.isBlank(columnAccessor.getDataFormat())) {
+            return -1;
+        }
+        return workbook.createDataFormat().getFormat(columnAccessor.getDataFormat());
+    }
+
     /**
      * @param workbook     工作簿
      * @param cellTypeEnum Excel单元格列类型
@@ -753,6 +986,33 @@ public class ExcelUtils {
         return realValue.toString();
     }
 
+    /**
+     * 获取字段值
+     *
+     * @param columnAccessor 列取值器
+     * @param data           数据对象
+     * @return
+     * @since v3.5.0
+     */
+    private static Object getRealValue(ColumnAccessor columnAccessor, Object data) throws IllegalAccessException {
+        Object realValue = columnAccessor.getValue(data);
+        if (realValue == null) {
+            return realValue;
+        }
+
+        if (realValue instanceof java.util.Date) {
+            // 注：优先使用@ExcelCell注解中format指定的格式，然后使用cellType指定的字段类型，如果都未指定则取默认格式
+            return columnAccessor.formatDate((Date) realValue);
+        } else if (realValue instanceof BigDecimal) {
+            return realValue;
+        } else if (realValue instanceof Float || realValue instanceof Double) {
+            return new BigDecimal(realValue.toString());
+        } else if (realValue instanceof Byte || realValue instanceof Short || realValue instanceof Integer || realValue instanceof Long) {
+            return BigDecimal.valueOf(((Number) realValue).longValue());
+        }
+        return realValue.toString();
+    }
+
     /**
      * 获取实际字段值(日期格式)
      *
@@ -876,7 +1136,7 @@ public class ExcelUtils {
      *
      * @param workbook             工作簿
      * @param sheet                目标sheet
-     * @param columnTitle          字段标题
+     * @param columnTitle          字段标题。注：v3.5.0起下拉列表按内容共享隐藏sheet，不再按字段标题创建隐藏sheet
      * @param columnValidationData 字段下拉列表：Excel验证数据
      * @param firstRow             开始行，从1开始
      * @param lastRow              结束行，不能小于开始行
@@ -903,33 +1163,11 @@ public class ExcelUtils {
             return setSmallValidation(sheet, columnValidationData, firstRow, lastRow, firstCol, lastCol);
         }
         // 参考地址：https://www.cnblogs.com/zouhao/p/11346243.html
-        // 创建sheet，写入枚举项
-        // 隐藏sheet特殊字符处理
-        String prefixName = StringUtils.replaceEach(columnTitle, new String[] {
-                "-", "/", "\\", "?", "*", "[", "]", ":"
-        }, new String[] {
-                "", "", "", "", "", "", "", ""
-        });
-        // 已经创建了隐藏sheet，直接使用原来的就行
-        Sheet hideSheet = workbook.getSheet(prefixName + "_hiddenSheet");
-        if (hideSheet != null) {
-            return sheet;
-        }
-        hideSheet = workbook.createSheet(prefixName + "_hiddenSheet");
-        for (int i = 0; i < columnValidationData.length; i++) {
-            hideSheet.createRow(i).createCell(0).setCellValue(columnValidationData[i]);
-        }
-        // 创建名称，可被其他单元格引用
-        Name categoryName = workbook.createName();
-        categoryName.setNameName(prefixName + "_hidden");
-        // 设置名称引用的公式
-        // 使用像'A1：B1'这样的相对值会导致在Microsoft Excel中使用工作簿时名称所指向的单元格的意外移动，
-        // 通常使用绝对引用，例如'$A$1:$B$1'可以避免这种情况。
-        // 参考： http://poi.apache.org/apidocs/dev/org/apache/poi/ss/usermodel/Name.html
-        categoryName.setRefersToFormula(prefixName + "_hiddenSheet!" + "$A$1:$A$" + columnValidationData.length);
+        // [v3.5.0]下拉列表数据统一写入工作簿的隐藏sheet，内容相同的下拉列表只写入一次，通过名称引用
+        String listName = ValidationListRegistry.getListName(workbook, columnValidationData);
         // 获取上文名称内数据
         DataValidationHelper helper = sheet.getDataValidationHelper();
-        DataValidationConstraint constraint = helper.createFormulaListConstraint(prefixName + "_hidden");
+        DataValidationConstraint constraint = helper.createFormulaListConstraint(listName);
         // 设置下拉框位置
         CellRangeAddressList addressList = new CellRangeAddressList(firstRow, lastRow, firstCol, lastCol);
         DataValidation dataValidation = helper.createValidation(constraint, addressList);
@@ -943,8 +1181,6 @@ public class ExcelUtils {
         }
         // 作用在目标sheet上
         sheet.addValidationData(dataValidation);
-        // 设置hiddenSheet隐藏
-        workbook.setSheetHidden(workbook.getSheetIndex(hideSheet), true);
         return sheet;
     }
 
@@ -1005,13 +1241,11 @@ public class ExcelUtils {
             Workbook workbook = create(inputStream);
 
             for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
-                Sheet sheet = workbook.getSheetAt(i);
                 // 检查sheet是否隐藏，如果是则不读取数据
-                if (sheet == null || StringUtils.contains(sheet.getSheetName(), "hiddenSheet") || workbook.isSheetHidden(i) || workbook.isSheetVeryHidden(i)) {
-                    LOGGER.warn("sheetName={} 该sheet页为隐藏sheet，不读取该sheet页数据！", sheet.getSheetName());
+                if (isHiddenSheet(workbook, i)) {
                     continue;
                 }
-                resultList.addAll(getSheetData(workbook, sheet, clazz, columns, startRow));
+                resultList.addAll(getSheetData(workbook, workbook.getSheetAt(i), clazz, columns, startRow));
             }
         } catch (Exception e) {
             LOGGER.error(e.getMessage(), e);
@@ -1020,6 +1254,113 @@ public class ExcelUtils {
         return resultList;
     }
 
+    /**
+     * 并行导入数据：每个sheet由executor中的一个任务单独读取，结果按sheet、行的顺序合并
+     *
+     * <pre>
+     * 1. POI的Workbook不是线程安全的，不能多个线程读取同一个Workbook。“.xlsx”文件先写入临时文件，压缩包、共享字符串表、样式表只解析一次，
+     *    每个任务只基于SAX解析自己sheet的XML并转换为目标对象，见 {@link XlsxStreamingReader#read(File, Executor)}，内存占用不随sheet数倍增
+     * 2. “.xls”文件的sheet共用同一个记录流，无法按sheet拆分解析，只创建一次Workbook后按顺序读取，与 {@link #importData(InputStream, Class, String[], int)} 一致
+     * 3. executor由调用方提供，同时解析的sheet个数由executor的线程数决定，建议使用有界线程池
+     * 4. 多个sheet读取失败时，抛出sheet顺序最靠前的错误，错误信息与 {@link #importData(InputStream, Class, String[], int)} 一致；
+     *    出错后其余任务在下一行处停止解析（CompletableFuture.cancel 不会中断正在执行的任务，这里通过标记通知任务停止）
+     * 5. “.xlsx”文件按单元格缓存值读取，公式单元格不重新计算，类型转换规则与流式导入 {@link #importData(InputStream, Class, String[], int, int, Consumer)} 一致
+     * </pre>
+     *
+     * @param inputStream 输入流
+     * @param clazz       返回结果类
+     * @param columns     读取字段
+     * @param startRow    开始读取数据行，从0开始
+     * @param executor    读取sheet数据的线程池
+     * @since v3.5.0
+     */
+    public static <T> List<T> importData(InputStream inputStream, Class<T> clazz, String[] columns, int startRow, Executor executor) throws Exception {
+        Assert.notNull(inputStream, "inputStream must not be null");
+        Assert.notNull(clazz, "clazz must not be null");
+        Assert.notNull(executor, "executor must not be null");
+
+        InputStream magicInputStream = FileMagic.prepareToCheckMagic(inputStream);
+        if (FileMagic.valueOf(magicInputStream) != FileMagic.OOXML) {
+            return importData(magicInputStream, clazz, columns, startRow);
+        }
+
+        File tempFile = File.createTempFile("poi-sax-", ".xlsx");
+        try {
+            // 解析需要读取的字段，如果 columns 为空，就以 clazz 类中 @ExcelCell 注解标记的字段为准
+            String[] realColumns = transformRealColumns(clazz, columns);
+            Assert.notEmpty(realColumns, "columns must not be empty");
+
+            FileUtils.copyInputStreamToFile(magicInputStream, tempFile);
+            return new XlsxStreamingReader<>(clazz, realColumns, startRow).read(tempFile, executor);
+        } catch (Exception e) {
+            LOGGER.error(e.getMessage(), e);
+            throw e;
+        } finally {
+            if (!tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * 检查sheet是否隐藏
+     *
+     * @param workbook   工作簿
+     * @param sheetIndex sheet索引
+     * @return 隐藏sheet返回true
+     */
+    private static boolean isHiddenSheet(Workbook workbook, int sheetIndex) {
+        Sheet sheet = workbook.getSheetAt(sheetIndex);
+        if (sheet == null || StringUtils.contains(sheet.getSheetName(), "hiddenSheet") || workbook.isSheetHidden(sheetIndex) || workbook.isSheetVeryHidden(sheetIndex)) {
+            LOGGER.warn("sheetName={} 该sheet页为隐藏sheet，不读取该sheet页数据！", sheet != null ? sheet.getSheetName() : null);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 流式导入数据（仅支持“.xlsx”文件）：基于SAX事件逐行解析，不会把整个工作簿加载到内存中，读取到的数据按批次交给consumer处理
+     *
+     * @param inputStream 输入流
+     * @param clazz       返回结果类
+     * @param columns     读取字段
+     * @param startRow    开始读取数据行，从0开始
+     * @param batchSize   每批次数据行数
+     * @param consumer    批次数据处理
+     * @return 读取的数据行数
+     * @since v3.5.0
+     */
+    public static <T> long importData(InputStream inputStream, Class<T> clazz, String[] columns, int startRow, int batchSize, Consumer<List<T>> consumer) throws Exception {
+        Assert.notNull(inputStream, "inputStream must not be null");
+        return createStreamingReader(clazz, columns, startRow, batchSize, consumer).read(inputStream);
+    }
+
+    /**
+     * 流式导入数据（仅支持“.xlsx”文件）：基于SAX事件逐行解析，不会把整个工作簿加载到内存中，读取到的数据按批次交给consumer处理
+     *
+     * @param file      目标文件
+     * @param clazz     返回结果类
+     * @param columns   读取字段
+     * @param startRow  开始读取数据行，从0开始
+     * @param batchSize 每批次数据行数
+     * @param consumer  批次数据处理
+     * @return 读取的数据行数
+     * @since v3.5.0
+     */
+    public static <T> long importData(File file, Class<T> clazz, String[] columns, int startRow, int batchSize, Consumer<List<T>> consumer) throws Exception {
+        Assert.notNull(file, "file must not be null");
+        return createStreamingReader(clazz, columns, startRow, batchSize, consumer).read(file);
+    }
+
+    private static <T> XlsxStreamingReader<T> createStreamingReader(Class<T> clazz, String[] columns, int startRow, int batchSize, Consumer<List<T>> consumer) {
+        Assert.notNull(clazz, "clazz must not be null");
+        Assert.notNull(consumer, "consumer must not be null");
+        // 解析需要读取的字段，如果 columns 为空，就以 clazz 类中 @ExcelCell 注解标记的字段为准
+        columns = transformRealColumns(clazz, columns);
+        Assert.notEmpty(columns, "columns must not be empty");
+        return new XlsxStreamingReader<>(clazz, columns, startRow, batchSize, consumer);
+    }
+
     /**
      * 读取类字段上面的ExcelCell注解，并转换为ExcelCellField对象
      *
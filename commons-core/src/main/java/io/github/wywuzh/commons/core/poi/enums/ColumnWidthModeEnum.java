@@ -0,0 +1,32 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi.enums;
+
+/**
+ * 类ColumnWidthModeEnum的实现描述：导出时列宽的计算方式（未设置列的长度时生效）
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 13:42:10
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public enum ColumnWidthModeEnum {
+
+    EXACT, // 精确计算：每一行数据都参与列宽计算
+    SAMPLED, // 抽样计算：前N行 + 后续行的蓄水池抽样参与列宽计算
+    DISABLED, // 不计算：列宽只按标题计算
+    ;
+
+}
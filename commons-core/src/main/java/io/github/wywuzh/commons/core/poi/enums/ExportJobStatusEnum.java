@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi.enums;
+
+/**
+ * 类ExportJobStatusEnum的实现描述：导出任务状态
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 15:31:08
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public enum ExportJobStatusEnum {
+
+    WAITING, // 等待执行
+    RUNNING, // 执行中
+    SUCCESS, // 导出成功，可下载
+    FAILED, // 导出失败
+    CANCELLED, // 已取消
+    ;
+
+    /**
+     * @return 任务是否已结束
+     */
+    public boolean isDone() {
+        return this == SUCCESS || this == FAILED || this == CANCELLED;
+    }
+
+}
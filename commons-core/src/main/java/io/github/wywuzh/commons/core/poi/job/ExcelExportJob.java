@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi.job;
+
+import java.io.File;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.github.wywuzh.commons.core.poi.enums.ExportJobStatusEnum;
+
+/**
+ * 类ExcelExportJob的实现描述：Excel异步导出任务
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 15:36:52
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class ExcelExportJob {
+
+    /**
+     * 任务ID
+     */
+    private final String jobId;
+    /**
+     * 导出文件名，包含文件后缀
+     */
+    private final String fileName;
+    /**
+     * 导出的临时文件
+     */
+    private final File file;
+    /**
+     * 数据总行数，数据来源为 dataColl 时才有值
+     */
+    private final Long totalRows;
+    /**
+     * 已写入的数据行数
+     */
+    private final AtomicLong rowsWritten = new AtomicLong();
+    private final AtomicReference<ExportJobStatusEnum> status = new AtomicReference<>(ExportJobStatusEnum.WAITING);
+    private final Date createTime = new Date();
+    private volatile Date finishTime;
+    /**
+     * 导出失败的异常信息
+     */
+    private volatile Throwable error;
+    private volatile Future<?> future;
+
+    ExcelExportJob(String jobId, String fileName, File file, Long totalRows) {
+        this.jobId = jobId;
+        this.fileName = fileName;
+        this.file = file;
+        this.totalRows = totalRows;
+    }
+
+    /**
+     * 包装数据迭代器：每取出一行数据累计一次写入行数，任务取消后中断写入
+     */
+    <T> Iterator<T> track(Iterator<T> iterator) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                if (status.get() == ExportJobStatusEnum.CANCELLED || Thread.currentThread().isInterrupted()) {
+                    throw new CancellationException("导出任务[" + jobId + "]已取消");
+                }
+                return iterator.hasNext();
+            }
+
+            @Override
+            public T next() {
+                T data = iterator.next();
+                rowsWritten.incrementAndGet();
+                return data;
+            }
+        };
+    }
+
+    boolean start() {
+        return status.compareAndSet(ExportJobStatusEnum.WAITING, ExportJobStatusEnum.RUNNING);
+    }
+
+    void success() {
+        if (status.compareAndSet(ExportJobStatusEnum.RUNNING, ExportJobStatusEnum.SUCCESS)) {
+            finishTime = new Date();
+        }
+    }
+
+    void fail(Throwable error) {
+        if (status.compareAndSet(ExportJobStatusEnum.RUNNING, ExportJobStatusEnum.FAILED)) {
+            this.error = error;
+            finishTime = new Date();
+        }
+    }
+
+    /**
+     * 取消任务，只有等待执行、执行中的任务可以取消
+     *
+     * @return 取消成功返回true
+     */
+    boolean cancel() {
+        ExportJobStatusEnum current = status.get();
+        while (!current.isDone()) {
+            if (status.compareAndSet(current, ExportJobStatusEnum.CANCELLED)) {
+                finishTime = new Date();
+                Future<?> future = this.future;
+                if (future != null) {
+                    future.cancel(true);
+                }
+                return true;
+            }
+            current = status.get();
+        }
+        return false;
+    }
+
+    void setFuture(Future<?> future) {
+        this.future = future;
+    }
+
+    public String getJobId() {
+        return jobId;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public File getFile() {
+        return file;
+    }
+
+    public Long getTotalRows() {
+        return totalRows;
+    }
+
+    public long getRowsWritten() {
+        return rowsWritten.get();
+    }
+
+    /**
+     * @return 导出进度，取值范围[0, 100]。数据总行数未知时，导出成功返回100，否则返回-1
+     */
+    public int getProgress() {
+        if (getStatus() == ExportJobStatusEnum.SUCCESS) {
+            return 100;
+        }
+        if (totalRows == null || totalRows <= 0) {
+            return -1;
+        }
+        return (int) Math.min(99, rowsWritten.get() * 100 / totalRows);
+    }
+
+    public ExportJobStatusEnum getStatus() {
+        return status.get();
+    }
+
+    public boolean isDone() {
+        return getStatus().isDone();
+    }
+
+    public Date getCreateTime() {
+        return createTime;
+    }
+
+    public Date getFinishTime() {
+        return finishTime;
+    }
+
+    public Throwable getError() {
+        return error;
+    }
+
+}
@@ -0,0 +1,250 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi.job;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.commons.io.FilenameUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import io.github.wywuzh.commons.core.poi.CsvUtils;
+import io.github.wywuzh.commons.core.poi.ExcelUtils;
+import io.github.wywuzh.commons.core.poi.enums.ExportJobStatusEnum;
+import io.github.wywuzh.commons.core.poi.modle.ExcelExportRequest;
+import io.github.wywuzh.commons.core.sequence.UUIDUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 类ExcelExportJobManager的实现描述：Excel异步导出任务管理
+ *
+ * <pre>
+ * 导出请求提交后在有界线程池中执行，数据写入临时文件，请求线程立即返回任务ID。调用方可以：
+ * 1. 通过 {@link #getJob(String)} 查询任务状态、已写入行数和进度
+ * 2. 通过 {@link #cancel(String)} 取消任务，执行中的任务在写入下一行数据前中断
+ * 3. 任务导出成功后，通过 {@link #download(HttpServletRequest, HttpServletResponse, String, boolean)} 下载文件
+ *
+ * 注：线程池、等待队列都已满时提交任务会抛出 {@link RejectedExecutionException}；任务及其临时文件需要调用 {@link #remove(String)} 清理
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 15:48:13
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class ExcelExportJobManager implements AutoCloseable {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExcelExportJobManager.class);
+
+    private final ThreadPoolExecutor executor;
+    /**
+     * 临时文件目录，为空时使用系统临时目录
+     */
+    private final File tempDir;
+    /**
+     * key=任务ID, value=导出任务
+     */
+    private final Map<String, ExcelExportJob> jobMap = new ConcurrentHashMap<>();
+
+    /**
+     * @param threads       同时执行的导出任务数
+     * @param queueCapacity 等待执行的导出任务数
+     */
+    public ExcelExportJobManager(int threads, int queueCapacity) {
+        this(threads, queueCapacity, null);
+    }
+
+    /**
+     * @param threads       同时执行的导出任务数
+     * @param queueCapacity 等待执行的导出任务数
+     * @param tempDir       临时文件目录，为空时使用系统临时目录
+     */
+    public ExcelExportJobManager(int threads, int queueCapacity, File tempDir) {
+        Assert.isTrue(threads > 0, "threads must be greater than 0");
+        Assert.isTrue(queueCapacity > 0, "queueCapacity must be greater than 0");
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "excel-export-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.tempDir = tempDir;
+    }
+
+    /**
+     * 提交导出任务
+     *
+     * @param fileName           导出文件名，注意需要包含文件后缀。“.csv”、“.tsv”（可带“.gz”）后缀使用 {@link CsvUtils} 导出
+     * @param excelExportRequest 导出数据请求条件。注：导出过程中会替换其 dataIterator 用于统计进度
+     * @return 导出任务
+     * @throws IOException                创建临时文件失败
+     * @throws RejectedExecutionException 线程池、等待队列都已满
+     */
+    public ExcelExportJob submit(String fileName, ExcelExportRequest excelExportRequest) throws IOException {
+        Assert.hasText(fileName, "fileName must not be empty");
+        Assert.notNull(excelExportRequest, "excelExportRequest must not be null");
+
+        String jobId = UUIDUtil.getUUID32();
+        File file = File.createTempFile("excel-export-", "." + StringUtils.defaultIfBlank(FilenameUtils.getExtension(fileName), "xlsx"), tempDir);
+        Long totalRows = excelExportRequest.getDataIterator() == null && excelExportRequest.getDataColl() != null ? (long) excelExportRequest.getDataColl().size() : null;
+        ExcelExportJob job = new ExcelExportJob(jobId, fileName, file, totalRows);
+
+        // 包装数据迭代器，用于统计进度、响应取消
+        Iterator<?> iterator = ExcelUtils.getDataIterator(excelExportRequest);
+        if (iterator == null) {
+            iterator = Collections.emptyIterator();
+        }
+        excelExportRequest.setDataIterator(job.track(iterator));
+
+        jobMap.put(jobId, job);
+        try {
+            job.setFuture(executor.submit(() -> execute(job, excelExportRequest)));
+        } catch (RejectedExecutionException e) {
+            jobMap.remove(jobId);
+            deleteQuietly(file);
+            LOGGER.warn("fileName={} 导出任务过多，提交失败！", fileName);
+            throw e;
+        }
+        return job;
+    }
+
+    private void execute(ExcelExportJob job, ExcelExportRequest excelExportRequest) {
+        if (!job.start()) {
+            // 任务在执行前已取消
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        try (OutputStream outputStream = new FileOutputStream(job.getFile())) {
+            if (CsvUtils.isCsvFile(job.getFileName())) {
+                CsvUtils.exportData(outputStream, job.getFileName(), excelExportRequest);
+            } else {
+                ExcelUtils.exportData(outputStream, job.getFileName(), excelExportRequest);
+            }
+            job.success();
+            LOGGER.info("jobId={}, fileName={} 导出完成，数据行数={}，耗时={}ms", job.getJobId(), job.getFileName(), job.getRowsWritten(), System.currentTimeMillis() - startTime);
+        } catch (CancellationException e) {
+            LOGGER.info("jobId={}, fileName={} 导出任务已取消，已写入数据行数={}", job.getJobId(), job.getFileName(), job.getRowsWritten());
+        } catch (Throwable e) {
+            LOGGER.error("jobId={}, fileName={} 导出失败：", job.getJobId(), job.getFileName(), e);
+            job.fail(e);
+        }
+        if (job.getStatus() != ExportJobStatusEnum.SUCCESS) {
+            deleteQuietly(job.getFile());
+        }
+    }
+
+    /**
+     * @param jobId 任务ID
+     * @return 导出任务，不存在时返回null
+     */
+    public ExcelExportJob getJob(String jobId) {
+        return jobMap.get(jobId);
+    }
+
+    /**
+     * @return 所有导出任务
+     */
+    public List<ExcelExportJob> getJobs() {
+        return new ArrayList<>(jobMap.values());
+    }
+
+    /**
+     * 取消导出任务
+     *
+     * @param jobId 任务ID
+     * @return 取消成功返回true，任务不存在或已结束返回false
+     */
+    public boolean cancel(String jobId) {
+        ExcelExportJob job = jobMap.get(jobId);
+        return job != null && job.cancel();
+    }
+
+    /**
+     * 移除导出任务并删除临时文件，执行中的任务会先取消
+     *
+     * @param jobId 任务ID
+     */
+    public void remove(String jobId) {
+        ExcelExportJob job = jobMap.remove(jobId);
+        if (job != null) {
+            job.cancel();
+            deleteQuietly(job.getFile());
+        }
+    }
+
+    /**
+     * 下载导出成功的文件
+     *
+     * @param request
+     * @param response
+     * @param jobId               任务ID
+     * @param removeAfterDownload 下载完成后是否移除任务、删除临时文件
+     * @throws IllegalStateException 任务不存在或未导出成功
+     */
+    public void download(HttpServletRequest request, HttpServletResponse response, String jobId, boolean removeAfterDownload) throws IOException {
+        ExcelExportJob job = jobMap.get(jobId);
+        if (job == null || job.getStatus() != ExportJobStatusEnum.SUCCESS) {
+            throw new IllegalStateException("导出任务[" + jobId + "]不存在或未导出成功");
+        }
+        response.reset();
+        // [v3.5.0] CSV/TSV文件需要按文件后缀设置Content-Type
+        if (CsvUtils.isCsvFile(job.getFileName())) {
+            CsvUtils.setDownloadHeader(request, response, job.getFileName());
+        } else {
+            ExcelUtils.setDownloadHeader(request, response, job.getFileName());
+        }
+        response.setContentLengthLong(job.getFile().length());
+        try (OutputStream outputStream = response.getOutputStream()) {
+            Files.copy(job.getFile().toPath(), outputStream);
+            outputStream.flush();
+        }
+        if (removeAfterDownload) {
+            remove(jobId);
+        }
+    }
+
+    /**
+     * 关闭线程池，取消所有任务并删除临时文件
+     */
+    @Override
+    public void close() {
+        executor.shutdownNow();
+        for (String jobId : new ArrayList<>(jobMap.keySet())) {
+            remove(jobId);
+        }
+    }
+
+    private static void deleteQuietly(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            LOGGER.warn("file={} 临时文件删除失败：", file, e);
+        }
+    }
+
+}
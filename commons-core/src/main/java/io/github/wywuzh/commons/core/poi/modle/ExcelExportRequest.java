@@ -17,8 +17,12 @@ package io.github.wywuzh.commons.core.poi.modle;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
+
+import io.github.wywuzh.commons.core.poi.enums.ColumnWidthModeEnum;
 
 /**
  * 类ExcelRequest的实现描述：导出请求数据
@@ -64,6 +68,13 @@ public class ExcelExportRequest implements Serializable {
      * 请求数据
      */
     private Collection<?> dataColl;
+    /**
+     * 按需拉取的请求数据，不为空时优先于 dataColl 使用。注：迭代器只能遍历一次
+     *
+     * @see io.github.wywuzh.commons.core.util.PageIterator
+     * @since v3.5.0
+     */
+    private transient Iterator<?> dataIterator;
     /**
      * 提示信息。注意：该信息不为空时，会占据第一行，标题行会变为第二行
      *
@@ -71,6 +82,44 @@ public class ExcelExportRequest implements Serializable {
      */
     private String tips;
 
+    /**
+     * 是否启用流式导出（SXSSF）。启用后数据行写入磁盘临时文件，内存中只保留 rowAccessWindowSize 行，仅对“.xlsx”文件生效
+     *
+     * @since v3.5.0
+     */
+    private boolean streaming;
+    /**
+     * 流式导出时内存中保留的行数，为空时取默认值
+     *
+     * @since v3.5.0
+     */
+    private Integer rowAccessWindowSize;
+    /**
+     * 每个sheet最多写入的数据行数（不含标题行、提示信息行），超出后自动创建新的sheet继续写入，为空时取默认值
+     *
+     * @since v3.5.0
+     */
+    private Integer maxRowsPerSheet;
+
+    /**
+     * 列宽的计算方式，未设置列的长度时生效，为空时为精确计算
+     *
+     * @since v3.5.0
+     */
+    private ColumnWidthModeEnum columnWidthMode;
+    /**
+     * 列宽抽样计算时，全部参与计算的前N行，为空时取默认值
+     *
+     * @since v3.5.0
+     */
+    private Integer columnWidthSampleRows;
+    /**
+     * 列宽抽样计算时，后续数据行的蓄水池大小，为空时取默认值
+     *
+     * @since v3.5.0
+     */
+    private Integer columnWidthReservoirSize;
+
     public ExcelExportRequest() {
     }
 
@@ -138,6 +187,24 @@ public class ExcelExportRequest implements Serializable {
         this.dataColl = dataColl;
     }
 
+    public Iterator<?> getDataIterator() {
+        return dataIterator;
+    }
+
+    public void setDataIterator(Iterator<?> dataIterator) {
+        this.dataIterator = dataIterator;
+    }
+
+    /**
+     * 设置按需拉取的请求数据。注：Stream的关闭由调用方负责
+     *
+     * @param dataStream 请求数据
+     * @since v3.5.0
+     */
+    public void setDataStream(Stream<?> dataStream) {
+        this.dataIterator = dataStream != null ? dataStream.iterator() : null;
+    }
+
     public String getTips() {
         return tips;
     }
@@ -146,4 +213,52 @@ public class ExcelExportRequest implements Serializable {
         this.tips = tips;
     }
 
+    public boolean isStreaming() {
+        return streaming;
+    }
+
+    public void setStreaming(boolean streaming) {
+        this.streaming = streaming;
+    }
+
+    public Integer getRowAccessWindowSize() {
+        return rowAccessWindowSize;
+    }
+
+    public void setRowAccessWindowSize(Integer rowAccessWindowSize) {
+        this.rowAccessWindowSize = rowAccessWindowSize;
+    }
+
+    public Integer getMaxRowsPerSheet() {
+        return maxRowsPerSheet;
+    }
+
+    public void setMaxRowsPerSheet(Integer maxRowsPerSheet) {
+        this.maxRowsPerSheet = maxRowsPerSheet;
+    }
+
+    public ColumnWidthModeEnum getColumnWidthMode() {
+        return columnWidthMode;
+    }
+
+    public void setColumnWidthMode(ColumnWidthModeEnum columnWidthMode) {
+        this.columnWidthMode = columnWidthMode;
+    }
+
+    public Integer getColumnWidthSampleRows() {
+        return columnWidthSampleRows;
+    }
+
+    public void setColumnWidthSampleRows(Integer columnWidthSampleRows) {
+        this.columnWidthSampleRows = columnWidthSampleRows;
+    }
+
+    public Integer getColumnWidthReservoirSize() {
+        return columnWidthReservoirSize;
+    }
+
+    public void setColumnWidthReservoirSize(Integer columnWidthReservoirSize) {
+        this.columnWidthReservoirSize = columnWidthReservoirSize;
+    }
+
 }
@@ -0,0 +1,423 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi.style;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+
+import org.apache.poi.common.usermodel.fonts.FontCharset;
+import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+
+/**
+ * 类CellStyleRegistry的实现描述：工作簿级别的单元格样式注册表
+ *
+ * <pre>
+ * 按样式属性（字体、边框、对齐方式、填充、数据格式、保护等）对单元格样式去重，同一工作簿中属性相同的样式只创建一次。
+ * 工作簿中单元格样式数量有上限（.xlsx为64000个），多个sheet、多列重复创建样式时，容易超出上限并拖慢保存速度。
+ *
+ * 注：
+ * 1. 注册表中只保存样式、字体在工作簿中的索引，不持有工作簿对象，工作簿被回收后注册表也会一起被回收
+ * 2. 注册表返回的样式是共享的，不能再修改其属性，需要不同的属性时应重新通过注册表获取
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 14:21:37
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class CellStyleRegistry {
+
+    /**
+     * key=工作簿, value=注册表
+     */
+    private static final Map<Workbook, CellStyleRegistry> REGISTRY_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * key=样式属性, value=样式索引
+     */
+    private final Map<CellStyleKey, Integer> cellStyleIndexMap = new HashMap<>();
+    /**
+     * key=字体属性, value=字体索引
+     */
+    private final Map<FontKey, Integer> fontIndexMap = new HashMap<>();
+
+    private CellStyleRegistry() {
+    }
+
+    /**
+     * 获取工作簿中属性相同的样式，不存在时创建
+     *
+     * @param workbook 工作簿
+     * @param key      样式属性
+     * @return 单元格样式
+     */
+    public static CellStyle getCellStyle(Workbook workbook, CellStyleKey key) {
+        CellStyleRegistry registry = REGISTRY_CACHE.computeIfAbsent(workbook, k -> new CellStyleRegistry());
+        synchronized (registry) {
+            Integer index = registry.cellStyleIndexMap.get(key);
+            if (index != null) {
+                return workbook.getCellStyleAt(index);
+            }
+            CellStyle cellStyle = registry.createCellStyle(workbook, key);
+            // 注：key需要使用副本，避免调用方修改后影响缓存
+            registry.cellStyleIndexMap.put(key.copy(), (int) cellStyle.getIndex());
+            return cellStyle;
+        }
+    }
+
+    /**
+     * 获取在基础样式上替换数据格式后的样式，不存在时创建
+     *
+     * <pre>
+     * 新样式通过 {@link CellStyle#cloneStyleFrom(CellStyle)} 复制基础样式，“.xlsx”的RGB/主题色、字体字符集等 {@link CellStyleKey} 中没有的属性也会保留；
+     * 去重时除基础属性外，还会比较XSSF颜色，见 {@link CellStyleKey#of(Workbook, CellStyle)}
+     * </pre>
+     *
+     * @param workbook   工作簿
+     * @param baseStyle  基础样式
+     * @param dataFormat 数据格式索引
+     * @return 单元格样式
+     */
+    public static CellStyle getCellStyle(Workbook workbook, CellStyle baseStyle, short dataFormat) {
+        CellStyleKey key = CellStyleKey.of(workbook, baseStyle).dataFormat(dataFormat);
+        CellStyleRegistry registry = REGISTRY_CACHE.computeIfAbsent(workbook, k -> new CellStyleRegistry());
+        synchronized (registry) {
+            Integer index = registry.cellStyleIndexMap.get(key);
+            if (index != null) {
+                return workbook.getCellStyleAt(index);
+            }
+            CellStyle cellStyle = workbook.createCellStyle();
+            cellStyle.cloneStyleFrom(baseStyle);
+            cellStyle.setDataFormat(dataFormat);
+            registry.cellStyleIndexMap.put(key, (int) cellStyle.getIndex());
+            return cellStyle;
+        }
+    }
+
+    private CellStyle createCellStyle(Workbook workbook, CellStyleKey key) {
+        CellStyle cellStyle = workbook.createCellStyle();
+        cellStyle.setAlignment(key.alignment);
+        cellStyle.setVerticalAlignment(key.verticalAlignment);
+        cellStyle.setBorderTop(key.borderTop);
+        cellStyle.setBorderRight(key.borderRight);
+        cellStyle.setBorderBottom(key.borderBottom);
+        cellStyle.setBorderLeft(key.borderLeft);
+        if (key.topBorderColor != IndexedColors.AUTOMATIC.getIndex()) {
+            cellStyle.setTopBorderColor(key.topBorderColor);
+        }
+        if (key.rightBorderColor != IndexedColors.AUTOMATIC.getIndex()) {
+            cellStyle.setRightBorderColor(key.rightBorderColor);
+        }
+        if (key.bottomBorderColor != IndexedColors.AUTOMATIC.getIndex()) {
+            cellStyle.setBottomBorderColor(key.bottomBorderColor);
+        }
+        if (key.leftBorderColor != IndexedColors.AUTOMATIC.getIndex()) {
+            cellStyle.setLeftBorderColor(key.leftBorderColor);
+        }
+        if (key.fillForegroundColor != IndexedColors.AUTOMATIC.getIndex()) {
+            cellStyle.setFillForegroundColor(key.fillForegroundColor);
+        }
+        if (key.fillBackgroundColor != IndexedColors.AUTOMATIC.getIndex()) {
+            cellStyle.setFillBackgroundColor(key.fillBackgroundColor);
+        }
+        cellStyle.setFillPattern(key.fillPattern);
+        cellStyle.setWrapText(key.wrapText);
+        cellStyle.setShrinkToFit(key.shrinkToFit);
+        cellStyle.setRotation(key.rotation);
+        cellStyle.setIndention(key.indention);
+        cellStyle.setLocked(key.locked);
+        cellStyle.setHidden(key.hidden);
+        cellStyle.setDataFormat(key.dataFormat);
+        if (key.font != null) {
+            cellStyle.setFont(getFont(workbook, key.font));
+        }
+        return cellStyle;
+    }
+
+    private Font getFont(Workbook workbook, FontKey key) {
+        Integer index = fontIndexMap.get(key);
+        if (index != null) {
+            return workbook.getFontAt(index);
+        }
+        Font font = workbook.createFont();
+        font.setFontName(key.fontName);
+        font.setFontHeightInPoints(key.fontHeightInPoints);
+        font.setColor(key.color);
+        font.setBold(key.bold);
+        font.setItalic(key.italic);
+        font.setUnderline(key.underline);
+        font.setStrikeout(key.strikeout);
+        if (key.charset != FontCharset.ANSI.getNativeId()) {
+            font.setCharSet(key.charset);
+        }
+        fontIndexMap.put(key, (int) font.getIndex());
+        return font;
+    }
+
+    /**
+     * 类CellStyleKey的实现描述：单元格样式属性，默认值与 {@link Workbook#createCellStyle()} 一致
+     */
+    public static class CellStyleKey {
+        private HorizontalAlignment alignment = HorizontalAlignment.GENERAL;
+        private VerticalAlignment verticalAlignment = VerticalAlignment.BOTTOM;
+        private BorderStyle borderTop = BorderStyle.NONE;
+        private BorderStyle borderRight = BorderStyle.NONE;
+        private BorderStyle borderBottom = BorderStyle.NONE;
+        private BorderStyle borderLeft = BorderStyle.NONE;
+        private short topBorderColor = IndexedColors.AUTOMATIC.getIndex();
+        private short rightBorderColor = IndexedColors.AUTOMATIC.getIndex();
+        private short bottomBorderColor = IndexedColors.AUTOMATIC.getIndex();
+        private short leftBorderColor = IndexedColors.AUTOMATIC.getIndex();
+        private FillPatternType fillPattern = FillPatternType.NO_FILL;
+        private short fillForegroundColor = IndexedColors.AUTOMATIC.getIndex();
+        private short fillBackgroundColor = IndexedColors.AUTOMATIC.getIndex();
+        private boolean wrapText;
+        private boolean shrinkToFit;
+        private short rotation;
+        private short indention;
+        private boolean locked = true;
+        private boolean hidden;
+        private short dataFormat;
+        /**
+         * 字体，为空时使用工作簿默认字体
+         */
+        private FontKey font;
+        /**
+         * “.xlsx”样式的XSSF颜色（填充前景色/背景色、上右下左边框色、字体颜色），只用于去重，不参与创建样式
+         */
+        private List<String> xssfColors;
+
+        /**
+         * 读取已有样式的属性，“.xlsx”样式还会读取XSSF颜色（RGB/主题色）
+         *
+         * @param workbook  工作簿
+         * @param cellStyle 已有样式
+         * @return 样式属性
+         */
+        public static CellStyleKey of(Workbook workbook, CellStyle cellStyle) {
+            Font font = workbook.getFontAt(cellStyle.getFontIndex());
+            CellStyleKey key = new CellStyleKey();
+            if (cellStyle instanceof XSSFCellStyle) {
+                XSSFCellStyle xssfCellStyle = (XSSFCellStyle) cellStyle;
+                key.xssfColors = Arrays.asList(colorKey(xssfCellStyle.getFillForegroundXSSFColor()), colorKey(xssfCellStyle.getFillBackgroundXSSFColor()),
+                        colorKey(xssfCellStyle.getTopBorderXSSFColor()), colorKey(xssfCellStyle.getRightBorderXSSFColor()), colorKey(xssfCellStyle.getBottomBorderXSSFColor()),
+                        colorKey(xssfCellStyle.getLeftBorderXSSFColor()), colorKey(xssfCellStyle.getFont().getXSSFColor()));
+            }
+            return key.alignment(cellStyle.getAlignment())
+                    .verticalAlignment(cellStyle.getVerticalAlignment())
+                    .border(cellStyle.getBorderTop(), cellStyle.getBorderRight(), cellStyle.getBorderBottom(), cellStyle.getBorderLeft())
+                    .borderColor(cellStyle.getTopBorderColor(), cellStyle.getRightBorderColor(), cellStyle.getBottomBorderColor(), cellStyle.getLeftBorderColor())
+                    .fill(cellStyle.getFillPattern(), cellStyle.getFillForegroundColor(), cellStyle.getFillBackgroundColor())
+                    .wrapText(cellStyle.getWrapText())
+                    .shrinkToFit(cellStyle.getShrinkToFit())
+                    .rotation(cellStyle.getRotation())
+                    .indention(cellStyle.getIndention())
+                    .protection(cellStyle.getLocked(), cellStyle.getHidden())
+                    .dataFormat(cellStyle.getDataFormat())
+                    .font(cellStyle.getFontIndex() == 0 ? null
+                            : new FontKey(font.getFontName(), font.getFontHeightInPoints(), font.getColor(), font.getBold(), font.getItalic(), font.getUnderline(),
+                                    font.getStrikeout(), font.getCharSet()));
+        }
+
+        private static String colorKey(XSSFColor color) {
+            if (color == null) {
+                return null;
+            }
+            if (color.isThemed()) {
+                return "theme:" + color.getTheme() + ":" + color.getTint();
+            }
+            if (color.isRGB()) {
+                return "rgb:" + color.getARGBHex() + ":" + color.getTint();
+            }
+            return "indexed:" + color.getIndexed() + ":" + color.getTint();
+        }
+
+        public CellStyleKey alignment(HorizontalAlignment alignment) {
+            this.alignment = alignment;
+            return this;
+        }
+
+        public CellStyleKey verticalAlignment(VerticalAlignment verticalAlignment) {
+            this.verticalAlignment = verticalAlignment;
+            return this;
+        }
+
+        public CellStyleKey border(BorderStyle borderTop, BorderStyle borderRight, BorderStyle borderBottom, BorderStyle borderLeft) {
+            this.borderTop = borderTop;
+            this.borderRight = borderRight;
+            this.borderBottom = borderBottom;
+            this.borderLeft = borderLeft;
+            return this;
+        }
+
+        public CellStyleKey borderColor(short topBorderColor, short rightBorderColor, short bottomBorderColor, short leftBorderColor) {
+            this.topBorderColor = topBorderColor;
+            this.rightBorderColor = rightBorderColor;
+            this.bottomBorderColor = bottomBorderColor;
+            this.leftBorderColor = leftBorderColor;
+            return this;
+        }
+
+        public CellStyleKey fill(FillPatternType fillPattern, short fillForegroundColor, short fillBackgroundColor) {
+            this.fillPattern = fillPattern;
+            this.fillForegroundColor = fillForegroundColor;
+            this.fillBackgroundColor = fillBackgroundColor;
+            return this;
+        }
+
+        public CellStyleKey wrapText(boolean wrapText) {
+            this.wrapText = wrapText;
+            return this;
+        }
+
+        public CellStyleKey shrinkToFit(boolean shrinkToFit) {
+            this.shrinkToFit = shrinkToFit;
+            return this;
+        }
+
+        public CellStyleKey rotation(short rotation) {
+            this.rotation = rotation;
+            return this;
+        }
+
+        public CellStyleKey indention(short indention) {
+            this.indention = indention;
+            return this;
+        }
+
+        /**
+         * @param locked 工作表保护时是否锁定单元格
+         * @param hidden 工作表保护时是否隐藏公式
+         */
+        public CellStyleKey protection(boolean locked, boolean hidden) {
+            this.locked = locked;
+            this.hidden = hidden;
+            return this;
+        }
+
+        public CellStyleKey dataFormat(short dataFormat) {
+            this.dataFormat = dataFormat;
+            return this;
+        }
+
+        public CellStyleKey font(FontKey font) {
+            this.font = font;
+            return this;
+        }
+
+        CellStyleKey copy() {
+            CellStyleKey key = new CellStyleKey();
+            key.xssfColors = xssfColors;
+            return key.alignment(alignment)
+                    .verticalAlignment(verticalAlignment)
+                    .border(borderTop, borderRight, borderBottom, borderLeft)
+                    .borderColor(topBorderColor, rightBorderColor, bottomBorderColor, leftBorderColor)
+                    .fill(fillPattern, fillForegroundColor, fillBackgroundColor)
+                    .wrapText(wrapText)
+                    .shrinkToFit(shrinkToFit)
+                    .rotation(rotation)
+                    .indention(indention)
+                    .protection(locked, hidden)
+                    .dataFormat(dataFormat)
+                    .font(font);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof CellStyleKey)) {
+                return false;
+            }
+            CellStyleKey that = (CellStyleKey) o;
+            return fillForegroundColor == that.fillForegroundColor && fillBackgroundColor == that.fillBackgroundColor && wrapText == that.wrapText && dataFormat == that.dataFormat
+                    && alignment == that.alignment && verticalAlignment == that.verticalAlignment && borderTop == that.borderTop && borderRight == that.borderRight
+                    && borderBottom == that.borderBottom && borderLeft == that.borderLeft && topBorderColor == that.topBorderColor && rightBorderColor == that.rightBorderColor
+                    && bottomBorderColor == that.bottomBorderColor && leftBorderColor == that.leftBorderColor && shrinkToFit == that.shrinkToFit && rotation == that.rotation
+                    && indention == that.indention && locked == that.locked && hidden == that.hidden && fillPattern == that.fillPattern && Objects.equals(font, that.font)
+                    && Objects.equals(xssfColors, that.xssfColors);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(alignment, verticalAlignment, borderTop, borderRight, borderBottom, borderLeft, topBorderColor, rightBorderColor, bottomBorderColor, leftBorderColor,
+                    fillPattern, fillForegroundColor, fillBackgroundColor, wrapText, shrinkToFit, rotation, indention, locked, hidden, dataFormat, font,
+                    xssfColors);
+        }
+    }
+
+    /**
+     * 类FontKey的实现描述：字体属性
+     */
+    public static class FontKey {
+        private final String fontName;
+        private final short fontHeightInPoints;
+        private final short color;
+        private final boolean bold;
+        private final boolean italic;
+        private final byte underline;
+        private final boolean strikeout;
+        /**
+         * 字符集，见 {@link FontCharset}
+         */
+        private final int charset;
+
+        public FontKey(String fontName, short fontHeightInPoints, short color, boolean bold) {
+            this(fontName, fontHeightInPoints, color, bold, false, Font.U_NONE, false);
+        }
+
+        public FontKey(String fontName, short fontHeightInPoints, short color, boolean bold, boolean italic, byte underline, boolean strikeout) {
+            this(fontName, fontHeightInPoints, color, bold, italic, underline, strikeout, FontCharset.ANSI.getNativeId());
+        }
+
+        public FontKey(String fontName, short fontHeightInPoints, short color, boolean bold, boolean italic, byte underline, boolean strikeout, int charset) {
+            this.fontName = fontName;
+            this.fontHeightInPoints = fontHeightInPoints;
+            this.color = color;
+            this.bold = bold;
+            this.italic = italic;
+            this.underline = underline;
+            this.strikeout = strikeout;
+            this.charset = charset;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof FontKey)) {
+                return false;
+            }
+            FontKey that = (FontKey) o;
+            return fontHeightInPoints == that.fontHeightInPoints && color == that.color && bold == that.bold && italic == that.italic && underline == that.underline
+                    && strikeout == that.strikeout && charset == that.charset && Objects.equals(fontName, that.fontName);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(fontName, fontHeightInPoints, color, bold, italic, underline, strikeout, charset);
+        }
+    }
+
+}
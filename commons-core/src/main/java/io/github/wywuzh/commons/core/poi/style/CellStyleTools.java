@@ -347,4 +347,105 @@ public class CellStyleTools {
         return cellStyle;
     }
 
+    // =========================================== 工作簿共享样式 >>> Start ===========================================
+
+    /**
+     * 获取表头列(单元格)样式，同一工作簿中只创建一次。注：返回的样式是共享的，不能修改其属性
+     *
+     * @param workbook 工作簿对象
+     * @return 表头列(单元格)样式
+     * @since v3.5.0
+     */
+    public static CellStyle getHeaderStyle(Workbook workbook) {
+        CellStyleRegistry.CellStyleKey key = cellStyleKey();
+        fillHeaderStyleKey(key, CellStyleTools.getHeaderStyleForFillPatternCode(), CellStyleTools.getHeaderStyleForFillForegroundColor(), CellStyleTools.getHeaderStyleForFillBackgroundColor());
+        key.font(fontKey(Optional.ofNullable(CellStyleTools.getHeaderStyleForFontColor()).orElse(Font.COLOR_NORMAL), true));
+        return CellStyleRegistry.getCellStyle(workbook, key);
+    }
+
+    /**
+     * 获取表头列(单元格)样式：表头提示信息（自动换行），同一工作簿中只创建一次。注：返回的样式是共享的，不能修改其属性
+     *
+     * @param workbook 工作簿对象
+     * @return 表头提示信息样式
+     * @since v3.5.0
+     */
+    public static CellStyle getHeaderStyleForTips(Workbook workbook) {
+        Short fillPatternCode = Optional.ofNullable(CellStyleTools.getHeaderStyleTipsForFillPatternCode()).orElse(FillPatternType.SOLID_FOREGROUND.getCode());
+        Short fillForegroundColor = Optional.ofNullable(CellStyleTools.getHeaderStyleTipsForFillForegroundColor()).orElse(IndexedColors.YELLOW.getIndex());
+        Short fillBackgroundColor = Optional.ofNullable(CellStyleTools.getHeaderStyleTipsForFillBackgroundColor()).orElse(IndexedColors.YELLOW.getIndex());
+        Short fontColor = Optional.ofNullable(CellStyleTools.getHeaderStyleTipsForFontColor()).orElse(Font.COLOR_RED);
+
+        CellStyleRegistry.CellStyleKey key = new CellStyleRegistry.CellStyleKey().alignment(HorizontalAlignment.LEFT)
+                .verticalAlignment(VerticalAlignment.CENTER)
+                .fill(FillPatternType.forInt(fillPatternCode), fillForegroundColor, fillBackgroundColor)
+                .wrapText(true)
+                .font(fontKey(fontColor, true));
+        return CellStyleRegistry.getCellStyle(workbook, key);
+    }
+
+    /**
+     * 获取表头列(单元格)样式：表头必填字段，同一工作簿中只创建一次。注：返回的样式是共享的，不能修改其属性
+     *
+     * @param workbook 工作簿对象
+     * @return 表头必填字段样式
+     * @since v3.5.0
+     */
+    public static CellStyle getHeaderStyleForRequired(Workbook workbook) {
+        CellStyleRegistry.CellStyleKey key = cellStyleKey();
+        fillHeaderStyleKey(key, CellStyleTools.getHeaderStyleRequiredForFillPatternCode(), CellStyleTools.getHeaderStyleRequiredForFillForegroundColor(),
+                CellStyleTools.getHeaderStyleRequiredForFillBackgroundColor());
+        key.font(fontKey(CellStyleTools.getHeaderStyleRequiredForFontColor(), true));
+        return CellStyleRegistry.getCellStyle(workbook, key);
+    }
+
+    /**
+     * 获取内容列(单元格)样式，同一工作簿中只创建一次。注：返回的样式是共享的，不能修改其属性
+     *
+     * @param workbook 工作簿对象
+     * @return 内容列(单元格)样式
+     * @since v3.5.0
+     */
+    public static CellStyle getContentStyle(Workbook workbook) {
+        return CellStyleRegistry.getCellStyle(workbook, cellStyleKey().font(fontKey(Font.COLOR_NORMAL, false)));
+    }
+
+    /**
+     * 获取指定数据格式的数据列(单元格)样式，同一工作簿中只创建一次。注：返回的样式是共享的，不能修改其属性
+     *
+     * @param workbook   工作簿对象
+     * @param dataFormat 数据格式索引
+     * @return 数据列(单元格)样式
+     * @since v3.5.0
+     */
+    public static CellStyle getCellStyle(Workbook workbook, short dataFormat) {
+        return CellStyleRegistry.getCellStyle(workbook, cellStyleKey().dataFormat(dataFormat));
+    }
+
+    /**
+     * 与 {@link #createCellStyle(Workbook)} 一致：内容居中对齐 、垂直居中
+     */
+    private static CellStyleRegistry.CellStyleKey cellStyleKey() {
+        return new CellStyleRegistry.CellStyleKey().alignment(HorizontalAlignment.CENTER).verticalAlignment(VerticalAlignment.CENTER);
+    }
+
+    /**
+     * 与 {@link #createHeaderStyle(Workbook)} 一致：前景色/背景色不为空时，填充方案不可为空
+     */
+    private static void fillHeaderStyleKey(CellStyleRegistry.CellStyleKey key, Short fillPatternCode, Short fillForegroundColor, Short fillBackgroundColor) {
+        FillPatternType fillPattern = FillPatternType.NO_FILL;
+        if (fillPatternCode != null) {
+            fillPattern = FillPatternType.forInt(fillPatternCode);
+        } else if (fillForegroundColor != null || fillBackgroundColor != null) {
+            fillPattern = FillPatternType.SOLID_FOREGROUND;
+        }
+        key.fill(fillPattern, Optional.ofNullable(fillForegroundColor).orElse(IndexedColors.AUTOMATIC.getIndex()), Optional.ofNullable(fillBackgroundColor).orElse(IndexedColors.AUTOMATIC.getIndex()));
+    }
+
+    private static CellStyleRegistry.FontKey fontKey(short color, boolean bold) {
+        return new CellStyleRegistry.FontKey(SystemPropertyUtils.getFontName(), SystemPropertyUtils.getFontHeight(), color, bold);
+    }
+
+    // =========================================== 工作簿共享样式 <<< End ===========================================
+
 }
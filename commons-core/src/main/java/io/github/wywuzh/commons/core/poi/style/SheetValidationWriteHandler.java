@@ -87,8 +87,7 @@ public class SheetValidationWriteHandler implements SheetWriteHandler {
                 ExcelUtils.setValidation(workbook, sheet, columnComment, columnValidationData, 1, ExcelUtils.MAX_ROW, titleIndex, titleIndex);
 
                 // 默认该列为为文本格式
-                CellStyle cellStyleForText = CellStyleTools.createCellStyle(workbook);
-                cellStyleForText.setDataFormat(ExcelUtils.getCellDateFormat(workbook, CellTypeEnum.String));
+                CellStyle cellStyleForText = CellStyleTools.getCellStyle(workbook, ExcelUtils.getCellDateFormat(workbook, CellTypeEnum.String));
                 sheet.setDefaultColumnStyle(titleIndex, cellStyleForText);
             }
         }
@@ -21,6 +21,7 @@ import com.alibaba.excel.write.handler.context.CellWriteHandlerContext;
 import com.alibaba.excel.write.metadata.style.WriteCellStyle;
 import com.alibaba.excel.write.style.AbstractVerticalCellStyleStrategy;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -71,6 +72,14 @@ public class VerticalCellStyleStrategy extends AbstractVerticalCellStyleStrategy
      * 列字段格式：key=字段标题, value=ExcelCellField
      */
     private Map<String, ExcelCellField> fieldTitleExcelCellMap;
+    /**
+     * 必填字段标题栏的列样式，所有必填字段共用
+     */
+    private WriteCellStyle requiredHeadWriteCellStyle;
+    /**
+     * 表格内容的列样式缓存：key=字段标题, value=列样式。同一列只创建一次列样式，EasyExcel再按列样式复用工作簿中的单元格样式
+     */
+    private final Map<String, WriteCellStyle> contentWriteCellStyleCache = new HashMap<>();
 
     public VerticalCellStyleStrategy() {
     }
@@ -88,10 +97,13 @@ public class VerticalCellStyleStrategy extends AbstractVerticalCellStyleStrategy
     protected WriteCellStyle headCellStyle(Head head) {
         String headerName = StringUtils.replace(head.getHeadNameList().get(0), "*", "");
         if (CollectionUtils.isNotEmpty(requiredColumnTitles) && requiredColumnTitles.contains(headerName)) {
-            WriteCellStyle headWriteCellStyle = EasyExcelUtils.createHeadWriteCellStyle();
-            // 必填项
-            headWriteCellStyle.getWriteFont().setColor(IndexedColors.RED.index);
-            return headWriteCellStyle;
+            if (requiredHeadWriteCellStyle == null) {
+                WriteCellStyle headWriteCellStyle = EasyExcelUtils.createHeadWriteCellStyle();
+                // 必填项
+                headWriteCellStyle.getWriteFont().setColor(IndexedColors.RED.index);
+                requiredHeadWriteCellStyle = headWriteCellStyle;
+            }
+            return requiredHeadWriteCellStyle;
         }
         return defaultHeadWriteCellStyle;
     }
@@ -110,13 +122,16 @@ public class VerticalCellStyleStrategy extends AbstractVerticalCellStyleStrategy
             excelCellField = fieldTitleExcelCellMap.get(headerName);
         }
         if (excelCellField != null) {
-            WriteCellStyle contentWriteCellStyle = EasyExcelUtils.createContentWriteCellStyle();
-            DataFormatData dataFormatData = new DataFormatData();
-            // 列格式：优先format，没有再根据cellType找到对应的format
-            String format = Optional.ofNullable(excelCellField.getFormat()).orElse(ExcelUtils.getFormat(excelCellField.getCellType()));
-            dataFormatData.setFormat(format);
-            contentWriteCellStyle.setDataFormatData(dataFormatData);
-            return contentWriteCellStyle;
+            ExcelCellField field = excelCellField;
+            return contentWriteCellStyleCache.computeIfAbsent(field.getFieldTitle(), key -> {
+                WriteCellStyle contentWriteCellStyle = EasyExcelUtils.createContentWriteCellStyle();
+                DataFormatData dataFormatData = new DataFormatData();
+                // 列格式：优先format，没有再根据cellType找到对应的format
+                String format = Optional.ofNullable(field.getFormat()).orElse(ExcelUtils.getFormat(field.getCellType()));
+                dataFormatData.setFormat(format);
+                contentWriteCellStyle.setDataFormatData(dataFormatData);
+                return contentWriteCellStyle;
+            });
         }
         return defaultContentWriteCellStyle;
     }
@@ -49,6 +49,12 @@ public class ColumnWidthAdaptiveStyleStrategy extends AbstractColumnWidthStyleSt
      * key=sheetNo, value=Map&lt;columnIndex,maxColumnWidth&gt;
      */
     private Map<Integer, Map<Integer, Integer>> CACHE = new HashMap<>();
+    /**
+     * 列宽计算抽样，决定哪些数据行参与列宽计算
+     *
+     * @since v3.5.0
+     */
+    private ColumnWidthSampler columnWidthSampler = ColumnWidthSampler.EXACT;
 
     public ColumnWidthAdaptiveStyleStrategy() {
     }
@@ -57,6 +63,18 @@ public class ColumnWidthAdaptiveStyleStrategy extends AbstractColumnWidthStyleSt
         this.columnLengths = columnLengths;
     }
 
+    /**
+     * @param columnLengths      列的长度
+     * @param columnWidthSampler 列宽计算抽样
+     * @since v3.5.0
+     */
+    public ColumnWidthAdaptiveStyleStrategy(Integer[] columnLengths, ColumnWidthSampler columnWidthSampler) {
+        this.columnLengths = columnLengths;
+        if (columnWidthSampler != null) {
+            this.columnWidthSampler = columnWidthSampler;
+        }
+    }
+
     @Override
     protected void setColumnWidth(WriteSheetHolder writeSheetHolder, List<WriteCellData<?>> cellDataList, Cell cell, Head head, Integer relativeRowIndex, Boolean isHead) {
         boolean needSetWidth = isHead || !CollectionUtils.isEmpty(cellDataList);
@@ -68,6 +86,10 @@ public class ColumnWidthAdaptiveStyleStrategy extends AbstractColumnWidthStyleSt
         if (columnLengths != null && columnLengths.length > 0) {
             writeSheetHolder.getSheet().setColumnWidth(columnIndex, columnLengths[columnIndex] * 30);
         } else {
+            // 未抽中的数据行不参与列宽计算
+            if (!isHead && relativeRowIndex != null && !columnWidthSampler.isSampled(relativeRowIndex)) {
+                return;
+            }
             Map<Integer, Integer> maxColumnWidthMap = CACHE.get(writeSheetHolder.getSheetNo());
             if (maxColumnWidthMap == null) {
                 maxColumnWidthMap = new HashMap<>();
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi.style.column;
+
+import io.github.wywuzh.commons.core.poi.enums.ColumnWidthModeEnum;
+import io.github.wywuzh.commons.core.poi.modle.ExcelExportRequest;
+
+/**
+ * 类ColumnWidthSampler的实现描述：列宽计算抽样
+ *
+ * <pre>
+ * 决定某一数据行是否参与列宽计算：
+ * 1. EXACT：所有数据行都参与计算
+ * 2. SAMPLED：前sampleRows行全部参与计算，之后第i行（从0开始）以 reservoirSize/(i+1) 的概率参与计算（蓄水池抽样）
+ * 3. DISABLED：数据行都不参与计算，列宽只按标题计算
+ *
+ * 注：抽样使用行号的哈希值代替随机数，同一行的各列抽样结果一致，同一份数据多次导出的列宽也一致
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 13:48:26
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class ColumnWidthSampler {
+
+    /**
+     * 默认全部参与计算的前N行
+     */
+    public static final int DEFAULT_SAMPLE_ROWS = 100;
+    /**
+     * 默认蓄水池大小
+     */
+    public static final int DEFAULT_RESERVOIR_SIZE = 100;
+
+    /**
+     * 所有数据行都参与计算
+     */
+    public static final ColumnWidthSampler EXACT = new ColumnWidthSampler(ColumnWidthModeEnum.EXACT, null, null);
+
+    private final ColumnWidthModeEnum mode;
+    private final int sampleRows;
+    private final int reservoirSize;
+
+    /**
+     * @param mode          列宽计算方式，为空时为EXACT
+     * @param sampleRows    全部参与计算的前N行，为空时取默认值
+     * @param reservoirSize 蓄水池大小，为空时取默认值
+     */
+    public ColumnWidthSampler(ColumnWidthModeEnum mode, Integer sampleRows, Integer reservoirSize) {
+        this.mode = mode != null ? mode : ColumnWidthModeEnum.EXACT;
+        this.sampleRows = sampleRows != null && sampleRows >= 0 ? sampleRows : DEFAULT_SAMPLE_ROWS;
+        this.reservoirSize = reservoirSize != null && reservoirSize >= 0 ? reservoirSize : DEFAULT_RESERVOIR_SIZE;
+    }
+
+    /**
+     * 根据导出请求创建
+     *
+     * @param excelExportRequest 导出请求
+     * @return 列宽计算抽样
+     */
+    public static ColumnWidthSampler of(ExcelExportRequest excelExportRequest) {
+        if (excelExportRequest.getColumnWidthMode() == null || ColumnWidthModeEnum.EXACT.equals(excelExportRequest.getColumnWidthMode())) {
+            return EXACT;
+        }
+        return new ColumnWidthSampler(excelExportRequest.getColumnWidthMode(), excelExportRequest.getColumnWidthSampleRows(), excelExportRequest.getColumnWidthReservoirSize());
+    }
+
+    /**
+     * 判断数据行是否参与列宽计算
+     *
+     * @param rowIndex 数据行索引（不含标题行），从0开始
+     * @return 参与计算返回true
+     */
+    public boolean isSampled(long rowIndex) {
+        if (ColumnWidthModeEnum.EXACT.equals(mode)) {
+            return true;
+        } else if (ColumnWidthModeEnum.DISABLED.equals(mode)) {
+            return false;
+        }
+        if (rowIndex < sampleRows) {
+            return true;
+        }
+        return Long.remainderUnsigned(mix(rowIndex), rowIndex + 1) < reservoirSize;
+    }
+
+    public ColumnWidthModeEnum getMode() {
+        return mode;
+    }
+
+    /**
+     * SplitMix64 哈希
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi.support;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.time.FastDateFormat;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import io.github.wywuzh.commons.core.poi.ExcelUtils;
+import io.github.wywuzh.commons.core.poi.annotation.ExcelCell;
+import io.github.wywuzh.commons.core.poi.enums.CellTypeEnum;
+import io.github.wywuzh.commons.core.reflect.PropertyAccessor;
+import io.github.wywuzh.commons.core.util.DateUtils;
+
+/**
+ * 类ExcelColumnPlan的实现描述：Excel导出列的取值计划
+ *
+ * <pre>
+ * 按“数据类型 + 导出列”预先解析好每一列的取值方式（{@link PropertyAccessor}）以及 @ExcelCell 注解中的单元格格式、日期格式，
+ * 解析结果会被缓存起来，之后每一行数据都直接复用，不再逐个单元格进行字段/方法查找和注解解析。
+ *
+ * 注：缓存基于 {@link ClassValue}，数据类型所在的类加载器被卸载时，对应的缓存也会一起被回收
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 10:12:36
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class ExcelColumnPlan {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ExcelColumnPlan.class);
+
+    /**
+     * key=数据类型, value=Map&lt;导出列, 取值计划&gt;
+     */
+    private static final ClassValue<Map<List<String>, ExcelColumnPlan>> PLAN_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<List<String>, ExcelColumnPlan> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * 数据类型
+     */
+    private final Class<?> type;
+    /**
+     * 列取值器，与导出列一一对应
+     */
+    private final ColumnAccessor[] accessors;
+
+    private ExcelColumnPlan(Class<?> type, String[] columns) {
+        this.type = type;
+        this.accessors = new ColumnAccessor[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            accessors[i] = new ColumnAccessor(type, columns[i]);
+        }
+    }
+
+    /**
+     * 获取数据类型对应的取值计划，同一数据类型、同一导出列只会解析一次
+     *
+     * @param type    数据类型
+     * @param columns 导出列
+     * @return 取值计划
+     */
+    public static ExcelColumnPlan of(Class<?> type, String[] columns) {
+        Map<List<String>, ExcelColumnPlan> planMap = PLAN_CACHE.get(type);
+        List<String> key = Arrays.asList(columns);
+        ExcelColumnPlan columnPlan = planMap.get(key);
+        if (columnPlan == null) {
+            // 注：key需要使用columns的副本，避免调用方修改数组后影响缓存
+            columnPlan = planMap.computeIfAbsent(Arrays.asList(columns.clone()), k -> new ExcelColumnPlan(type, columns));
+        }
+        return columnPlan;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public int size() {
+        return accessors.length;
+    }
+
+    /**
+     * @param index 列索引，从0开始
+     * @return 列取值器
+     */
+    public ColumnAccessor getAccessor(int index) {
+        return accessors[index];
+    }
+
+    /**
+     * 类ColumnAccessor的实现描述：列取值器
+     */
+    public static class ColumnAccessor {
+        /**
+         * 列名/字段名
+         */
+        private final String columnName;
+        /**
+         * 是否为Map类型数据
+         */
+        private final boolean mapAccess;
+        /**
+         * 属性取值器，Map类型数据时为空
+         */
+        private final PropertyAccessor propertyAccessor;
+        /**
+         * 字段/方法上的 @ExcelCell 注解
+         */
+        private final ExcelCell excelCell;
+        /**
+         * 单元格数据格式。优先级别：format > cellType
+         */
+        private final String dataFormat;
+        /**
+         * 日期格式。优先级别：format > cellType > 默认
+         */
+        private final String datePattern;
+        /**
+         * 日期格式化器，第一次格式化日期时才创建：format 也可能是数值/文本格式（如“General”、“[Red]0.00”），不能作为日期格式解析
+         */
+        private volatile FastDateFormat dateFormat;
+
+        ColumnAccessor(Class<?> type, String columnName) {
+            this.columnName = columnName;
+            this.mapAccess = Map.class.isAssignableFrom(type);
+
+            PropertyAccessor propertyAccessor = null;
+            ExcelCell excelCell = null;
+            if (!mapAccess) {
+                // tips：与 ReflectUtils.getRealField 保持一致，先根据columnName取Field，如果取不到就去找Getter方法
+                propertyAccessor = PropertyAccessor.of(type, columnName);
+                Object realField = propertyAccessor.getRealField();
+                if (realField instanceof Field) {
+                    excelCell = ((Field) realField).getAnnotation(ExcelCell.class);
+                } else if (realField instanceof Method) {
+                    excelCell = ((Method) realField).getAnnotation(ExcelCell.class);
+                }
+            }
+            this.propertyAccessor = propertyAccessor;
+            this.excelCell = excelCell;
+            this.dataFormat = resolveDataFormat(excelCell);
+            this.datePattern = resolveDatePattern(excelCell);
+        }
+
+        private static String resolveDataFormat(ExcelCell excelCell) {
+            if (excelCell == null) {
+                return null;
+            }
+            // 更多单元格格式可参考：org.apache.poi.ss.usermodel.BuiltinFormats._formats
+            if (StringUtils.isNotBlank(excelCell.format())) {
+                return excelCell.format();
+            }
+            return ExcelUtils.getFormat(excelCell.cellType());
+        }
+
+        private static String resolveDatePattern(ExcelCell excelCell) {
+            CellTypeEnum cellTypeEnum = excelCell != null ? excelCell.cellType() : null;
+            String pattern = null;
+            if (CellTypeEnum.DateTime.equals(cellTypeEnum)) {
+                pattern = DateUtils.PATTERN_DATE_TIME;
+            } else if (CellTypeEnum.Date.equals(cellTypeEnum)) {
+                pattern = DateUtils.PATTERN_DATE;
+            } else if (CellTypeEnum.Time.equals(cellTypeEnum)) {
+                pattern = DateUtils.PATTERN_TIME;
+            }
+            if (excelCell != null && StringUtils.isNotBlank(excelCell.format())) {
+                pattern = excelCell.format();
+            }
+            if (StringUtils.isBlank(pattern)) {
+                pattern = DateUtils.PATTERN_DATE_TIME;
+            }
+            return pattern;
+        }
+
+        /**
+         * 获取字段值
+         *
+         * @param data 数据行
+         * @return 字段值
+         */
+        public Object getValue(Object data) throws IllegalAccessException {
+            if (mapAccess) {
+                return ((Map<?, ?>) data).get(columnName);
+            }
+            try {
+                return propertyAccessor.getValue(data);
+            } catch (IllegalAccessException e) {
+                LOGGER.error("instance={}, fieldName={} 字段获取值失败：", data.getClass(), columnName, e);
+                throw e;
+            }
+        }
+
+        /**
+         * 按照列的日期格式格式化日期
+         *
+         * @param date 日期
+         * @return 日期字符串
+         */
+        public String formatDate(Date date) {
+            FastDateFormat format = dateFormat;
+            if (format == null) {
+                // FastDateFormat不可变，并发时重复创建也没有影响
+                format = FastDateFormat.getInstance(datePattern);
+                dateFormat = format;
+            }
+            return format.format(date);
+        }
+
+        public String getColumnName() {
+            return columnName;
+        }
+
+        public ExcelCell getExcelCell() {
+            return excelCell;
+        }
+
+        public String getDataFormat() {
+            return dataFormat;
+        }
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi.support;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.apache.poi.ss.usermodel.Name;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+
+/**
+ * 类ValidationListRegistry的实现描述：下拉列表数据注册表
+ *
+ * <pre>
+ * 每个工作簿只创建一个隐藏sheet（validation_hiddenSheet）存放下拉列表数据，内容相同的下拉列表只写入一次，
+ * 并通过名称（validation_list_N）引用。多个sheet、多列使用相同下拉列表时，直接复用已创建的名称。
+ *
+ * 注：
+ * 1. 下拉列表数据在隐藏sheet的A列中依次向下追加，只会新增行，兼容SXSSF流式写入
+ * 2. 注册表中只保存名称，不持有工作簿对象，工作簿被回收后注册表也会一起被回收
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 15:02:44
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class ValidationListRegistry {
+
+    /**
+     * 存放下拉列表数据的隐藏sheet名称。注：名称包含“hiddenSheet”，导入时会被跳过
+     */
+    public static final String HIDDEN_SHEET_NAME = "validation_hiddenSheet";
+    /**
+     * 下拉列表名称前缀
+     */
+    private static final String NAME_PREFIX = "validation_list_";
+
+    /**
+     * key=工作簿, value=注册表
+     */
+    private static final Map<Workbook, ValidationListRegistry> REGISTRY_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
+
+    /**
+     * key=下拉列表数据, value=名称
+     */
+    private final Map<List<String>, String> nameMap = new HashMap<>();
+
+    private ValidationListRegistry() {
+    }
+
+    /**
+     * 获取下拉列表数据对应的名称，不存在时写入隐藏sheet并创建名称
+     *
+     * @param workbook 工作簿
+     * @param values   下拉列表数据
+     * @return 名称，可用于 DataValidationHelper.createFormulaListConstraint
+     */
+    public static String getListName(Workbook workbook, String[] values) {
+        ValidationListRegistry registry = REGISTRY_CACHE.computeIfAbsent(workbook, k -> new ValidationListRegistry());
+        synchronized (registry) {
+            List<String> key = Arrays.asList(values);
+            String listName = registry.nameMap.get(key);
+            if (listName == null) {
+                listName = registry.createListName(workbook, values);
+                // 注：key需要使用values的副本，避免调用方修改数组后影响缓存
+                registry.nameMap.put(Arrays.asList(values.clone()), listName);
+            }
+            return listName;
+        }
+    }
+
+    private String createListName(Workbook workbook, String[] values) {
+        Sheet hiddenSheet = workbook.getSheet(HIDDEN_SHEET_NAME);
+        if (hiddenSheet == null) {
+            hiddenSheet = workbook.createSheet(HIDDEN_SHEET_NAME);
+            workbook.setSheetHidden(workbook.getSheetIndex(hiddenSheet), true);
+        }
+        // 在已有数据之后追加，行号从0开始
+        int firstRow = hiddenSheet.getPhysicalNumberOfRows() == 0 ? 0 : hiddenSheet.getLastRowNum() + 1;
+        for (int i = 0; i < values.length; i++) {
+            hiddenSheet.createRow(firstRow + i).createCell(0).setCellValue(values[i]);
+        }
+
+        // 名称已存在时（例如基于模板文件导出），顺延序号
+        int sequence = nameMap.size() + 1;
+        while (workbook.getName(NAME_PREFIX + sequence) != null) {
+            sequence++;
+        }
+        String listName = NAME_PREFIX + sequence;
+        Name name = workbook.createName();
+        name.setNameName(listName);
+        // 使用绝对引用，避免名称所指向的单元格在Excel中意外移动
+        name.setRefersToFormula(HIDDEN_SHEET_NAME + "!$A$" + (firstRow + 1) + ":$A$" + (firstRow + values.length));
+        return listName;
+    }
+
+}
@@ -0,0 +1,500 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi.support;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Field;
+import java.math.BigDecimal;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.commons.lang3.math.NumberUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.openxml4j.opc.PackageAccess;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.CTSheet;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.STSheetState;
+import org.openxmlformats.schemas.spreadsheetml.x2006.main.WorkbookDocument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.xml.sax.InputSource;
+import org.xml.sax.XMLReader;
+
+import io.github.wywuzh.commons.core.math.CalculationUtils;
+import io.github.wywuzh.commons.core.reflect.ReflectUtils;
+import io.github.wywuzh.commons.core.util.DateUtils;
+
+/**
+ * 类XlsxStreamingReader的实现描述：基于SAX事件的“.xlsx”文件流式读取
+ *
+ * <pre>
+ * 逐行解析sheet的XML内容，不会把整个工作簿加载为DOM对象，读取到的数据按批次交给consumer处理，内存占用与文件大小无关。
+ * 字段映射、类型转换规则与 ExcelUtils.getSheetData 保持一致，隐藏sheet不读取。
+ *
+ * 注：共享字符串表（sharedStrings.xml）仍会整体加载到内存中
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 11:20:45
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class XlsxStreamingReader<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(XlsxStreamingReader.class);
+
+    /**
+     * 默认每批次数据行数
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final Class<T> clazz;
+    /**
+     * 字段，与Excel列一一对应
+     */
+    private final String[] columns;
+    /**
+     * 字段，与columns一一对应
+     */
+    private final Field[] fields;
+    /**
+     * 开始读取数据行，从0开始
+     */
+    private final int startRow;
+    /**
+     * 每批次数据行数
+     */
+    private final int batchSize;
+    private final Consumer<List<T>> consumer;
+
+    /**
+     * 用于并行读取 {@link #read(File, Executor)}，读取到的数据直接返回，不需要consumer
+     */
+    public XlsxStreamingReader(Class<T> clazz, String[] columns, int startRow) {
+        this(clazz, columns, startRow, DEFAULT_BATCH_SIZE, null);
+    }
+
+    public XlsxStreamingReader(Class<T> clazz, String[] columns, int startRow, int batchSize, Consumer<List<T>> consumer) {
+        this.clazz = clazz;
+        this.columns = columns;
+        this.startRow = startRow;
+        this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+        this.consumer = consumer;
+
+        this.fields = new Field[columns.length];
+        for (int i = 0; i < columns.length; i++) {
+            fields[i] = FieldUtils.getField(clazz, columns[i], true);
+        }
+    }
+
+    /**
+     * 读取输入流中的数据。输入流会先写入临时文件再解析，避免整个压缩包加载到内存中
+     *
+     * @param inputStream 输入流
+     * @return 读取的数据行数
+     */
+    public long read(InputStream inputStream) throws Exception {
+        File tempFile = File.createTempFile("poi-sax-", ".xlsx");
+        try {
+            FileUtils.copyInputStreamToFile(inputStream, tempFile);
+            return read(tempFile);
+        } finally {
+            if (!tempFile.delete()) {
+                tempFile.deleteOnExit();
+            }
+        }
+    }
+
+    /**
+     * 读取文件中的数据
+     *
+     * @param file 目标文件
+     * @return 读取的数据行数
+     */
+    public long read(File file) throws Exception {
+        long total = 0;
+        try (OPCPackage opcPackage = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStringsTable = new ReadOnlySharedStringsTable(opcPackage);
+            StylesTable stylesTable = xssfReader.getStylesTable();
+
+            for (CTSheet sheet : getVisibleSheets(xssfReader)) {
+                try (InputStream sheetInputStream = xssfReader.getSheet(sheet.getId())) {
+                    total += readSheet(sheet.getName(), sheetInputStream, stylesTable, sharedStringsTable, consumer, () -> false);
+                }
+            }
+        }
+        return total;
+    }
+
+    /**
+     * 并行读取文件中的数据，每个sheet由executor中的一个任务解析，结果按sheet、行的顺序合并后返回，不经过consumer
+     *
+     * <pre>
+     * 1. 压缩包、共享字符串表、样式表只在调用线程中解析一次，任务之间共用且只读；每个任务只打开并解析自己sheet的XML，内存占用不随sheet数倍增
+     * 2. 同时解析的sheet个数由executor的线程数决定，建议使用有界线程池
+     * 3. 多个sheet读取失败时，抛出sheet顺序最靠前的错误；出错后其余任务在下一行处停止解析，全部结束后才关闭文件
+     * </pre>
+     *
+     * @param file     目标文件
+     * @param executor 解析sheet的线程池
+     * @return 读取的数据
+     */
+    public List<T> read(File file, Executor executor) throws Exception {
+        List<T> resultList = new ArrayList<>();
+        try (OPCPackage opcPackage = OPCPackage.open(file, PackageAccess.READ)) {
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStringsTable = new ReadOnlySharedStringsTable(opcPackage);
+            StylesTable stylesTable = xssfReader.getStylesTable();
+
+            AtomicBoolean cancelled = new AtomicBoolean();
+            List<CompletableFuture<List<T>>> futureList = new ArrayList<>();
+            for (CTSheet sheet : getVisibleSheets(xssfReader)) {
+                futureList.add(CompletableFuture.supplyAsync(() -> {
+                    List<T> sheetData = new ArrayList<>();
+                    if (cancelled.get()) {
+                        return sheetData;
+                    }
+                    try (InputStream sheetInputStream = openSheet(opcPackage, xssfReader, sheet.getId())) {
+                        readSheet(sheet.getName(), sheetInputStream, stylesTable, sharedStringsTable, sheetData::addAll, cancelled::get);
+                    } catch (Exception e) {
+                        throw new CompletionException(e);
+                    }
+                    return sheetData;
+                }, executor));
+            }
+
+            try {
+                // 按sheet顺序合并结果
+                for (CompletableFuture<List<T>> future : futureList) {
+                    resultList.addAll(future.join());
+                }
+            } catch (CompletionException e) {
+                // CompletableFuture.cancel 不会中断正在执行的任务，通过标记通知任务停止解析，并等待任务结束后再关闭文件
+                cancelled.set(true);
+                for (CompletableFuture<List<T>> future : futureList) {
+                    try {
+                        future.join();
+                    } catch (CompletionException ignored) {
+                        // 只抛出第一个错误
+                    }
+                }
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                if (cause instanceof Exception) {
+                    throw (Exception) cause;
+                }
+                throw e;
+            }
+        }
+        return resultList;
+    }
+
+    /**
+     * 打开sheet的XML输入流。OPCPackage的部件查找不是线程安全的，打开时需要加锁，打开后的输入流各自独立读取
+     */
+    private static InputStream openSheet(OPCPackage opcPackage, XSSFReader xssfReader, String relId) throws Exception {
+        synchronized (opcPackage) {
+            return xssfReader.getSheet(relId);
+        }
+    }
+
+    private long readSheet(String sheetName, InputStream sheetInputStream, StylesTable stylesTable, ReadOnlySharedStringsTable sharedStringsTable, Consumer<List<T>> sink,
+                           BooleanSupplier cancelled) throws Exception {
+        RawValueDataFormatter dataFormatter = new RawValueDataFormatter();
+        RowHandler rowHandler = new RowHandler(sheetName, dataFormatter, sink, cancelled);
+        XMLReader xmlReader = XMLHelper.newXMLReader();
+        xmlReader.setContentHandler(new XSSFSheetXMLHandler(stylesTable, null, sharedStringsTable, rowHandler, dataFormatter, false));
+        try {
+            xmlReader.parse(new InputSource(sheetInputStream));
+        } catch (RowReadException e) {
+            throw e.getCause();
+        } catch (ReadCancelledException e) {
+            return rowHandler.total;
+        }
+        rowHandler.flush();
+        return rowHandler.total;
+    }
+
+    /**
+     * 解析workbook.xml，按顺序获取需要读取的sheet：名称包含“hiddenSheet”或者隐藏的sheet不读取
+     */
+    private static List<CTSheet> getVisibleSheets(XSSFReader xssfReader) throws Exception {
+        List<CTSheet> visibleSheets = new ArrayList<>();
+        try (InputStream workbookInputStream = xssfReader.getWorkbookData()) {
+            CTSheet[] sheets = WorkbookDocument.Factory.parse(workbookInputStream).getWorkbook().getSheets().getSheetArray();
+            for (CTSheet sheet : sheets) {
+                // 检查sheet是否隐藏，如果是则不读取数据
+                if (StringUtils.contains(sheet.getName(), "hiddenSheet") || STSheetState.HIDDEN.equals(sheet.getState()) || STSheetState.VERY_HIDDEN.equals(sheet.getState())) {
+                    LOGGER.warn("sheetName={} 该sheet页为隐藏sheet，不读取该sheet页数据！", sheet.getName());
+                    continue;
+                }
+                visibleSheets.add(sheet);
+            }
+        }
+        return visibleSheets;
+    }
+
+    /**
+     * 行数据处理：收集一行的单元格值，行结束时转换为目标对象，满一个批次交给consumer处理
+     */
+    private class RowHandler implements SheetContentsHandler {
+        private final String sheetName;
+        private final RawValueDataFormatter dataFormatter;
+        private final Consumer<List<T>> sink;
+        private final BooleanSupplier cancelled;
+        private final String[] rowValues = new String[columns.length];
+        /**
+         * 设置了日期格式的数值单元格的原始数值，其他单元格为空
+         */
+        private final String[] dateNumberValues = new String[columns.length];
+        private List<T> batch = new ArrayList<>(batchSize);
+        private int currentColumn;
+        private boolean hasCell;
+        private long total;
+
+        RowHandler(String sheetName, RawValueDataFormatter dataFormatter, Consumer<List<T>> sink, BooleanSupplier cancelled) {
+            this.sheetName = sheetName;
+            this.dataFormatter = dataFormatter;
+            this.sink = sink;
+            this.cancelled = cancelled;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            if (cancelled.getAsBoolean()) {
+                throw new ReadCancelledException();
+            }
+            Arrays.fill(rowValues, null);
+            Arrays.fill(dateNumberValues, null);
+            currentColumn = -1;
+            hasCell = false;
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            currentColumn = cellReference == null ? currentColumn + 1 : new CellReference(cellReference).getCol();
+            hasCell = true;
+            // 每个单元格都要取出，避免残留到下一个单元格
+            String dateNumberValue = dataFormatter.takeDateNumberValue();
+            if (currentColumn < rowValues.length) {
+                rowValues[currentColumn] = formattedValue;
+                dateNumberValues[currentColumn] = dateNumberValue;
+            }
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            // 该行的列为空
+            if (rowNum < startRow || !hasCell) {
+                return;
+            }
+            try {
+                batch.add(toData(rowNum));
+            } catch (IOException e) {
+                throw new RowReadException(e);
+            }
+            total++;
+            if (batch.size() >= batchSize) {
+                flush();
+            }
+        }
+
+        @Override
+        public void headerFooter(String text, boolean isHeader, String tagName) {
+        }
+
+        void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+            sink.accept(batch);
+            batch = new ArrayList<>(batchSize);
+        }
+
+        private T toData(int rowNum) throws IOException {
+            T data;
+            try {
+                data = clazz.getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException e) {
+                throw new IOException(e.getMessage(), e);
+            }
+            // 获取每一行的列数据
+            for (int c = 0; c < columns.length; c++) {
+                String fieldName = columns[c];
+                String cellValue = rowValues[c];
+                // 设置了日期格式的数值单元格，数值类型的字段按原始数值读取，而不是格式化后的日期
+                if (dateNumberValues[c] != null && Number.class.isAssignableFrom(fields[c].getType())) {
+                    cellValue = dateNumberValues[c];
+                }
+                try {
+                    ReflectUtils.setValue(data, fieldName, getRealValue(fields[c].getType(), cellValue));
+                } catch (Exception e) {
+                    String errorMsg = MessageFormat.format("Excel文件中[{0}]Sheet的第{1}行第{2}列数据[{3}]导入错误，请检查！", sheetName, (rowNum + 1), CellReference.convertNumToColString(c), cellValue);
+                    LOGGER.error("fieldName={} {}:", fieldName, errorMsg, e);
+                    throw new IOException(errorMsg, e);
+                }
+            }
+            return data;
+        }
+    }
+
+    /**
+     * 单元格值转换，规则与 ExcelUtils 中基于Cell的转换保持一致
+     *
+     * @param fieldType 字段类型
+     * @param cellValue 单元格值
+     * @return 字段值
+     */
+    static Object getRealValue(Class<?> fieldType, String cellValue) {
+        if (cellValue == null) {
+            return null;
+        }
+        if (fieldType == Byte.class) {
+            return new BigDecimal(cellValue).byteValue();
+        } else if (fieldType == Short.class) {
+            return new BigDecimal(cellValue).shortValue();
+        } else if (fieldType == Integer.class) {
+            return new BigDecimal(cellValue).intValue();
+        } else if (fieldType == Double.class) {
+            // 判断是否存在 %
+            if (StringUtils.contains(cellValue, "%")) {
+                cellValue = StringUtils.replace(cellValue, "%", "");
+                // 需要将数值%100
+                return CalculationUtils.div(new BigDecimal(cellValue), CalculationUtils.DEFAULT_ONE_HUNDRED).doubleValue();
+            }
+            return new BigDecimal(cellValue).doubleValue();
+        } else if (fieldType == Float.class) {
+            return new BigDecimal(cellValue).floatValue();
+        } else if (fieldType == Long.class) {
+            return new BigDecimal(cellValue).longValue();
+        } else if (fieldType == String.class) {
+            // 去掉前后空格
+            return StringUtils.strip(cellValue);
+        } else if (fieldType == BigDecimal.class) {
+            if (StringUtils.contains(cellValue, "%")) {
+                cellValue = cellValue.replace("%", "").replace(",", "");
+                return CalculationUtils.div(new BigDecimal(cellValue), new BigDecimal(100), 4);
+            }
+            return new BigDecimal(cellValue.replace(",", ""));
+        } else if (fieldType == Date.class) {
+            if (StringUtils.isBlank(cellValue)) {
+                return null;
+            }
+            // 未设置日期格式的数值单元格
+            if (NumberUtils.isCreatable(cellValue)) {
+                return DateUtil.getJavaDate(Double.parseDouble(cellValue));
+            }
+            // 日期转换优先级别：yyyy-MM-dd HH:mm:ss -> yyyy-MM-dd -> yyyy/MM/dd -> yyyy-MM
+            Date date = DateUtils.parse(cellValue, DateUtils.PATTERN_DATE_TIME);
+            if (date == null) {
+                date = DateUtils.parse(cellValue, DateUtils.PATTERN_DATE);
+            }
+            if (date == null) {
+                date = DateUtils.parse(cellValue, "yyyy/MM/dd");
+            }
+            if (date == null) {
+                date = DateUtils.parse(cellValue, DateUtils.PATTERN_YYYY_MM);
+            }
+            return date;
+        }
+        return null;
+    }
+
+    /**
+     * 数值单元格不按单元格格式显示，而是返回与 ExcelUtils.getCellData 一致的原始值：日期返回“yyyy-MM-dd HH:mm:ss”格式，数值去掉千分位。
+     * 日期格式的数值单元格同时记录原始数值，供数值类型的字段读取；每个sheet使用单独的实例，不能多线程共用
+     */
+    private static class RawValueDataFormatter extends DataFormatter {
+        /**
+         * 最近一次按日期格式化的单元格的原始数值
+         */
+        private String dateNumberValue;
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString, boolean use1904Windowing) {
+            String numberValue = formatNumber(value);
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                dateNumberValue = numberValue;
+                return DateUtils.format(DateUtil.getJavaDate(value, use1904Windowing), DateUtils.PATTERN_DATE_TIME);
+            }
+            return numberValue;
+        }
+
+        /**
+         * 取出并清除最近一次按日期格式化的单元格的原始数值，XSSFSheetXMLHandler在格式化单元格后紧接着回调cell方法
+         */
+        String takeDateNumberValue() {
+            String value = dateNumberValue;
+            dateNumberValue = null;
+            return value;
+        }
+
+        private static String formatNumber(double value) {
+            // 解决自动加".0"的数字，逗号去掉
+            return StringUtils.replace(NumberFormat.getInstance().format(value), ",", "");
+        }
+    }
+
+    /**
+     * 并行读取时其他sheet已出错，通过该异常中止当前sheet的解析
+     */
+    private static class ReadCancelledException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        ReadCancelledException() {
+            super("read cancelled", null, false, false);
+        }
+    }
+
+    /**
+     * SAX回调中无法直接抛出受检异常，通过该异常包装后在解析入口处还原
+     */
+    private static class RowReadException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        RowReadException(IOException cause) {
+            super(cause);
+        }
+
+        @Override
+        public synchronized IOException getCause() {
+            return (IOException) super.getCause();
+        }
+    }
+
+}
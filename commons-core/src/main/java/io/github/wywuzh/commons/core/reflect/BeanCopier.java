@@ -0,0 +1,256 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.reflect;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * 类BeanCopier的实现描述：属性复制/合并器
+ *
+ * <pre>
+ * 按“源类 + 目标类 + 字段列表”预先解析好每一对字段的取值、赋值方式（{@link PropertyAccessor}）以及合并方式，
+ * 之后每一次复制/合并都直接按顺序执行，不再逐个字段按名称查找。
+ *
+ * 合并规则与 ReflectUtils.mergeProperties 保持一致：源字段、目标字段的类型必须相同，null视为0，
+ * 1. Byte、Short、Integer、Long：直接相加，不再经过BigDecimal转换
+ * 2. Double、Float、BigDecimal：相加后保留2位小数（四舍五入）。其中Double的两个值都是整数时直接相加（结果与BigDecimal计算一致），
+ *    否则仍按二进制精确值经BigDecimal计算后四舍五入：改为double运算会改变 1.005 这类值的舍入结果，与原有的合并结果不一致
+ *
+ * 注：缓存基于 {@link ClassValue}，源类、目标类所在的类加载器被卸载时，对应的缓存也会一起被回收
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 17:41:27
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class BeanCopier {
+    private static final Logger LOGGER = LoggerFactory.getLogger(BeanCopier.class);
+
+    /**
+     * 2^52：绝对值不超过该值的两个整数相加，结果仍可以用double精确表示
+     */
+    private static final double MAX_EXACT_INTEGER = 0x1p52;
+
+    /**
+     * key=源类, value=(key=目标类, value=Map&lt;[是否合并, 源字段, 目标字段], 属性复制/合并器&gt;)
+     */
+    private static final ClassValue<ClassValue<Map<List<Object>, BeanCopier>>> COPIER_CACHE = new ClassValue<>() {
+        @Override
+        protected ClassValue<Map<List<Object>, BeanCopier>> computeValue(Class<?> sourceClass) {
+            return new ClassValue<>() {
+                @Override
+                protected Map<List<Object>, BeanCopier> computeValue(Class<?> targetClass) {
+                    return new ConcurrentHashMap<>();
+                }
+            };
+        }
+    };
+
+    private final Class<?> sourceClass;
+    private final Class<?> targetClass;
+    private final String[] sourceFields;
+    private final String[] targetFields;
+    /**
+     * 字段操作，与字段列表一一对应
+     */
+    private final FieldOperation[] operations;
+
+    private BeanCopier(Class<?> sourceClass, Class<?> targetClass, String[] sourceFields, String[] targetFields, boolean merge) {
+        this.sourceClass = sourceClass;
+        this.targetClass = targetClass;
+        this.sourceFields = sourceFields;
+        this.targetFields = targetFields;
+        this.operations = new FieldOperation[sourceFields.length];
+        for (int i = 0; i < sourceFields.length; i++) {
+            operations[i] = merge ? createMergeOperation(sourceFields[i], targetFields[i]) : createCopyOperation(sourceFields[i], targetFields[i]);
+        }
+    }
+
+    /**
+     * 获取属性复制器，同一源类、目标类、字段列表只会解析一次
+     *
+     * @param sourceClass  源类，支持Map类型
+     * @param targetClass  目标类
+     * @param sourceFields 源字段
+     * @param targetFields 目标字段
+     * @return 属性复制器
+     * @throws IllegalArgumentException 字段数量不一致或目标字段不存在
+     */
+    public static BeanCopier getCopier(Class<?> sourceClass, Class<?> targetClass, String[] sourceFields, String[] targetFields) {
+        return getBeanCopier(sourceClass, targetClass, sourceFields, targetFields, false);
+    }
+
+    /**
+     * 获取属性合并器，同一源类、目标类、字段列表只会解析一次
+     *
+     * @param sourceClass  源类
+     * @param targetClass  目标类
+     * @param sourceFields 源字段
+     * @param targetFields 目标字段
+     * @return 属性合并器
+     * @throws IllegalArgumentException 字段数量不一致、字段不存在、字段类型不匹配或不支持合并
+     */
+    public static BeanCopier getMerger(Class<?> sourceClass, Class<?> targetClass, String[] sourceFields, String[] targetFields) {
+        return getBeanCopier(sourceClass, targetClass, sourceFields, targetFields, true);
+    }
+
+    private static BeanCopier getBeanCopier(Class<?> sourceClass, Class<?> targetClass, String[] sourceFields, String[] targetFields, boolean merge) {
+        Assert.notNull(sourceClass, "sourceClass is not null");
+        Assert.notNull(targetClass, "targetClass is not null");
+        Assert.notEmpty(sourceFields, "sourceFields is not empty");
+        Assert.notEmpty(targetFields, "targetFields is not empty");
+        Assert.isTrue(sourceFields.length == targetFields.length, "sourceFields和targetFields的数组长度不一致！");
+
+        Map<List<Object>, BeanCopier> copierMap = COPIER_CACHE.get(sourceClass).get(targetClass);
+        // 注：List.of会复制字段数组，避免调用方修改数组后影响缓存
+        List<Object> key = List.of(merge, List.of(sourceFields), List.of(targetFields));
+        BeanCopier beanCopier = copierMap.get(key);
+        if (beanCopier == null) {
+            beanCopier = copierMap.computeIfAbsent(key, k -> new BeanCopier(sourceClass, targetClass, sourceFields.clone(), targetFields.clone(), merge));
+        }
+        return beanCopier;
+    }
+
+    private FieldOperation createCopyOperation(String sourceFieldName, String targetFieldName) {
+        PropertyAccessor targetAccessor = PropertyAccessor.of(targetClass, targetFieldName);
+        if (!targetAccessor.isWritable()) {
+            throw new IllegalArgumentException(targetClass.getName() + "." + targetFieldName + "字段不存在！");
+        }
+        if (Map.class.isAssignableFrom(sourceClass)) {
+            return (source, target) -> targetAccessor.setValue(target, ((Map<?, ?>) source).get(sourceFieldName));
+        }
+        PropertyAccessor sourceAccessor = PropertyAccessor.of(sourceClass, sourceFieldName);
+        return (source, target) -> targetAccessor.setValue(target, sourceAccessor.getValue(source));
+    }
+
+    private FieldOperation createMergeOperation(String sourceFieldName, String targetFieldName) {
+        PropertyAccessor sourceAccessor = PropertyAccessor.of(sourceClass, sourceFieldName);
+        PropertyAccessor targetAccessor = PropertyAccessor.of(targetClass, targetFieldName);
+        if (sourceAccessor.getField() == null || targetAccessor.getField() == null) {
+            throw new IllegalArgumentException(sourceFieldName + "、" + targetFieldName + "字段不存在！");
+        }
+        Class<?> fieldType = sourceAccessor.getField().getType();
+        if (!fieldType.equals(targetAccessor.getField().getType())) {
+            throw new IllegalArgumentException("sourceFields和targetFields的数组字段类型不匹配！");
+        }
+
+        ValueMerger valueMerger;
+        if (fieldType == Integer.class) {
+            valueMerger = (v1, v2) -> intValue(v1) + intValue(v2);
+        } else if (fieldType == Long.class) {
+            valueMerger = (v1, v2) -> longValue(v1) + longValue(v2);
+        } else if (fieldType == Double.class) {
+            valueMerger = (v1, v2) -> add(doubleValue(v1), doubleValue(v2));
+        } else if (fieldType == BigDecimal.class) {
+            valueMerger = (v1, v2) -> add((BigDecimal) v1, (BigDecimal) v2);
+        } else if (fieldType == Short.class) {
+            valueMerger = (v1, v2) -> (short) (intValue(v1) + intValue(v2));
+        } else if (fieldType == Byte.class) {
+            valueMerger = (v1, v2) -> (byte) (intValue(v1) + intValue(v2));
+        } else if (fieldType == Float.class) {
+            valueMerger = (v1, v2) -> add(v1 == null ? null : new BigDecimal((Float) v1), v2 == null ? null : new BigDecimal((Float) v2)).floatValue();
+        } else {
+            throw new IllegalArgumentException(sourceAccessor.getField().getName() + "字段类型不支持合并操作！");
+        }
+        return (source, target) -> targetAccessor.setValue(target, valueMerger.merge(sourceAccessor.getValue(source), targetAccessor.getValue(target)));
+    }
+
+    private static int intValue(Object value) {
+        return value == null ? 0 : ((Number) value).intValue();
+    }
+
+    private static long longValue(Object value) {
+        return value == null ? 0L : ((Number) value).longValue();
+    }
+
+    private static double doubleValue(Object value) {
+        return value == null ? 0D : (Double) value;
+    }
+
+    /**
+     * v1+v2 保留两位小数，与 {@link #add(BigDecimal, BigDecimal)} 的结果一致。
+     * 两个值都是不超过2^52的整数时，和一定是可以精确表示的整数，不需要舍入，直接相加
+     */
+    private static double add(double v1, double v2) {
+        if (Math.abs(v1) <= MAX_EXACT_INTEGER && Math.abs(v2) <= MAX_EXACT_INTEGER && v1 == Math.rint(v1) && v2 == Math.rint(v2)) {
+            // 加上+0.0，-0.0的结果转为0.0，与BigDecimal计算结果一致
+            return v1 + v2 + 0.0D;
+        }
+        return add(new BigDecimal(v1), new BigDecimal(v2)).doubleValue();
+    }
+
+    /**
+     * v1+v2 保留两位小数，与 CalculationUtils.add 的结果一致，但不需要加锁
+     */
+    private static BigDecimal add(BigDecimal v1, BigDecimal v2) {
+        BigDecimal result = v1 == null ? BigDecimal.ZERO : v1;
+        if (v2 != null) {
+            result = result.add(v2);
+        }
+        return result.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * 将源对象的字段值复制/合并到目标对象中
+     *
+     * @param sourceInstance 源实例对象
+     * @param targetInstance 目标实例对象
+     */
+    public void copy(Object sourceInstance, Object targetInstance) throws Exception {
+        for (int i = 0; i < operations.length; i++) {
+            try {
+                operations[i].apply(sourceInstance, targetInstance);
+            } catch (Exception e) {
+                LOGGER.error("sourceInstance.class={}, targetInstance.class={}, sourceFieldName={}, targetFieldName={} 获取源字段值、设置目标字段值失败：", sourceClass, targetClass, sourceFields[i],
+                        targetFields[i], e);
+                throw new Exception("获取源字段值、设置模板字段值失败");
+            }
+        }
+    }
+
+    public Class<?> getSourceClass() {
+        return sourceClass;
+    }
+
+    public Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * 单个字段的复制/合并操作
+     */
+    @FunctionalInterface
+    private interface FieldOperation {
+        void apply(Object source, Object target) throws Exception;
+    }
+
+    /**
+     * 字段值合并
+     */
+    @FunctionalInterface
+    private interface ValueMerger {
+        Object merge(Object sourceValue, Object targetValue);
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.commons.lang3.reflect.MethodUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * 类PropertyAccessor的实现描述：属性取值/赋值器
+ *
+ * <pre>
+ * 按“类 + 属性名”解析一次属性对应的字段/Getter方法，并转换为 {@link MethodHandle}，之后的取值、赋值都直接复用，
+ * 不再每次通过 FieldUtils、MethodUtils 按名称查找。
+ * 1. 取值：先根据属性名取Field，如果取不到就去找Getter方法，与 {@link ReflectUtils#getRealField(Class, String)} 保持一致
+ * 2. 赋值：只通过Field赋值，与 {@link ReflectUtils#setValue(Object, String, Object)} 保持一致
+ *
+ * 注：缓存基于 {@link ClassValue}，类所在的类加载器被卸载时，对应的缓存也会一起被回收
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 17:06:14
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class PropertyAccessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PropertyAccessor.class);
+
+    /**
+     * key=类, value=Map&lt;属性名, 属性取值/赋值器&gt;
+     */
+    private static final ClassValue<Map<String, PropertyAccessor>> ACCESSOR_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, PropertyAccessor> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private final Class<?> type;
+    private final String propertyName;
+    /**
+     * 属性对应的实际字段/方法，都不存在时为空
+     */
+    private final Object realField;
+    /**
+     * 属性对应的字段，不存在时为空
+     */
+    private final Field field;
+    /**
+     * 取值方法，类型为(Object)Object。字段、Getter方法都不存在时为空
+     */
+    private final MethodHandle getter;
+    /**
+     * 赋值方法，类型为(Object, Object)void。字段不存在时为空
+     */
+    private final MethodHandle setter;
+
+    private PropertyAccessor(Class<?> type, String propertyName) {
+        this.type = type;
+        this.propertyName = propertyName;
+        this.field = FieldUtils.getField(type, propertyName, true);
+        this.realField = field != null ? field : getReadMethod(type, propertyName);
+
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        MethodHandle getter = null;
+        try {
+            if (realField instanceof Field) {
+                getter = lookup.unreflectGetter((Field) realField);
+            } else if (realField instanceof Method) {
+                getter = lookup.unreflect((Method) realField);
+            }
+        } catch (IllegalAccessException e) {
+            LOGGER.error("class={}, propertyName={} 解析取值方法失败：", type, propertyName, e);
+            throw new IllegalStateException(e);
+        }
+        this.getter = getter == null ? null : getter.asType(GETTER_TYPE);
+
+        MethodHandle setter = null;
+        if (field != null) {
+            try {
+                setter = lookup.unreflectSetter(field).asType(SETTER_TYPE);
+            } catch (IllegalAccessException e) {
+                // final字段等不能转换为MethodHandle时，使用Field赋值
+                LOGGER.debug("class={}, propertyName={} 无法转换为MethodHandle，使用Field赋值", type, propertyName);
+            }
+        }
+        this.setter = setter;
+    }
+
+    /**
+     * 获取属性取值/赋值器，同一个类、同一个属性只会解析一次
+     *
+     * @param type         类
+     * @param propertyName 属性名
+     * @return 属性取值/赋值器
+     */
+    public static PropertyAccessor of(Class<?> type, String propertyName) {
+        Map<String, PropertyAccessor> accessorMap = ACCESSOR_CACHE.get(type);
+        PropertyAccessor accessor = accessorMap.get(propertyName);
+        if (accessor == null) {
+            accessor = accessorMap.computeIfAbsent(propertyName, k -> new PropertyAccessor(type, propertyName));
+        }
+        return accessor;
+    }
+
+    /**
+     * 获取Getter方法
+     */
+    private static Method getReadMethod(Class<?> type, String propertyName) {
+        // 将第一个字符转换为大写
+        String methodSuffix = propertyName.substring(0, 1).toUpperCase() + propertyName.substring(1);
+        Method fieldMethod = MethodUtils.getAccessibleMethod(type, "get" + methodSuffix);
+        if (fieldMethod == null && propertyName.length() > 1) {
+            // 此处为解决实体类字段第二个字符为大写的问题
+            // 注意：这里是为了兼容第二个字符为大写的字段，在设计表结构的时候，尽量不要采用这种方式，这种设计方式不合理，会在Getter、Setter方法以及接口返回的时候出现意料之外的结果
+            methodSuffix = methodSuffix.substring(0, 2).toUpperCase() + methodSuffix.substring(2);
+            fieldMethod = MethodUtils.getAccessibleMethod(type, "get" + methodSuffix);
+        }
+        if (fieldMethod != null) {
+            fieldMethod.setAccessible(true);
+        }
+        return fieldMethod;
+    }
+
+    /**
+     * 获取属性值
+     *
+     * @param instance 实例对象
+     * @return 属性值，字段、Getter方法都不存在时返回null
+     */
+    public Object getValue(Object instance) throws IllegalAccessException {
+        if (getter == null) {
+            return null;
+        }
+        try {
+            return (Object) getter.invokeExact(instance);
+        } catch (Throwable e) {
+            throw (IllegalAccessException) new IllegalAccessException(e.getMessage()).initCause(e);
+        }
+    }
+
+    /**
+     * 设置属性值
+     *
+     * @param instance 实例对象
+     * @param value    属性值
+     * @throws IllegalAccessException 字段不存在或赋值失败
+     */
+    public void setValue(Object instance, Object value) throws IllegalAccessException {
+        if (field == null) {
+            throw new IllegalAccessException(type.getName() + "." + propertyName + "字段不存在");
+        }
+        try {
+            if (setter != null) {
+                setter.invokeExact(instance, value);
+            } else {
+                field.set(instance, value);
+            }
+        } catch (IllegalAccessException e) {
+            throw e;
+        } catch (Throwable e) {
+            throw (IllegalAccessException) new IllegalAccessException(e.getMessage()).initCause(e);
+        }
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public String getPropertyName() {
+        return propertyName;
+    }
+
+    /**
+     * @return 属性对应的实际字段/方法，都不存在时返回null
+     */
+    public Object getRealField() {
+        return realField;
+    }
+
+    /**
+     * @return 属性对应的字段，不存在时返回null
+     */
+    public Field getField() {
+        return field;
+    }
+
+    /**
+     * @return 是否可以取值
+     */
+    public boolean isReadable() {
+        return getter != null;
+    }
+
+    /**
+     * @return 是否可以赋值
+     */
+    public boolean isWritable() {
+        return field != null;
+    }
+
+}
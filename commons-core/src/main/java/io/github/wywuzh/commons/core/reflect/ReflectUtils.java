@@ -15,22 +15,18 @@
  */
 package io.github.wywuzh.commons.core.reflect;
 
-import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Map;
 
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.ClassUtils;
-import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.commons.lang3.reflect.MethodUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.util.Assert;
 
 import io.github.wywuzh.commons.core.json.jackson.JsonMapper;
-import io.github.wywuzh.commons.core.math.CalculationUtils;
 
 /**
  * 类ReflectUtils的实现描述：反射工具类
@@ -79,33 +75,26 @@ public class ReflectUtils {
         if (instance instanceof Map) {
             return null;
         }
+        return getRealField(instance.getClass(), fieldName);
+    }
 
-        // tips：先根据fieldName取Field，如果取不到就去找Method
-        Class<?> clazz = instance.getClass();
-        Field field = FieldUtils.getField(clazz, fieldName, true);
-        if (field != null) {
-            return field;
-        }
-
-        // 如果field字段无法取到值，则通过Getter方法取
-        // 将第一个字符转换为大写
-        String firstChar = fieldName.substring(0, 1);
-        String lastChar = fieldName.substring(1);
-        fieldName = firstChar.toUpperCase() + lastChar;
-        Method fieldMethod = MethodUtils.getAccessibleMethod(clazz, "get" + fieldName);
-        if (fieldMethod == null) {
-            // 此处为解决实体类字段第二个字符为大写的问题
-            // 注意：这里是为了兼容第二个字符为大写的字段，在设计表结构的时候，尽量不要采用这种方式，这种设计方式不合理，会在Getter、Setter方法以及接口返回的时候出现意料之外的结果
-            firstChar = fieldName.substring(0, 2);
-            lastChar = fieldName.substring(2);
-            fieldName = firstChar.toUpperCase() + lastChar;
-            fieldMethod = MethodUtils.getAccessibleMethod(clazz, "get" + fieldName);
-        }
-        if (fieldMethod != null) {
-            fieldMethod.setAccessible(true);
+    /**
+     * 取到fieldName对应的实际字段/方法
+     *
+     * @param clazz     目标类
+     * @param fieldName 字段名称
+     * @return fieldName对应的实际字段/方法
+     * @since v3.5.0
+     */
+    public static Object getRealField(Class<?> clazz, String fieldName) {
+        // 如果目标类为Map类型，则不需要取字段的类型
+        if (Map.class.isAssignableFrom(clazz)) {
+            return null;
         }
 
-        return fieldMethod;
+        // tips：先根据fieldName取Field，如果取不到就去找Method
+        // [v3.5.0]解析结果按“类 + 字段名”缓存，同一个类、同一个字段只会解析一次
+        return PropertyAccessor.of(clazz, fieldName).getRealField();
     }
 
     /**
@@ -121,13 +110,8 @@ public class ReflectUtils {
             if (instance instanceof Map) {
                 realValue = ((Map) instance).get(fieldName);
             } else {
-                // 取到fieldName对应的实际字段/方法
-                Object realField = getRealField(instance, fieldName);
-                if (realField instanceof Field) {
-                    realValue = ((Field) realField).get(instance);
-                } else if (realField instanceof Method) {
-                    realValue = MethodUtils.invokeMethod(instance, ((Method) realField).getName());
-                }
+                // 取到fieldName对应的实际字段/方法，[v3.5.0]通过缓存的MethodHandle取值
+                realValue = PropertyAccessor.of(instance.getClass(), fieldName).getValue(instance);
             }
 
             return (T) realValue;
@@ -184,8 +168,8 @@ public class ReflectUtils {
             if (instance instanceof Map) {
                 ((Map) instance).put(fieldName, value);
             } else {
-                Field declaredField = FieldUtils.getField(instance.getClass(), fieldName, true);
-                declaredField.set(instance, value);
+                // [v3.5.0]通过缓存的MethodHandle赋值
+                PropertyAccessor.of(instance.getClass(), fieldName).setValue(instance, value);
             }
         } catch (Exception e) {
             LOGGER.error("instance={}, fieldName={} 字段设置值失败：", instance.getClass(), fieldName, e);
@@ -231,21 +215,8 @@ public class ReflectUtils {
             throw new IllegalArgumentException("sourceFields和targetFields的数组长度不一致！");
         }
 
-        for (int i = 0; i < sourceFields.length; i++) {
-            // 源字段
-            String sourceFieldName = sourceFields[i];
-            // 目标字段
-            String targetFieldName = targetFields[i];
-
-            try {
-                Field targetField = FieldUtils.getField(targetInstance.getClass(), targetFieldName, true);
-                targetField.set(targetInstance, ReflectUtils.getValue(sourceInstance, sourceFieldName));
-            } catch (Exception e) {
-                LOGGER.error("sourceInstance.class={}, targetInstance.class={}, sourceFieldName={}, targetFieldName={} 获取源字段值、设置目标字段值失败：", sourceInstance.getClass(), targetInstance.getClass(),
-                        sourceFieldName, targetFieldName, e);
-                throw new Exception("获取源字段值、设置模板字段值失败");
-            }
-        }
+        // [v3.5.0]同一源类、目标类、字段列表只解析一次，之后直接复用
+        getBeanCopier(sourceInstance, targetInstance, sourceFields, targetFields, false).copy(sourceInstance, targetInstance);
     }
 
     /**
@@ -286,72 +257,19 @@ public class ReflectUtils {
             throw new IllegalArgumentException("sourceFields和targetFields的数组长度不一致！");
         }
 
-        for (int i = 0; i < sourceFields.length; i++) {
-            // 源字段
-            String sourceFieldName = sourceFields[i];
-            // 目标字段
-            String targetFieldName = targetFields[i];
-
-            try {
-                // source
-                Field sourceField = FieldUtils.getField(sourceInstance.getClass(), sourceFieldName, true);
-                // target
-                Field targetField = FieldUtils.getField(targetInstance.getClass(), targetFieldName, true);
-                if (!sourceField.getType().equals(targetField.getType())) {
-                    throw new IllegalArgumentException("sourceFields和targetFields的数组字段类型不匹配！");
-                }
-
-                BigDecimal sourceFieldValue = getValue(sourceInstance, sourceFieldName, sourceField);
-                BigDecimal targetFieldValue = getValue(targetInstance, targetFieldName, targetField);
-                Object mergeValue = null;
-                if (sourceField.getType() == Byte.class) {
-                    mergeValue = CalculationUtils.add(sourceFieldValue, targetFieldValue).byteValue();
-                } else if (sourceField.getType() == Short.class) {
-                    mergeValue = CalculationUtils.add(sourceFieldValue, targetFieldValue).shortValue();
-                } else if (sourceField.getType() == Integer.class) {
-                    mergeValue = CalculationUtils.add(sourceFieldValue, targetFieldValue).intValue();
-                } else if (sourceField.getType() == Long.class) {
-                    mergeValue = CalculationUtils.add(sourceFieldValue, targetFieldValue).longValue();
-                } else if (sourceField.getType() == Double.class) {
-                    mergeValue = CalculationUtils.add(sourceFieldValue, targetFieldValue).doubleValue();
-                } else if (sourceField.getType() == Float.class) {
-                    mergeValue = CalculationUtils.add(sourceFieldValue, targetFieldValue).floatValue();
-                } else if (sourceField.getType() == BigDecimal.class) {
-                    mergeValue = CalculationUtils.add(sourceFieldValue, targetFieldValue);
-                } else {
-                    throw new IllegalArgumentException(sourceField.getName() + "字段类型不支持合并操作！");
-                }
-
-                targetField.set(targetInstance, mergeValue);
-            } catch (Exception e) {
-                LOGGER.error("sourceInstance.class={}, targetInstance.class={}, sourceFieldName={}, targetFieldName={} 获取源字段值、设置目标字段值失败：", sourceInstance.getClass(), targetInstance.getClass(),
-                        sourceFieldName, targetFieldName, e);
-                throw new Exception("获取源字段值、设置模板字段值失败");
-            }
-        }
+        // [v3.5.0]同一源类、目标类、字段列表只解析一次，Integer、Long等整型字段直接相加，不再经过BigDecimal转换
+        getBeanCopier(sourceInstance, targetInstance, sourceFields, targetFields, true).copy(sourceInstance, targetInstance);
     }
 
-    private static BigDecimal getValue(Object instance, String fieldName, Field field) throws IllegalAccessException {
-        Object fieldValue = ReflectUtils.getValue(instance, fieldName);
-        if (fieldValue == null) {
-            return null;
-        }
-        if (field.getType() == Byte.class) {
-            return new BigDecimal((Byte) fieldValue);
-        } else if (field.getType() == Short.class) {
-            return new BigDecimal((Short) fieldValue);
-        } else if (field.getType() == Integer.class) {
-            return new BigDecimal((Integer) fieldValue);
-        } else if (field.getType() == Long.class) {
-            return new BigDecimal((Long) fieldValue);
-        } else if (field.getType() == Double.class) {
-            return new BigDecimal((Double) fieldValue);
-        } else if (field.getType() == Float.class) {
-            return new BigDecimal((Float) fieldValue);
-        } else if (field.getType() == BigDecimal.class) {
-            return (BigDecimal) fieldValue;
+    private static BeanCopier getBeanCopier(Object sourceInstance, Object targetInstance, String[] sourceFields, String[] targetFields, boolean merge) throws Exception {
+        try {
+            return merge ? BeanCopier.getMerger(sourceInstance.getClass(), targetInstance.getClass(), sourceFields, targetFields)
+                    : BeanCopier.getCopier(sourceInstance.getClass(), targetInstance.getClass(), sourceFields, targetFields);
+        } catch (Exception e) {
+            LOGGER.error("sourceInstance.class={}, targetInstance.class={}, sourceFields={}, targetFields={} 获取源字段值、设置目标字段值失败：", sourceInstance.getClass(), targetInstance.getClass(),
+                    Arrays.toString(sourceFields), Arrays.toString(targetFields), e);
+            throw new Exception("获取源字段值、设置模板字段值失败");
         }
-        return null;
     }
 
 }
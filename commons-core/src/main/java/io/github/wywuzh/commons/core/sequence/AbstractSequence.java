@@ -23,6 +23,10 @@ import io.github.wywuzh.commons.core.util.StringHelper;
 /**
  * 类AbstractSequence.java的实现描述：序列基类
  *
+ * <pre>
+ * 注：getCode方法整体加锁，并且每次都会格式化当前时间，高并发场景请使用 {@link TimeBucketSequence}
+ * </pre>
+ *
  * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2016年12月8日 上午12:04:28
  * @version v1.0.0
  * @since JDK 1.7
@@ -15,14 +15,10 @@
  */
 package io.github.wywuzh.commons.core.sequence;
 
-import java.math.BigDecimal;
-
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.commons.lang3.StringUtils;
 
-import io.github.wywuzh.commons.core.math.CalculationUtils;
-
 /**
  * code编码工具类
  *
@@ -36,14 +32,19 @@ public class CodeUtil {
     /**
      * 计算下一个编码
      *
+     * <pre>
+     * 注：该方法只根据传入的当前编码计算，多线程、多节点同时根据同一个“当前最大编码”计算时会得到重复的编码，
+     * 需要连续生成编码时请使用 {@link SegmentCodeGenerator}
+     * </pre>
+     *
      * @param code   当前编码
      * @param length 编码长度
      * @param prefix 编码前缀
      * @return 下一个编码
      * @since v3.3.0
      */
-    public static synchronized String nextCode(String code, int length, String prefix) {
-        Long suffix = 0L;
+    public static String nextCode(String code, int length, String prefix) {
+        long suffix = 0L;
         if (StringUtils.isNotBlank(code)) {
             try {
                 suffix = Long.parseLong(StringUtils.replace(code, prefix, ""));
@@ -53,8 +54,8 @@ public class CodeUtil {
             }
         }
         // 下一个编码：+1
-        BigDecimal nextCode = CalculationUtils.add(new BigDecimal(suffix), CalculationUtils.DEFAULT_ONE, 0);
-        return StringUtils.join(prefix, StringUtils.leftPad(nextCode.toString(), length, "0"));
+        // [v3.5.0] 方法中没有共享状态，去掉synchronized；直接格式化long值，不再创建BigDecimal
+        return SegmentCodeGenerator.format(prefix, suffix + 1, length);
     }
 
     /**
@@ -0,0 +1,327 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.sequence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * 类SegmentCodeGenerator的实现描述：号段编码生成器
+ *
+ * <pre>
+ * 通过数据库序列表一次预留一段连续的编码（号段），号段内的编码在内存中通过CAS分配，不再每生成一个编码就查询一次最大编码，
+ * 多个节点共用同一张序列表时编码也不会重复。
+ * 1. 预留号段：在同一个事务中执行 UPDATE 序列表 SET max_value = max_value + step WHERE name = ?，再查询更新后的 max_value，
+ *    号段范围为 (max_value - step, max_value]
+ * 2. 双缓冲：当前号段使用超过 {@link #DEFAULT_PREFETCH_RATIO} 后，异步预留下一个号段，当前号段用完时直接切换，调用方不需要等待数据库
+ * 3. 编码格式为“前缀 + 左补0的序号”，与 {@link CodeUtil#nextCode(String, int, String)} 一致，格式化时不需要创建BigDecimal
+ *
+ * 序列表结构（表名可以自定义），使用前需要先插入对应的序列记录：
+ * CREATE TABLE t_sequence (
+ *     name      VARCHAR(64) NOT NULL PRIMARY KEY,
+ *     max_value BIGINT      NOT NULL
+ * );
+ * INSERT INTO t_sequence (name, max_value) VALUES ('order_code', 0);
+ *
+ * 注：
+ * 1. 服务重启、多节点并发时，未用完的号段会被丢弃，编码整体递增但不保证连续
+ * 2. 同一个序列在同一个节点中应只创建一个生成器实例
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 19:52:16
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class SegmentCodeGenerator {
+    private static final Logger LOGGER = LoggerFactory.getLogger(SegmentCodeGenerator.class);
+
+    /**
+     * 默认序列表名
+     */
+    public static final String DEFAULT_TABLE_NAME = "t_sequence";
+    /**
+     * 默认号段大小
+     */
+    public static final int DEFAULT_STEP = 1000;
+    /**
+     * 当前号段使用超过该比例后，异步预留下一个号段
+     */
+    public static final double DEFAULT_PREFETCH_RATIO = 0.1;
+
+    /**
+     * 默认的号段预留线程池，所有生成器共用
+     */
+    private static final ExecutorService DEFAULT_EXECUTOR;
+
+    static {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(2, 2, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "segment-code-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        DEFAULT_EXECUTOR = executor;
+    }
+
+    private final DataSource dataSource;
+    private final String sequenceName;
+    private final int step;
+    private final Executor executor;
+    private final String updateSql;
+    private final String selectSql;
+
+    private final Object lock = new Object();
+    /**
+     * 当前号段，初始为空号段，第一次获取编码时同步预留
+     */
+    private volatile Segment current = new Segment(1L, 0L);
+    /**
+     * 异步预留中（或已预留完成）的下一个号段
+     */
+    private CompletableFuture<Segment> nextSegment;
+
+    /**
+     * @param dataSource   数据源
+     * @param sequenceName 序列名
+     */
+    public SegmentCodeGenerator(DataSource dataSource, String sequenceName) {
+        this(dataSource, DEFAULT_TABLE_NAME, sequenceName, DEFAULT_STEP, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * @param dataSource   数据源
+     * @param sequenceName 序列名
+     * @param step         号段大小，即每次预留的编码数量
+     */
+    public SegmentCodeGenerator(DataSource dataSource, String sequenceName, int step) {
+        this(dataSource, DEFAULT_TABLE_NAME, sequenceName, step, DEFAULT_EXECUTOR);
+    }
+
+    /**
+     * @param dataSource   数据源
+     * @param tableName    序列表名
+     * @param sequenceName 序列名
+     * @param step         号段大小，即每次预留的编码数量
+     * @param executor     异步预留号段的线程池
+     */
+    public SegmentCodeGenerator(DataSource dataSource, String tableName, String sequenceName, int step, Executor executor) {
+        Assert.notNull(dataSource, "dataSource must not be null");
+        Assert.isTrue(tableName != null && tableName.matches("[A-Za-z_][A-Za-z0-9_.]*"), "tableName is invalid: " + tableName);
+        Assert.hasText(sequenceName, "sequenceName must not be empty");
+        Assert.isTrue(step > 0, "step must be greater than 0");
+        Assert.notNull(executor, "executor must not be null");
+        this.dataSource = dataSource;
+        this.sequenceName = sequenceName;
+        this.step = step;
+        this.executor = executor;
+        this.updateSql = "UPDATE " + tableName + " SET max_value = max_value + ? WHERE name = ?";
+        this.selectSql = "SELECT max_value FROM " + tableName + " WHERE name = ?";
+    }
+
+    /**
+     * 获取下一个序号 (该方法是线程安全的)
+     *
+     * @return 下一个序号
+     * @throws IllegalStateException 预留号段失败
+     */
+    public long nextValue() {
+        while (true) {
+            Segment segment = current;
+            long value = segment.cursor.getAndIncrement();
+            if (value <= segment.max) {
+                if (!segment.prefetched && value - segment.min >= segment.prefetchThreshold) {
+                    prefetch(segment);
+                }
+                return value;
+            }
+            switchSegment(segment);
+        }
+    }
+
+    /**
+     * 获取下一个编码 (该方法是线程安全的)
+     *
+     * @param length 编码长度（不包含前缀），序号位数不足时左补0
+     * @param prefix 编码前缀
+     * @return 下一个编码
+     * @throws IllegalStateException 预留号段失败
+     */
+    public String nextCode(int length, String prefix) {
+        return format(prefix, nextValue(), length);
+    }
+
+    /**
+     * 格式化编码：前缀 + 左补0的序号，序号位数超过编码长度时不截断
+     *
+     * @param prefix 编码前缀
+     * @param value  序号，不能为负数
+     * @param length 编码长度（不包含前缀）
+     * @return 编码
+     */
+    public static String format(String prefix, long value, int length) {
+        Assert.isTrue(value >= 0, "value must not be negative");
+        int digits = 1;
+        for (long v = value / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        int prefixLength = prefix == null ? 0 : prefix.length();
+        char[] chars = new char[prefixLength + Math.max(digits, length)];
+        if (prefixLength > 0) {
+            prefix.getChars(0, prefixLength, chars, 0);
+        }
+        int index = chars.length;
+        long v = value;
+        do {
+            chars[--index] = (char) ('0' + v % 10);
+            v /= 10;
+        } while (v > 0);
+        while (index > prefixLength) {
+            chars[--index] = '0';
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 异步预留下一个号段，每个号段只会触发一次
+     */
+    private void prefetch(Segment segment) {
+        synchronized (lock) {
+            if (segment.prefetched || current != segment) {
+                return;
+            }
+            segment.prefetched = true;
+            if (nextSegment == null) {
+                nextSegment = CompletableFuture.supplyAsync(this::loadSegment, executor);
+            }
+        }
+    }
+
+    /**
+     * 当前号段用完时切换到下一个号段，下一个号段未预留或预留失败时同步预留
+     */
+    private void switchSegment(Segment exhausted) {
+        synchronized (lock) {
+            if (current != exhausted) {
+                // 其他线程已经切换
+                return;
+            }
+            Segment segment = null;
+            if (nextSegment != null) {
+                try {
+                    segment = nextSegment.join();
+                } catch (Exception e) {
+                    LOGGER.warn("sequenceName={} 异步预留号段失败，改为同步预留：", sequenceName, e);
+                }
+                nextSegment = null;
+            }
+            if (segment == null) {
+                segment = loadSegment();
+            }
+            current = segment;
+        }
+    }
+
+    /**
+     * 从序列表中预留一个号段
+     */
+    private Segment loadSegment() {
+        long startTime = System.currentTimeMillis();
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                long maxValue = reserve(connection);
+                connection.commit();
+                LOGGER.debug("sequenceName={} 预留号段({}, {}]，耗时={}ms", sequenceName, maxValue - step, maxValue, System.currentTimeMillis() - startTime);
+                return new Segment(maxValue - step + 1, maxValue);
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        } catch (SQLException e) {
+            LOGGER.error("sequenceName={} 预留号段失败：", sequenceName, e);
+            throw new IllegalStateException("sequenceName=" + sequenceName + " 预留号段失败：" + e.getMessage(), e);
+        }
+    }
+
+    private long reserve(Connection connection) throws SQLException {
+        try (PreparedStatement update = connection.prepareStatement(updateSql)) {
+            update.setLong(1, step);
+            update.setString(2, sequenceName);
+            if (update.executeUpdate() == 0) {
+                throw new IllegalStateException("sequenceName=" + sequenceName + " 序列记录不存在，请先在序列表中插入该序列");
+            }
+        }
+        try (PreparedStatement select = connection.prepareStatement(selectSql)) {
+            select.setString(1, sequenceName);
+            try (ResultSet resultSet = select.executeQuery()) {
+                if (!resultSet.next()) {
+                    throw new IllegalStateException("sequenceName=" + sequenceName + " 序列记录不存在，请先在序列表中插入该序列");
+                }
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+    public String getSequenceName() {
+        return sequenceName;
+    }
+
+    public int getStep() {
+        return step;
+    }
+
+    /**
+     * 类Segment的实现描述：号段，范围为[min, max]
+     */
+    private static final class Segment {
+        final long min;
+        final long max;
+        final long prefetchThreshold;
+        /**
+         * 下一个待分配的序号，超过max表示号段已用完
+         */
+        final AtomicLong cursor;
+        volatile boolean prefetched;
+
+        Segment(long min, long max) {
+            this.min = min;
+            this.max = max;
+            this.prefetchThreshold = (long) ((max - min + 1) * DEFAULT_PREFETCH_RATIO);
+            this.cursor = new AtomicLong(min);
+        }
+    }
+
+}
@@ -15,6 +15,9 @@
  */
 package io.github.wywuzh.commons.core.sequence;
 
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
 import io.github.wywuzh.commons.core.util.SystemPropertyUtils;
 
 /**
@@ -93,13 +96,21 @@ public class SnowflakeIdWorker {
      */
     private long dataCenterId;
     /**
-     * 毫秒内序列(0~4095)
+     * 数据中心部分 | 机器标识部分，初始化后不再变化
+     */
+    private long nodeBits;
+    /**
+     * [v3.5.0]上次生成ID的时间截与毫秒内序列，合并为一个long通过CAS更新，不再需要加锁
+     * 格式：(时间截 - twepoch) << sequenceBits | 毫秒内序列，初始值-1表示还未生成过ID
      */
-    private long sequence = 0L;
+    private final AtomicLong state = new AtomicLong(-1L);
     /**
-     * 上次生成ID的时间截
+     * [v3.5.0]时间戳最多可以超前系统时钟的毫秒数，默认为0（不容忍时钟回退，毫秒内序列用完时阻塞到下一毫秒）
+     * 大于0时：
+     * 1. 时钟回退不超过该值时，沿用上次生成ID的时间戳（逻辑时钟）继续生成，不再抛出异常
+     * 2. 毫秒内序列用完时，预借下一毫秒的序列继续生成，不再阻塞等待
      */
-    private long lastTimestamp = -1L;
+    private long maxBorrowMillis;
 
     public SnowflakeIdWorker() {
         // 工作ID (0~31)
@@ -118,6 +129,20 @@ public class SnowflakeIdWorker {
         init(workerId, dataCenterId);
     }
 
+    /**
+     * @param workerId        工作ID (0~31)
+     * @param dataCenterId    数据中心ID (0~31)
+     * @param maxBorrowMillis 时间戳最多可以超前系统时钟的毫秒数，用于容忍时钟回退、避免毫秒内序列用完时阻塞
+     * @since v3.5.0
+     */
+    public SnowflakeIdWorker(long workerId, long dataCenterId, long maxBorrowMillis) {
+        if (maxBorrowMillis < 0) {
+            throw new IllegalArgumentException("maxBorrowMillis can't be less than 0");
+        }
+        init(workerId, dataCenterId);
+        this.maxBorrowMillis = maxBorrowMillis;
+    }
+
     /**
      * @param workerId     工作ID (0~31)
      * @param dataCenterId 数据中心ID (0~31)
@@ -131,42 +156,173 @@ public class SnowflakeIdWorker {
         }
         this.workerId = workerId;
         this.dataCenterId = dataCenterId;
+        this.nodeBits = (dataCenterId << dataCenterIdShift) | (workerId << workerIdShift);
     }
 
-    public synchronized String getId() {
-        return String.valueOf(nextId());
+    public String getId() {
+        return Long.toString(nextId());
     }
 
     /**
      * 获得下一个ID (该方法是线程安全的)
      *
+     * <pre>
+     * [v3.5.0]时间截与毫秒内序列保存在同一个long中，通过CAS原子更新，多线程并发获取ID时不再需要加锁
+     * </pre>
+     *
      * @return 下一个ID
      */
-    public synchronized long nextId() {
-        long timestamp = timeGen();
-        // 如果当前时间小于上一次ID生成的时间戳，说明系统时钟回退过，这个时候应当抛出异常
-        if (timestamp < lastTimestamp) {
-            throw new RuntimeException(String.format("Clock moved backwards.  Refusing to generate id for %d milliseconds", lastTimestamp - timestamp));
+    public long nextId() {
+        while (true) {
+            long current = state.get();
+            long next = nextState(current);
+            if (next != -1L && state.compareAndSet(current, next)) {
+                return toId(next);
+            }
         }
-        // 如果是同一时间生成的，则进行毫秒内序列
-        if (lastTimestamp == timestamp) {
-            sequence = (sequence + 1) & sequenceMask;
-            // 毫秒内序列溢出
-            if (sequence == 0) {
-                // 阻塞到下一个毫秒，获得新的时间戳
-                timestamp = tilNextMillis(lastTimestamp);
+    }
+
+    /**
+     * 批量获取ID，同一毫秒内的序列一次CAS预留，ID按生成顺序递增
+     *
+     * @param n ID数量
+     * @return ID数组
+     * @since v3.5.0
+     */
+    public long[] nextIds(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n can't be less than 0");
+        }
+        long[] ids = new long[n];
+        int filled = 0;
+        while (filled < n) {
+            long current = state.get();
+            long start = nextState(current);
+            if (start == -1L) {
+                continue;
+            }
+            // 当前毫秒内剩余可用的序列，一次全部预留
+            int count = (int) Math.min(n - filled, sequenceMask - (start & sequenceMask) + 1);
+            long end = start + count - 1;
+            if (state.compareAndSet(current, end)) {
+                for (long value = start; value <= end; value++) {
+                    ids[filled++] = toId(value);
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 尝试获取当前毫秒内的下一个ID，毫秒内序列已用完时不等待下一毫秒
+     *
+     * @return 下一个ID，毫秒内序列已用完时返回-1
+     * @since v3.5.0
+     */
+    long tryNextId() {
+        while (true) {
+            long current = state.get();
+            long next = nextState(current, false);
+            if (next == -1L) {
+                return -1L;
+            }
+            if (state.compareAndSet(current, next)) {
+                return toId(next);
+            }
+        }
+    }
+
+    /**
+     * 尝试批量预留当前毫秒内的ID，毫秒内序列已用完时不等待下一毫秒
+     *
+     * @param ids    ID数组
+     * @param offset 写入ids的起始下标
+     * @param n      最多预留的ID数量
+     * @return 实际预留的ID数量，毫秒内序列已用完时返回0
+     * @since v3.5.0
+     */
+    int tryNextIds(long[] ids, int offset, int n) {
+        while (true) {
+            long current = state.get();
+            long start = nextState(current, false);
+            if (start == -1L) {
+                return 0;
+            }
+            int count = (int) Math.min(n, sequenceMask - (start & sequenceMask) + 1);
+            long end = start + count - 1;
+            if (state.compareAndSet(current, end)) {
+                for (int i = 0; i < count; i++) {
+                    ids[offset + i] = toId(start + i);
+                }
+                return count;
             }
-        } else {
-            // 时间戳改变，毫秒内序列重置
-            sequence = 0L;
         }
+    }
 
-        // 上次生成ID的时间截
-        lastTimestamp = timestamp;
+    /**
+     * 批量获取ID
+     *
+     * @param n ID数量
+     * @return ID流
+     * @since v3.5.0
+     */
+    public LongStream nextIdStream(int n) {
+        return LongStream.of(nextIds(n));
+    }
 
-        // 时间戳部分 | 数据中心部分 | 机器标识部分 | 序列号部分
-        // 移位并通过或运算拼到一起组成64位的ID
-        return ((timestamp - twepoch) << timestampLeftShift) | (dataCenterId << dataCenterIdShift) | (workerId << workerIdShift) | sequence;
+    /**
+     * 计算下一个状态
+     *
+     * @param current 当前状态
+     * @return 下一个状态，当前毫秒内序列已用完并已等待到下一毫秒时返回-1，需要重新读取当前状态
+     */
+    private long nextState(long current) {
+        return nextState(current, true);
+    }
+
+    /**
+     * 计算下一个状态
+     *
+     * @param current 当前状态
+     * @param wait    当前毫秒内序列已用完时是否阻塞等待下一毫秒
+     * @return 下一个状态，当前毫秒内序列已用完时返回-1
+     */
+    private long nextState(long current, boolean wait) {
+        long now = timeGen() - twepoch;
+        long lastTimestamp = current == -1L ? -1L : current >>> sequenceBits;
+        long timestamp = now;
+        if (now < lastTimestamp) {
+            // 如果当前时间小于上一次ID生成的时间戳，说明系统时钟回退过（或者预借了之后的毫秒），超出容忍范围时应当抛出异常
+            if (lastTimestamp - now > maxBorrowMillis) {
+                throw new RuntimeException(String.format("Clock moved backwards.  Refusing to generate id for %d milliseconds", lastTimestamp - now));
+            }
+            // 在容忍范围内，沿用上次生成ID的时间戳
+            timestamp = lastTimestamp;
+        }
+        // 时间戳改变，毫秒内序列重置
+        if (timestamp > lastTimestamp) {
+            return timestamp << sequenceBits;
+        }
+        // 如果是同一时间生成的，则进行毫秒内序列
+        if ((current & sequenceMask) < sequenceMask) {
+            return current + 1;
+        }
+        // 毫秒内序列溢出，在容忍范围内时预借下一毫秒
+        if (lastTimestamp + 1 - now <= maxBorrowMillis) {
+            return (lastTimestamp + 1) << sequenceBits;
+        }
+        // 阻塞到下一个毫秒
+        if (wait) {
+            tilNextMillis(lastTimestamp + twepoch);
+        }
+        return -1L;
+    }
+
+    /**
+     * 时间戳部分 | 数据中心部分 | 机器标识部分 | 序列号部分，移位并通过或运算拼到一起组成64位的ID
+     */
+    private long toId(long state) {
+        return ((state >>> sequenceBits) << timestampLeftShift) | nodeBits | (state & sequenceMask);
     }
 
     /**
@@ -178,11 +334,20 @@ public class SnowflakeIdWorker {
     private long tilNextMillis(long lastTimestamp) {
         long timestamp = timeGen();
         while (timestamp <= lastTimestamp) {
+            Thread.onSpinWait();
             timestamp = timeGen();
         }
         return timestamp;
     }
 
+    public long getWorkerId() {
+        return workerId;
+    }
+
+    public long getDataCenterId() {
+        return dataCenterId;
+    }
+
     /**
      * 返回以毫秒为单位的当前时间
      *
@@ -193,6 +358,8 @@ public class SnowflakeIdWorker {
     }
 
     // ============================== static =====================================
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     private static SnowflakeIdWorker idWorker = new SnowflakeIdWorker();
 
     /**
@@ -216,9 +383,71 @@ public class SnowflakeIdWorker {
      * @since v2.7.0
      */
     public static String nextIdHex() {
-        // %x：转化为小写的十六进制格式
-        // %X：转化为大写的十六进制格式
-        return String.format("%x", idWorker.nextId());
+        // [v3.5.0]与 String.format("%x", id) 结果一致（小写的十六进制格式），不需要解析格式字符串
+        return Long.toHexString(idWorker.nextId());
+    }
+
+    /**
+     * 将ID以十进制格式写入字符数组中，不创建任何对象
+     *
+     * @param id     ID，不能小于0
+     * @param dst    目标字符数组，剩余长度不能小于19
+     * @param offset 写入的开始位置
+     * @return 写入的字符数
+     * @since v3.5.0
+     */
+    public static int writeDecimal(long id, char[] dst, int offset) {
+        if (id < 0) {
+            throw new IllegalArgumentException("id can't be less than 0");
+        }
+        int length = 1;
+        for (long value = id / 10; value > 0; value /= 10) {
+            length++;
+        }
+        for (int i = offset + length - 1; i >= offset; i--) {
+            dst[i] = (char) ('0' + (id % 10));
+            id /= 10;
+        }
+        return length;
+    }
+
+    /**
+     * 将ID以十六进制格式（小写）写入字符数组中，不创建任何对象
+     *
+     * @param id     ID，不能小于0
+     * @param dst    目标字符数组，剩余长度不能小于16
+     * @param offset 写入的开始位置
+     * @return 写入的字符数
+     * @since v3.5.0
+     */
+    public static int writeHex(long id, char[] dst, int offset) {
+        if (id < 0) {
+            throw new IllegalArgumentException("id can't be less than 0");
+        }
+        int length = Math.max((64 - Long.numberOfLeadingZeros(id) + 3) >> 2, 1);
+        for (int i = offset + length - 1; i >= offset; i--) {
+            dst[i] = HEX_DIGITS[(int) (id & 0xF)];
+            id >>>= 4;
+        }
+        return length;
+    }
+
+    /**
+     * 将ID以十六进制格式（小写）追加到StringBuilder中，不创建中间字符串
+     *
+     * @param sb StringBuilder
+     * @param id ID，不能小于0
+     * @return sb
+     * @since v3.5.0
+     */
+    public static StringBuilder appendHex(StringBuilder sb, long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("id can't be less than 0");
+        }
+        for (int shift = Math.max((63 - Long.numberOfLeadingZeros(id)) & ~3, 0); shift >= 0; shift -= 4) {
+            sb.append(HEX_DIGITS[(int) ((id >>> shift) & 0xF)]);
+        }
+        return sb;
     }
 
 }
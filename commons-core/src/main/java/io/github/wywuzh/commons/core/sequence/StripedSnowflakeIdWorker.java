@@ -0,0 +1,155 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.sequence;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 类StripedSnowflakeIdWorker的实现描述：分段雪花ID生成器
+ *
+ * <pre>
+ * 将当前节点预留的多个连续工作ID（workerId）分配给多个 {@link SnowflakeIdWorker}，每个线程固定使用其中一个（主分段）。
+ * 每个工作ID每毫秒可以生成4096个ID，N个分段每毫秒最多可以生成 N * 4096 个ID，单节点突发生成大量ID时不再阻塞等待下一毫秒，
+ * 多线程之间也不再竞争同一个CAS。
+ * 主分段当前毫秒内的序列用完时，依次借用后面分段（工作ID更大）的序列，所有后面的分段都用完时才阻塞等待下一毫秒。
+ *
+ * 注：
+ * 1. 工作ID范围为 [firstWorkerId, firstWorkerId + stripes - 1]，部署时需要保证不同节点的工作ID范围互不重叠
+ * 2. 同一个线程获取的ID按生成顺序递增；不同线程之间的ID只按时间大致有序
+ * 3. 为保证同一个线程的ID递增，只向后借用：主分段为第k个（从0开始）的线程每毫秒最多可以生成 (stripes - k) * 4096 个ID
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 19:24:50
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class StripedSnowflakeIdWorker {
+
+    private final SnowflakeIdWorker[] workers;
+    /**
+     * 按线程轮询分配分段
+     */
+    private final AtomicInteger nextStripe = new AtomicInteger();
+    private final ThreadLocal<Stripe> localStripe;
+
+    /**
+     * @param firstWorkerId 第一个工作ID (0~31)
+     * @param stripes       分段数量，firstWorkerId + stripes 不能大于32
+     * @param dataCenterId  数据中心ID (0~31)
+     */
+    public StripedSnowflakeIdWorker(long firstWorkerId, int stripes, long dataCenterId) {
+        this(firstWorkerId, stripes, dataCenterId, 0L);
+    }
+
+    /**
+     * @param firstWorkerId   第一个工作ID (0~31)
+     * @param stripes         分段数量，firstWorkerId + stripes 不能大于32
+     * @param dataCenterId    数据中心ID (0~31)
+     * @param maxBorrowMillis 时间戳最多可以超前系统时钟的毫秒数，参考 {@link SnowflakeIdWorker#SnowflakeIdWorker(long, long, long)}
+     */
+    public StripedSnowflakeIdWorker(long firstWorkerId, int stripes, long dataCenterId, long maxBorrowMillis) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("stripes must be greater than 0");
+        }
+        this.workers = new SnowflakeIdWorker[stripes];
+        for (int i = 0; i < stripes; i++) {
+            // 工作ID超出范围时由SnowflakeIdWorker校验并抛出异常
+            workers[i] = new SnowflakeIdWorker(firstWorkerId + i, dataCenterId, maxBorrowMillis);
+        }
+        this.localStripe = ThreadLocal.withInitial(() -> new Stripe(Math.floorMod(nextStripe.getAndIncrement(), workers.length)));
+    }
+
+    /**
+     * 获得下一个ID (该方法是线程安全的)
+     *
+     * @return 下一个ID
+     */
+    public long nextId() {
+        Stripe stripe = localStripe.get();
+        for (int i = stripe.home; i < workers.length; i++) {
+            long id = workers[i].tryNextId();
+            // 跨毫秒时借用分段的ID可能小于上一个ID，丢弃后继续
+            if (id > stripe.lastId) {
+                stripe.lastId = id;
+                return id;
+            }
+        }
+        return waitNextId(stripe);
+    }
+
+    /**
+     * 批量获取ID，ID按生成顺序递增
+     *
+     * @param n ID数量
+     * @return ID数组
+     */
+    public long[] nextIds(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n can't be less than 0");
+        }
+        Stripe stripe = localStripe.get();
+        long[] ids = new long[n];
+        int filled = 0;
+        while (filled < n) {
+            int count = 0;
+            for (int i = stripe.home; i < workers.length && count == 0; i++) {
+                count = workers[i].tryNextIds(ids, filled, n - filled);
+                if (count > 0 && ids[filled] <= stripe.lastId) {
+                    count = 0;
+                }
+            }
+            if (count == 0) {
+                ids[filled] = waitNextId(stripe);
+                count = 1;
+            }
+            filled += count;
+            stripe.lastId = ids[filled - 1];
+        }
+        return ids;
+    }
+
+    /**
+     * 所有可借用分段当前毫秒内的序列都已用完，在主分段上阻塞等待下一毫秒
+     */
+    private long waitNextId(Stripe stripe) {
+        long id;
+        do {
+            id = workers[stripe.home].nextId();
+        } while (id <= stripe.lastId);
+        stripe.lastId = id;
+        return id;
+    }
+
+    /**
+     * @return 分段数量
+     */
+    public int getStripes() {
+        return workers.length;
+    }
+
+    /**
+     * 线程使用的主分段以及上一个ID
+     */
+    private static final class Stripe {
+        private final int home;
+        private long lastId = -1L;
+
+        private Stripe(int home) {
+            this.home = home;
+        }
+    }
+
+}
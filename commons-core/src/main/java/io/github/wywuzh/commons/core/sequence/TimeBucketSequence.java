@@ -0,0 +1,199 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.sequence;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 类TimeBucketSequence的实现描述：按时间分段的序列基类（无锁）
+ *
+ * <pre>
+ * 编码格式与 {@link AbstractSequence} 一致：第一部分 + 时间 + 左补0的序号，时间改变时序号从1开始。
+ * 与 {@link AbstractSequence} 的区别：
+ * 1. 格式化后的时间按时间段（根据时间格式中最小的时间单位，如“yyyyMMddHHmmss”为1秒）缓存，只有进入下一个时间段时才重新格式化
+ * 2. 序号通过 {@link AtomicLong} 递增，不再对整个方法加锁
+ * 3. 编码直接写入预先计算好长度的char[]，不再使用StringBuffer、DecimalFormat
+ *
+ * 注：
+ * 1. 时间格式使用 {@link DateTimeFormatter} 解析，常用的 y、M、d、H、m、s、S 与 SimpleDateFormat 含义一致
+ * 2. 系统时钟回拨时继续使用当前时间段，序号继续递增，不会生成重复的编码
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 20:31:05
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public abstract class TimeBucketSequence {
+
+    private volatile DateTimeFormatter formatter;
+    private volatile ChronoUnit bucketUnit;
+    /**
+     * 当前时间段，第一次获取编码时初始化
+     */
+    private final AtomicReference<Bucket> bucket = new AtomicReference<>();
+
+    /**
+     * 获取下一个编码 (该方法是线程安全的)
+     *
+     * @return 下一个编码
+     */
+    public String getCode() {
+        long now = System.currentTimeMillis();
+        Bucket current = bucket.get();
+        if (current == null || now >= current.end) {
+            current = advance(now);
+        }
+        long number = current.counter.incrementAndGet();
+        return format(String.valueOf(getFirstPart()), current.time, number, getThreePartLength());
+    }
+
+    /**
+     * 进入下一个时间段，格式化后的时间没有改变时（如“yyyyMM”格式下同一个月内跨天）沿用当前序号
+     */
+    private Bucket advance(long now) {
+        while (true) {
+            Bucket current = bucket.get();
+            if (current != null && now < current.end) {
+                // 其他线程已经进入下一个时间段
+                return current;
+            }
+            ZonedDateTime dateTime = Instant.ofEpochMilli(now).atZone(ZoneId.systemDefault());
+            String time = getFormatter().format(dateTime);
+            ChronoUnit unit = bucketUnit;
+            ZonedDateTime start = dateTime.truncatedTo(unit);
+            long end = start.plus(1, unit).toInstant().toEpochMilli();
+            Bucket next;
+            if (current != null && current.time.equals(time)) {
+                next = new Bucket(time, end, current.counter);
+            } else {
+                next = new Bucket(time, end, new AtomicLong());
+            }
+            if (bucket.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    private DateTimeFormatter getFormatter() {
+        DateTimeFormatter formatter = this.formatter;
+        if (formatter == null) {
+            String pattern = datePattern();
+            this.bucketUnit = getBucketUnit(pattern);
+            formatter = DateTimeFormatter.ofPattern(pattern);
+            this.formatter = formatter;
+        }
+        return formatter;
+    }
+
+    /**
+     * 根据时间格式中最小的时间单位确定时间段长度，不包含时分秒的格式按天重新检查
+     */
+    private static ChronoUnit getBucketUnit(String pattern) {
+        StringBuilder letters = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < pattern.length(); i++) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                quoted = !quoted;
+            } else if (!quoted) {
+                letters.append(c);
+            }
+        }
+        if (letters.indexOf("S") >= 0) {
+            return ChronoUnit.MILLIS;
+        } else if (letters.indexOf("s") >= 0) {
+            return ChronoUnit.SECONDS;
+        } else if (letters.indexOf("m") >= 0) {
+            return ChronoUnit.MINUTES;
+        } else if (letters.indexOf("H") >= 0 || letters.indexOf("h") >= 0 || letters.indexOf("k") >= 0 || letters.indexOf("K") >= 0 || letters.indexOf("a") >= 0) {
+            return ChronoUnit.HOURS;
+        }
+        return ChronoUnit.DAYS;
+    }
+
+    /**
+     * 拼接编码：第一部分 + 时间 + 左补0的序号，序号位数超过指定长度时不截断
+     */
+    private static String format(String firstPart, String time, long number, int length) {
+        int digits = 1;
+        for (long v = number / 10; v > 0; v /= 10) {
+            digits++;
+        }
+        int prefixLength = firstPart.length() + time.length();
+        char[] chars = new char[prefixLength + Math.max(digits, length)];
+        firstPart.getChars(0, firstPart.length(), chars, 0);
+        time.getChars(0, time.length(), chars, firstPart.length());
+        int index = chars.length;
+        long v = number;
+        do {
+            chars[--index] = (char) ('0' + v % 10);
+            v /= 10;
+        } while (v > 0);
+        while (index > prefixLength) {
+            chars[--index] = '0';
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 第一部分
+     *
+     * @return
+     */
+    protected abstract Object getFirstPart();
+
+    /**
+     * 时间格式
+     *
+     * @return
+     */
+    protected abstract String datePattern();
+
+    /**
+     * 指定第三部分值长度
+     *
+     * @return
+     */
+    protected abstract int getThreePartLength();
+
+    /**
+     * 类Bucket的实现描述：时间段
+     */
+    private static final class Bucket {
+        /**
+         * 格式化后的时间
+         */
+        final String time;
+        /**
+         * 时间段结束时间（不包含）
+         */
+        final long end;
+        final AtomicLong counter;
+
+        Bucket(String time, long end, AtomicLong counter) {
+            this.time = time;
+            this.end = end;
+            this.counter = counter;
+        }
+    }
+
+}
@@ -0,0 +1,291 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.util;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import io.github.wywuzh.commons.core.reflect.PropertyAccessor;
+
+/**
+ * 类MultiKeySorter的实现描述：多字段排序
+ *
+ * <pre>
+ * 排序前先按字段逐列取出每个元素的排序字段值，保存到紧凑的数组中：
+ * 1. Byte、Short、Integer、Long 字段保存为long[]，Float、Double 字段保存为double[]，比较时不需要拆箱
+ * 2. 其他字段保存为Comparable[]，通过compareTo比较
+ * 然后对元素下标进行稳定排序（{@link Arrays#parallelSort(Object[], Comparator)}，数据量较大时使用并行归并排序），
+ * 每个元素的每个排序字段只取值一次，排序过程中不再进行反射调用。
+ *
+ * 排序规则与 SortUtils 保持一致：null值排在最后（null-high），逆序（DESC）时整体反转，null值排在最前
+ *
+ * 字段取值与BeanComparator保持一致：优先使用JavaBean属性的读方法（getXxx、isXxx，包括没有对应字段的派生属性），
+ * 每个类只内省一次并转换为 {@link MethodHandle}；没有读方法时再使用 {@link PropertyAccessor} 直接读取字段
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 18:12:45
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class MultiKeySorter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MultiKeySorter.class);
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * key=类, value=Map&lt;属性名, 读方法&gt;，读方法类型为(Object)Object
+     */
+    private static final ClassValue<Map<String, MethodHandle>> READ_METHOD_CACHE = new ClassValue<>() {
+        @Override
+        protected Map<String, MethodHandle> computeValue(Class<?> type) {
+            return getReadMethods(type);
+        }
+    };
+
+    private MultiKeySorter() {
+    }
+
+    /**
+     * 排序，排序结果直接写回源数据
+     *
+     * @param data       源数据，元素为JavaBean或Map
+     * @param fieldNames 需要排序的字段名
+     * @param descending 字段是否逆序，与fieldNames一一对应，为空时全部正序
+     * @param <T>
+     * @return 源数据
+     */
+    public static <T> List<T> sort(List<T> data, String[] fieldNames, boolean[] descending) {
+        Assert.notEmpty(fieldNames, "fieldNames must not be empty");
+        Assert.isTrue(descending == null || descending.length == fieldNames.length, "descending length must be equal to fieldNames length");
+        if (data == null || data.size() < 2) {
+            return data;
+        }
+
+        Object[] elements = data.toArray();
+        int size = elements.length;
+        SortKey[] sortKeys = new SortKey[fieldNames.length];
+        for (int f = 0; f < fieldNames.length; f++) {
+            sortKeys[f] = SortKey.of(elements, fieldNames[f], descending != null && descending[f]);
+        }
+
+        Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        Arrays.parallelSort(indexes, (i1, i2) -> {
+            for (SortKey sortKey : sortKeys) {
+                int result = sortKey.compare(i1, i2);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        });
+
+        // 按排序后的下标写回源数据
+        ListIterator<T> iterator = data.listIterator();
+        for (Integer index : indexes) {
+            iterator.next();
+            iterator.set((T) elements[index]);
+        }
+        return data;
+    }
+
+    private static Map<String, MethodHandle> getReadMethods(Class<?> type) {
+        PropertyDescriptor[] propertyDescriptors;
+        try {
+            propertyDescriptors = Introspector.getBeanInfo(type).getPropertyDescriptors();
+        } catch (IntrospectionException e) {
+            LOGGER.debug("class={} 内省失败，直接读取字段：{}", type, e.getMessage());
+            return Collections.emptyMap();
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        Map<String, MethodHandle> readMethods = new HashMap<>();
+        for (PropertyDescriptor propertyDescriptor : propertyDescriptors) {
+            Method readMethod = propertyDescriptor.getReadMethod();
+            if (readMethod == null) {
+                continue;
+            }
+            try {
+                // 注：非public类中的public方法需要设置为可访问
+                readMethod.trySetAccessible();
+                readMethods.put(propertyDescriptor.getName(), lookup.unreflect(readMethod).asType(GETTER_TYPE));
+            } catch (IllegalAccessException e) {
+                LOGGER.debug("class={}, propertyName={} 无法转换为MethodHandle，直接读取字段", type, propertyDescriptor.getName());
+            }
+        }
+        return readMethods;
+    }
+
+    /**
+     * 类SortKey的实现描述：单个排序字段的字段值
+     */
+    private abstract static class SortKey {
+        /**
+         * 字段值是否为null
+         */
+        final boolean[] nulls;
+        final boolean descending;
+
+        SortKey(int size, boolean descending) {
+            this.nulls = new boolean[size];
+            this.descending = descending;
+        }
+
+        static SortKey of(Object[] elements, String fieldName, boolean descending) {
+            Object[] values = new Object[elements.length];
+            Class<?> valueType = null;
+            boolean sameType = true;
+            // 当前元素类型的读方法，没有读方法时使用accessor读取字段
+            Class<?> elementType = null;
+            MethodHandle readMethod = null;
+            PropertyAccessor accessor = null;
+            for (int i = 0; i < elements.length; i++) {
+                Object element = elements[i];
+                Object value;
+                if (element instanceof Map) {
+                    value = ((Map<?, ?>) element).get(fieldName);
+                } else {
+                    if (elementType != element.getClass()) {
+                        elementType = element.getClass();
+                        readMethod = READ_METHOD_CACHE.get(elementType).get(fieldName);
+                        accessor = readMethod != null ? null : PropertyAccessor.of(elementType, fieldName);
+                        if (accessor != null && !accessor.isReadable()) {
+                            throw new IllegalArgumentException(elementType + "." + fieldName + "字段不存在");
+                        }
+                    }
+                    try {
+                        value = readMethod != null ? (Object) readMethod.invokeExact(element) : accessor.getValue(element);
+                    } catch (Throwable e) {
+                        throw new IllegalStateException(elementType + "." + fieldName + "字段获取值失败：" + e.getMessage(), e);
+                    }
+                }
+                values[i] = value;
+                if (value != null && sameType) {
+                    if (valueType == null) {
+                        valueType = value.getClass();
+                    } else if (valueType != value.getClass()) {
+                        sameType = false;
+                    }
+                }
+            }
+
+            if (sameType && (valueType == Integer.class || valueType == Long.class || valueType == Short.class || valueType == Byte.class)) {
+                return new LongSortKey(values, descending);
+            }
+            if (sameType && (valueType == Double.class || valueType == Float.class)) {
+                return new DoubleSortKey(values, descending);
+            }
+            return new ComparableSortKey(values, descending);
+        }
+
+        final int compare(int i1, int i2) {
+            // 逆序时整体反转：交换比较的两个元素
+            return descending ? compareNullHigh(i2, i1) : compareNullHigh(i1, i2);
+        }
+
+        private int compareNullHigh(int i1, int i2) {
+            boolean null1 = nulls[i1];
+            boolean null2 = nulls[i2];
+            if (null1 || null2) {
+                return null1 == null2 ? 0 : (null1 ? 1 : -1);
+            }
+            return compareValue(i1, i2);
+        }
+
+        abstract int compareValue(int i1, int i2);
+    }
+
+    private static final class LongSortKey extends SortKey {
+        private final long[] values;
+
+        LongSortKey(Object[] values, boolean descending) {
+            super(values.length, descending);
+            this.values = new long[values.length];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    nulls[i] = true;
+                } else {
+                    this.values[i] = ((Number) values[i]).longValue();
+                }
+            }
+        }
+
+        @Override
+        int compareValue(int i1, int i2) {
+            return Long.compare(values[i1], values[i2]);
+        }
+    }
+
+    private static final class DoubleSortKey extends SortKey {
+        private final double[] values;
+
+        DoubleSortKey(Object[] values, boolean descending) {
+            super(values.length, descending);
+            this.values = new double[values.length];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    nulls[i] = true;
+                } else {
+                    this.values[i] = ((Number) values[i]).doubleValue();
+                }
+            }
+        }
+
+        @Override
+        int compareValue(int i1, int i2) {
+            return Double.compare(values[i1], values[i2]);
+        }
+    }
+
+    private static final class ComparableSortKey extends SortKey {
+        private final Comparable<Object>[] values;
+
+        ComparableSortKey(Object[] values, boolean descending) {
+            super(values.length, descending);
+            this.values = new Comparable[values.length];
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] == null) {
+                    nulls[i] = true;
+                } else {
+                    this.values[i] = (Comparable<Object>) values[i];
+                }
+            }
+        }
+
+        @Override
+        int compareValue(int i1, int i2) {
+            return values[i1].compareTo(values[i2]);
+        }
+    }
+
+}
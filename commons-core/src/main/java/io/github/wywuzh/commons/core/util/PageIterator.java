@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.util;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+/**
+ * 类PageIterator的实现描述：分页数据迭代器
+ *
+ * <pre>
+ * 按页码（从1开始）逐页拉取数据，内存中只保留当前页的数据。当某一页返回的数据为空或不足pageSize条时，视为最后一页。
+ * 可作为 ExcelExportRequest.dataIterator 使用，导出时按需拉取数据，不需要一次性把所有数据加载到内存中。
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 13:05:21
+ * @version v3.5.0
+ * @since JDK 17
+ */
+public class PageIterator<T> implements Iterator<T> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(PageIterator.class);
+
+    private final PageSupplier<T> pageSupplier;
+    /**
+     * 每页数据量
+     */
+    private final int pageSize;
+    /**
+     * 下一次拉取的页码，从1开始
+     */
+    private int pageNo = 1;
+    private Iterator<T> current = Collections.emptyIterator();
+    /**
+     * 是否已拉取到最后一页
+     */
+    private boolean lastPage;
+
+    public PageIterator(PageSupplier<T> pageSupplier, int pageSize) {
+        Assert.notNull(pageSupplier, "pageSupplier must not be null");
+        Assert.isTrue(pageSize > 0, "pageSize must be greater than 0");
+        this.pageSupplier = pageSupplier;
+        this.pageSize = pageSize;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (!current.hasNext()) {
+            if (lastPage) {
+                return false;
+            }
+            List<T> page;
+            try {
+                page = pageSupplier.getPage(pageNo, pageSize);
+            } catch (Exception e) {
+                LOGGER.error("pageNo={}, pageSize={} 分页数据拉取失败：", pageNo, pageSize, e);
+                throw new IllegalStateException(e.getMessage(), e);
+            }
+            pageNo++;
+            if (page == null || page.size() < pageSize) {
+                lastPage = true;
+            }
+            current = page == null ? Collections.emptyIterator() : page.iterator();
+        }
+        return true;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return current.next();
+    }
+
+    /**
+     * 类PageSupplier的实现描述：分页数据提供者
+     */
+    @FunctionalInterface
+    public interface PageSupplier<T> {
+
+        /**
+         * 获取分页数据
+         *
+         * @param pageNo   页码，页码从1开始
+         * @param pageSize 每页数据量
+         * @return 当前页的数据，为空或不足pageSize条时视为最后一页
+         */
+        List<T> getPage(int pageNo, int pageSize) throws Exception;
+    }
+
+}
@@ -45,6 +45,10 @@ public class SortUtils {
         if (fieldNames == null || fieldNames.length == 0) {
             return data;
         }
+        // [v3.5.0]预先取出排序字段值再排序，不再在每次比较时反射取值
+        if (isSimpleFieldNames(fieldNames)) {
+            return MultiKeySorter.sort(data, fieldNames, null);
+        }
         List<Object> sortFields = new LinkedList<>();
         for (String fieldName : fieldNames) {
             Comparator comparator = ComparableComparator.getInstance();
@@ -86,6 +90,16 @@ public class SortUtils {
         if (fieldNameMap == null || fieldNameMap.size() == 0) {
             return data;
         }
+        // [v3.5.0]预先取出排序字段值再排序，不再在每次比较时反射取值
+        String[] fieldNames = fieldNameMap.keySet().toArray(new String[0]);
+        if (isSimpleFieldNames(fieldNames)) {
+            boolean[] descending = new boolean[fieldNames.length];
+            for (int i = 0; i < fieldNames.length; i++) {
+                // 默认为正序，可选择设置为逆序
+                descending[i] = StringUtils.equalsIgnoreCase(fieldNameMap.get(fieldNames[i]), "DESC");
+            }
+            return MultiKeySorter.sort(data, fieldNames, descending);
+        }
         List<Object> sortFields = new LinkedList<>();
         for (Map.Entry<String, String> entry : fieldNameMap.entrySet()) {
             // 字段名
@@ -109,4 +123,19 @@ public class SortUtils {
         return data;
     }
 
+    /**
+     * 是否都为简单字段名。嵌套属性（eg：user.name）、索引属性（eg：items[0]）、Map属性（eg：attrs(key)）仍使用BeanComparator排序
+     *
+     * @param fieldNames 需要排序的字段名
+     * @return true表示都为简单字段名
+     */
+    private static boolean isSimpleFieldNames(String[] fieldNames) {
+        for (String fieldName : fieldNames) {
+            if (StringUtils.isEmpty(fieldName) || StringUtils.containsAny(fieldName, '.', '[', '(')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
 }
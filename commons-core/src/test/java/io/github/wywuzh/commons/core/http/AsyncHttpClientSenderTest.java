@@ -0,0 +1,131 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 类AsyncHttpClientSenderTest的实现描述：异步HTTP请求发送器
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 22:24:09
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class AsyncHttpClientSenderTest {
+
+    private HttpServer server;
+    private String baseUri;
+    /**
+     * 服务端同时处理的请求数
+     */
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/sleep", exchange -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(Long.parseLong(exchange.getRequestURI().getQuery().substring("millis=".length())));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            byte[] body = "你好".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void maxInFlight() {
+        AsyncHttpClientSender sender = AsyncHttpClientSender.builder().setMaxInFlight(10).build();
+        List<CompletableFuture<ResponseMessage>> futures = new ArrayList<>();
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < 100; i++) {
+            futures.add(sender.doGet(baseUri + "/sleep?millis=50", null));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        log.info("100个请求耗时={}ms，服务端最大并发数={}", System.currentTimeMillis() - startTime, maxConcurrent.get());
+        for (CompletableFuture<ResponseMessage> future : futures) {
+            ResponseMessage responseMessage = future.join();
+            Assert.assertEquals(200, responseMessage.getStatusCode());
+            Assert.assertEquals("你好", responseMessage.getResult());
+        }
+        Assert.assertTrue(maxConcurrent.get() <= 10);
+        Assert.assertEquals(0, sender.getInFlight());
+        Assert.assertEquals(0, sender.getPending());
+    }
+
+    @Test
+    public void timeout() {
+        AsyncHttpClientSender sender = AsyncHttpClientSender.builder().build();
+        ResponseMessage responseMessage = sender.doGet(baseUri + "/sleep?millis=1000", null, Duration.ofMillis(100)).join();
+        log.info("statusCode={}", responseMessage.getStatusCode());
+        Assert.assertEquals(500, responseMessage.getStatusCode());
+    }
+
+    @Test
+    public void maxPending() {
+        AsyncHttpClientSender sender = AsyncHttpClientSender.builder().setMaxInFlight(1).setMaxPending(1).build();
+        CompletableFuture<ResponseMessage> first = sender.doGet(baseUri + "/sleep?millis=200", null);
+        CompletableFuture<ResponseMessage> second = sender.doGet(baseUri + "/sleep?millis=0", null);
+        CompletableFuture<ResponseMessage> third = sender.doGet(baseUri + "/sleep?millis=0", null);
+        try {
+            third.join();
+            Assert.fail("third request should be rejected");
+        } catch (CompletionException e) {
+            Assert.assertTrue(e.getCause() instanceof RejectedExecutionException);
+        }
+        Assert.assertEquals(200, first.join().getStatusCode());
+        Assert.assertEquals(200, second.join().getStatusCode());
+    }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.http.client.methods.HttpGet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.wywuzh.commons.core.http.HttpClientUtils.HttpClientSender;
+
+/**
+ * 类HttpBatchSenderTest的实现描述：批量HTTP请求
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-19 00:40:26
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class HttpBatchSenderTest {
+
+    private HttpServer server;
+    private String baseUri;
+    /**
+     * 服务端同时处理的请求数
+     */
+    private final AtomicInteger concurrent = new AtomicInteger();
+    private final AtomicInteger maxConcurrent = new AtomicInteger();
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/echo", exchange -> {
+            maxConcurrent.accumulateAndGet(concurrent.incrementAndGet(), Math::max);
+            String query = exchange.getRequestURI().getQuery();
+            try {
+                // 序号小的请求处理得更慢，完成顺序与请求顺序相反
+                Thread.sleep(Math.max(0, 50 - Integer.parseInt(query)));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                concurrent.decrementAndGet();
+            }
+            byte[] body = query.getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void execute() throws Exception {
+        List<HttpGet> requests = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            requests.add(new HttpGet(baseUri + "/echo?" + i));
+        }
+        try (HttpClientSender sender = HttpClientSender.builder().build()) {
+            HttpBatchSender batchSender = HttpBatchSender.builder().setSender(sender).setConcurrency(8).build();
+            long startTime = System.currentTimeMillis();
+            List<ResponseMessage> responseMessages = batchSender.execute(requests);
+            log.info("50个请求耗时={}ms，服务端最大并发数={}", System.currentTimeMillis() - startTime, maxConcurrent.get());
+            Assert.assertEquals(50, responseMessages.size());
+            for (int i = 0; i < 50; i++) {
+                Assert.assertEquals(String.valueOf(i), responseMessages.get(i).getResult());
+            }
+            Assert.assertTrue(maxConcurrent.get() <= 8);
+        }
+    }
+
+    @Test
+    public void stream() throws Exception {
+        ConcurrentHashMap<Integer, String> results = new ConcurrentHashMap<>();
+        HttpBatchSender batchSender = HttpBatchSender.builder().setConcurrency(4).build();
+        batchSender.execute(IntStream.range(0, 20).mapToObj(i -> new HttpGet(baseUri + "/echo?" + i)),
+                (index, request, responseMessage) -> results.put(index, responseMessage.getResult()));
+        Assert.assertEquals(20, results.size());
+        results.forEach((index, result) -> Assert.assertEquals(String.valueOf(index), result));
+    }
+
+    @Test
+    public void rateLimit() throws Exception {
+        // 每秒最多20个请求：21个请求至少需要1秒
+        HttpBatchSender batchSender = HttpBatchSender.builder().setConcurrency(10).setRateLimit(20).build();
+        List<HttpGet> requests = new ArrayList<>();
+        for (int i = 50; i < 71; i++) {
+            requests.add(new HttpGet(baseUri + "/echo?" + i));
+        }
+        long startTime = System.currentTimeMillis();
+        batchSender.execute(requests);
+        long elapsed = System.currentTimeMillis() - startTime;
+        log.info("21个请求耗时={}ms", elapsed);
+        Assert.assertTrue(elapsed >= 950);
+    }
+
+}
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.http.client.HttpResponseException;
+import org.apache.http.client.methods.HttpGet;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gson.reflect.TypeToken;
+import com.sun.net.httpserver.HttpServer;
+
+import io.github.wywuzh.commons.core.http.HttpClientUtils.HttpClientSender;
+
+/**
+ * 类HttpClientSenderTest的实现描述：HttpClientSender连接池、响应流、响应缓存、请求指标
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 21:48:12
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class HttpClientSenderTest {
+
+    /**
+     * 服务端处理每个请求的耗时
+     */
+    private static final long HANDLE_MILLIS = 200;
+
+    private static final int DOWNLOAD_BLOCK_SIZE = 64 * 1024;
+    private static final int DOWNLOAD_BLOCKS = 160;
+
+    private HttpServer server;
+    private String baseUri;
+    /**
+     * 服务端收到的缓存相关请求数
+     */
+    private final AtomicInteger cacheRequests = new AtomicInteger();
+    private final AtomicInteger notModified = new AtomicInteger();
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/hello", exchange -> {
+            try {
+                Thread.sleep(HANDLE_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] body = "hello".getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.createContext("/download", exchange -> {
+            // 分块传输，不返回Content-Length
+            exchange.sendResponseHeaders(200, 0);
+            byte[] block = new byte[DOWNLOAD_BLOCK_SIZE];
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                for (int i = 0; i < DOWNLOAD_BLOCKS; i++) {
+                    Arrays.fill(block, (byte) i);
+                    outputStream.write(block);
+                }
+            }
+        });
+        server.createContext("/json", exchange -> {
+            String acceptEncoding = exchange.getRequestHeaders().getFirst("Accept-Encoding");
+            byte[] body = "{\"name\":\"伍章红\",\"scores\":[1,2,3]}".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+            if (acceptEncoding != null && acceptEncoding.contains("gzip")) {
+                exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+                exchange.sendResponseHeaders(200, 0);
+                try (OutputStream outputStream = new GZIPOutputStream(exchange.getResponseBody())) {
+                    outputStream.write(body);
+                }
+            } else {
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream outputStream = exchange.getResponseBody()) {
+                    outputStream.write(body);
+                }
+            }
+        });
+        server.createContext("/cache", exchange -> {
+            cacheRequests.incrementAndGet();
+            // max-age=60：60秒内直接使用缓存；max-age=0：每次都要通过ETag重新验证
+            String maxAge = exchange.getRequestURI().getQuery().substring("maxAge=".length());
+            exchange.getResponseHeaders().add("Cache-Control", "max-age=" + maxAge);
+            exchange.getResponseHeaders().add("ETag", "\"v1\"");
+            if ("\"v1\"".equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+                notModified.incrementAndGet();
+                exchange.sendResponseHeaders(304, -1);
+                exchange.close();
+                return;
+            }
+            byte[] body = "cached".getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "text/plain; charset=UTF-8");
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream outputStream = exchange.getResponseBody()) {
+                outputStream.write(body);
+            }
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void maxPerRoute() throws Exception {
+        int requests = 8;
+        // 每个路由2个连接（HttpClient默认值）时8个并发请求需要排队4轮，8个连接时1轮即可完成
+        long limitedElapsed = concurrentRequests(HttpClientSender.builder().setMaxPerRoute(2).build(), requests);
+        long tunedElapsed = concurrentRequests(HttpClientSender.builder().setMaxPerRoute(requests).build(), requests);
+        log.info("{}个并发请求：maxPerRoute=2耗时={}ms，maxPerRoute={}耗时={}ms", requests, limitedElapsed, requests, tunedElapsed);
+        Assert.assertTrue(limitedElapsed >= HANDLE_MILLIS * requests / 2);
+        Assert.assertTrue(tunedElapsed < limitedElapsed);
+    }
+
+    @Test
+    public void poolStats() throws Exception {
+        try (HttpClientSender sender = HttpClientSender.builder().setMaxTotal(20).setMaxPerRoute(5).setMaxPerRoute(baseUri, 10).setMaxIdleTime(1000).build()) {
+            ResponseMessage responseMessage = sender.doRequest(new HttpGet(baseUri + "/hello"));
+            Assert.assertEquals(200, responseMessage.getStatusCode());
+            Assert.assertEquals("hello", responseMessage.getResult());
+
+            HttpPoolStats poolStats = sender.getPoolStats();
+            log.info("poolStats={}", poolStats);
+            Assert.assertEquals(20, poolStats.getTotal().getMax());
+            Assert.assertEquals(0, poolStats.getTotal().getLeased());
+            Assert.assertEquals(1, poolStats.getTotal().getAvailable());
+            HttpPoolStats.RouteStats routeStats = poolStats.getRoutes().get(baseUri);
+            Assert.assertNotNull(routeStats);
+            Assert.assertEquals(10, routeStats.getMax());
+        }
+    }
+
+    @Test
+    public void poolStatsForHttps() throws Exception {
+        // 测试服务不支持TLS，请求会握手失败，但连接池中已创建该https路由
+        String httpsUri = baseUri.replace("http://", "https://");
+        try (HttpClientSender sender = HttpClientSender.builder().setMaxPerRoute(5).setMaxPerRoute(httpsUri, 10).build()) {
+            try {
+                sender.doRequest(new HttpGet(httpsUri + "/hello"));
+            } catch (Exception e) {
+                log.info("https请求失败：{}", e.getMessage());
+            }
+            HttpPoolStats.RouteStats routeStats = sender.getPoolStats().getRoutes().get(httpsUri);
+            Assert.assertNotNull(routeStats);
+            Assert.assertEquals(10, routeStats.getMax());
+        }
+    }
+
+    @Test
+    public void download() throws Exception {
+        Path target = Files.createTempFile("download", ".bin");
+        try (HttpClientSender sender = HttpClientSender.builder().build()) {
+            long bytes = sender.download(new HttpGet(baseUri + "/download"), target);
+            log.info("下载{}字节到{}", bytes, target);
+            Assert.assertEquals((long) DOWNLOAD_BLOCK_SIZE * DOWNLOAD_BLOCKS, bytes);
+            Assert.assertEquals(bytes, Files.size(target));
+            try (InputStream inputStream = Files.newInputStream(target)) {
+                inputStream.skipNBytes((long) DOWNLOAD_BLOCK_SIZE * (DOWNLOAD_BLOCKS - 1));
+                Assert.assertEquals(DOWNLOAD_BLOCKS - 1, inputStream.read());
+            }
+
+            // 返回码不是2xx时不覆盖目标文件
+            try {
+                sender.download(new HttpGet(baseUri + "/not-found"), target);
+                Assert.fail("download should fail");
+            } catch (HttpResponseException e) {
+                Assert.assertEquals(404, e.getStatusCode());
+            }
+            Assert.assertEquals(bytes, Files.size(target));
+        } finally {
+            Files.deleteIfExists(target);
+        }
+    }
+
+    @Test
+    public void doRequestJson() throws Exception {
+        try (HttpClientSender sender = HttpClientSender.builder().build()) {
+            // 服务端返回gzip压缩的内容，由HttpClient自动解压
+            Map<String, Object> result = sender.doRequestJson(new HttpGet(baseUri + "/json"), new TypeToken<Map<String, Object>>() {
+            }.getType());
+            log.info("result={}", result);
+            Assert.assertEquals("伍章红", result.get("name"));
+
+            Integer length = sender.execute(new HttpGet(baseUri + "/json"), (statusCode, inputStream, contentLength) -> {
+                Assert.assertEquals(200, statusCode);
+                return inputStream.readAllBytes().length;
+            });
+            Assert.assertEquals(Integer.valueOf("{\"name\":\"伍章红\",\"scores\":[1,2,3]}".getBytes(StandardCharsets.UTF_8).length), length);
+        }
+    }
+
+    @Test
+    public void cache() throws Exception {
+        try (HttpClientSender sender = HttpClientSender.builder().setCacheMaxEntries(100).build()) {
+            // 未过期：第二次请求直接使用缓存，不请求服务端
+            for (int i = 0; i < 2; i++) {
+                Assert.assertEquals("cached", sender.doRequest(new HttpGet(baseUri + "/cache?maxAge=60")).getResult());
+            }
+            Assert.assertEquals(1, cacheRequests.get());
+
+            // 已过期：带上If-None-Match重新验证，服务端返回304后继续使用缓存的内容
+            for (int i = 0; i < 2; i++) {
+                Assert.assertEquals("cached", sender.doRequest(new HttpGet(baseUri + "/cache?maxAge=0")).getResult());
+            }
+            Assert.assertEquals(3, cacheRequests.get());
+            Assert.assertEquals(1, notModified.get());
+
+            HttpCacheStats cacheStats = sender.getCacheStats();
+            log.info("cacheStats={}", cacheStats);
+            Assert.assertEquals(1, cacheStats.getHits());
+            Assert.assertEquals(2, cacheStats.getMisses());
+            Assert.assertEquals(1, cacheStats.getValidated());
+            Assert.assertEquals(2, cacheStats.getEntries());
+        }
+        try (HttpClientSender sender = HttpClientSender.builder().build()) {
+            Assert.assertNull(sender.getCacheStats());
+        }
+    }
+
+    @Test
+    public void metrics() throws Exception {
+        try (HttpClientSender sender = HttpClientSender.builder().setMetricsEnabled(true).build()) {
+            for (int i = 0; i < 5; i++) {
+                Assert.assertEquals(200, sender.doRequest(new HttpGet(baseUri + "/json")).getStatusCode());
+            }
+            Assert.assertEquals(404, sender.doRequest(new HttpGet(baseUri + "/not-found")).getStatusCode());
+            // 连接被拒绝
+            Assert.assertEquals(500, sender.doRequest(new HttpGet("http://127.0.0.1:1/")).getStatusCode());
+
+            List<HttpEndpointStats> metrics = sender.getMetrics();
+            metrics.forEach(endpointStats -> log.info("{}", endpointStats));
+            Assert.assertEquals(2, metrics.size());
+            HttpEndpointStats refused = metrics.get(0);
+            Assert.assertEquals("http://127.0.0.1:1", refused.getHost());
+            Assert.assertEquals(1, refused.getErrors().size());
+            Assert.assertEquals(1, refused.getTotal().getCount());
+
+            HttpEndpointStats endpointStats = metrics.get(1);
+            Assert.assertEquals("GET", endpointStats.getMethod());
+            Assert.assertEquals(baseUri, endpointStats.getHost());
+            Assert.assertEquals(Long.valueOf(5), endpointStats.getStatusCodes().get(200));
+            Assert.assertEquals(Long.valueOf(1), endpointStats.getStatusCodes().get(404));
+            Assert.assertEquals(6, endpointStats.getTotal().getCount());
+            Assert.assertEquals(6, endpointStats.getTimeToFirstByte().getCount());
+            Assert.assertEquals(6, endpointStats.getLeaseWait().getCount());
+            // 长连接复用，只建立了一次连接
+            Assert.assertEquals(1, endpointStats.getConnect().getCount());
+            Assert.assertTrue(endpointStats.getBytesIn() > 0);
+            Assert.assertTrue(endpointStats.getBytesOut() > 0);
+            Assert.assertTrue(endpointStats.getTotal().getMax() >= endpointStats.getTotal().getP50());
+        }
+        try (HttpClientSender sender = HttpClientSender.builder().build()) {
+            Assert.assertNull(sender.getMetrics());
+        }
+    }
+
+    private long concurrentRequests(HttpClientSender sender, int requests) throws Exception {
+        try (sender) {
+            ExecutorService executorService = Executors.newFixedThreadPool(requests);
+            long startTime = System.currentTimeMillis();
+            for (int i = 0; i < requests; i++) {
+                executorService.execute(() -> Assert.assertEquals(200, sender.doRequest(new HttpGet(baseUri + "/hello")).getStatusCode()));
+            }
+            executorService.shutdown();
+            executorService.awaitTermination(1, TimeUnit.MINUTES);
+            return System.currentTimeMillis() - startTime;
+        }
+    }
+
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.http;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * 类ResilientHttpClientSenderTest的实现描述：重试、熔断、对冲请求
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 23:58:30
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class ResilientHttpClientSenderTest {
+
+    private HttpServer server;
+    private String baseUri;
+    /**
+     * 服务端收到的请求数
+     */
+    private final AtomicInteger requests = new AtomicInteger();
+    /**
+     * 对冲请求（第22次请求）的X-Trace-Id请求头
+     */
+    private volatile String hedgeTraceId;
+
+    @Before
+    public void startServer() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/flaky", exchange -> {
+            // 前2次请求返回503
+            respond(exchange, requests.incrementAndGet() <= 2 ? 503 : 200);
+        });
+        server.createContext("/down", exchange -> {
+            requests.incrementAndGet();
+            respond(exchange, 500);
+        });
+        server.createContext("/tail", exchange -> {
+            // 第21次请求很慢，其余请求立即返回
+            int count = requests.incrementAndGet();
+            if (count == 22) {
+                hedgeTraceId = exchange.getRequestHeaders().getFirst("X-Trace-Id");
+            }
+            if (count == 21) {
+                try {
+                    Thread.sleep(2000);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            respond(exchange, 200);
+        });
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+        baseUri = "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode) throws IOException {
+        byte[] body = String.valueOf(statusCode).getBytes(StandardCharsets.UTF_8);
+        exchange.sendResponseHeaders(statusCode, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    @After
+    public void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    public void retry() throws IOException {
+        try (ResilientHttpClientSender sender = ResilientHttpClientSender.builder().setMaxRetries(2).setBackoff(10, 100).build()) {
+            ResponseMessage responseMessage = sender.doRequest(new HttpGet(baseUri + "/flaky"));
+            Assert.assertEquals(200, responseMessage.getStatusCode());
+            Assert.assertEquals(3, requests.get());
+            Assert.assertEquals(2, sender.getRetries());
+
+            // POST不是幂等请求，不重试
+            requests.set(0);
+            responseMessage = sender.doRequest(new HttpPost(baseUri + "/flaky"));
+            Assert.assertEquals(503, responseMessage.getStatusCode());
+            Assert.assertEquals(1, requests.get());
+        }
+    }
+
+    @Test
+    public void circuitBreaker() throws Exception {
+        try (ResilientHttpClientSender sender = ResilientHttpClientSender.builder().setMaxRetries(0).setFailureThreshold(3).setOpenTime(300).build()) {
+            for (int i = 0; i < 3; i++) {
+                Assert.assertEquals(500, sender.doRequest(new HttpGet(baseUri + "/down")).getStatusCode());
+            }
+            Assert.assertTrue(sender.isCircuitOpen(baseUri));
+
+            // 熔断期间直接返回503，不请求服务端
+            Assert.assertEquals(503, sender.doRequest(new HttpGet(baseUri + "/down")).getStatusCode());
+            Assert.assertEquals(3, requests.get());
+            Assert.assertEquals(1, sender.getRejected());
+
+            // 熔断时间结束后放行探测请求，成功则恢复
+            Thread.sleep(400);
+            Assert.assertEquals(200, sender.doRequest(new HttpGet(baseUri + "/flaky")).getStatusCode());
+            Assert.assertFalse(sender.isCircuitOpen(baseUri));
+        }
+    }
+
+    @Test
+    public void hedge() throws IOException {
+        try (ResilientHttpClientSender sender = ResilientHttpClientSender.builder().setHedgeEnabled(true).setMinHedgeDelay(50).build()) {
+            // 前20个请求用于统计耗时
+            for (int i = 0; i < 20; i++) {
+                Assert.assertEquals(200, sender.doRequest(new HttpGet(baseUri + "/tail")).getStatusCode());
+            }
+            Assert.assertEquals(0, sender.getHedges());
+
+            // 第21个请求很慢，等待p95耗时后发送对冲请求，使用先返回的对冲请求的响应
+            long startTime = System.currentTimeMillis();
+            HttpGet request = new HttpGet(baseUri + "/tail");
+            request.setHeader("X-Trace-Id", "hedge");
+            ResponseMessage responseMessage = sender.doRequest(request);
+            long elapsed = System.currentTimeMillis() - startTime;
+            log.info("对冲请求耗时={}ms", elapsed);
+            Assert.assertEquals(200, responseMessage.getStatusCode());
+            Assert.assertEquals(1, sender.getHedges());
+            Assert.assertTrue(elapsed < 1000);
+            // 对冲请求复制了原请求的请求头
+            Assert.assertEquals("hedge", hedgeTraceId);
+            // 慢请求已被中断，连接已归还连接池
+            Assert.assertEquals(0, sender.getSender().getPoolStats().getTotal().getLeased());
+        }
+    }
+
+    @Test
+    public void close() throws IOException {
+        HttpClientUtils.HttpClientSender httpClientSender = HttpClientUtils.HttpClientSender.builder().build();
+        try {
+            // 外部传入的HttpClientSender不随close关闭
+            ResilientHttpClientSender.builder().setSender(httpClientSender).setHedgeEnabled(true).build().close();
+            Assert.assertEquals(503, httpClientSender.doRequest(new HttpGet(baseUri + "/flaky")).getStatusCode());
+        } finally {
+            httpClientSender.close();
+        }
+    }
+
+}
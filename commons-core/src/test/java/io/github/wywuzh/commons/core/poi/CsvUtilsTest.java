@@ -0,0 +1,190 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.commons.lang3.time.DateFormatUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.github.wywuzh.commons.core.poi.annotation.ExcelCell;
+import io.github.wywuzh.commons.core.poi.constants.CellStyleConstants;
+import io.github.wywuzh.commons.core.poi.entity.User;
+import io.github.wywuzh.commons.core.poi.enums.CellTypeEnum;
+import io.github.wywuzh.commons.core.poi.modle.ExcelExportRequest;
+import io.github.wywuzh.commons.core.poi.support.ExcelColumnPlan;
+
+/**
+ * 类CsvUtilsTest的实现描述：CSV/TSV导出
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 16:48:25
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class CsvUtilsTest {
+
+    private static ExcelExportRequest createRequest(int rows) {
+        String[] columns = {
+                "username", "nick", "email", "mobile", "sex", "birthdate", "balance"
+        };
+        String[] columnTitles = {
+                "用户名", "昵称", "邮箱", "手机号", "性别", "出生日期", "资产余额"
+        };
+        List<User> dataColl = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            // 包含分隔符、双引号，需要转义
+            user.setNick("用户\"" + i + "\",测试");
+            user.setEmail("user" + i + "@163.com");
+            user.setMobile("14700000000");
+            user.setSex("男");
+            user.setBirthdate(new Date());
+            user.setBalance(new BigDecimal(i * 1000));
+            dataColl.add(user);
+        }
+
+        ExcelExportRequest excelExportRequest = new ExcelExportRequest();
+        excelExportRequest.setColumns(columns);
+        excelExportRequest.setColumnTitles(columnTitles);
+        excelExportRequest.setDataColl(dataColl);
+        return excelExportRequest;
+    }
+
+    @Test
+    public void exportData() throws Exception {
+        File destFile = File.createTempFile("用户信息", ".csv");
+        destFile.deleteOnExit();
+        long rows = CsvUtils.exportData(new FileOutputStream(destFile), destFile.getName(), createRequest(10));
+        Assert.assertEquals(10, rows);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new FileInputStream(destFile), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                log.info(line);
+            }
+        }
+    }
+
+    @Test
+    public void exportDataForGzip() throws Exception {
+        File destFile = File.createTempFile("用户信息", ".tsv.gz");
+        destFile.deleteOnExit();
+        long startTime = System.currentTimeMillis();
+        long rows = CsvUtils.exportData(new FileOutputStream(destFile), destFile.getName(), createRequest(200000));
+        log.info("数据行数={}，文件大小={}，耗时={}ms", rows, destFile.length(), System.currentTimeMillis() - startTime);
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(new GZIPInputStream(new FileInputStream(destFile)), StandardCharsets.UTF_8))) {
+            log.info("标题行={}", reader.readLine());
+            log.info("数据行={}", reader.readLine());
+            Assert.assertEquals(rows, reader.lines().count() + 1);
+        }
+    }
+
+    @Test
+    public void exportDataForNonNumberFormat() throws Exception {
+        Account account = new Account();
+        account.setCreateDate(new Date());
+        account.setBalance(new BigDecimal("1234567.891"));
+        account.setAccountingBalance(new BigDecimal("1234567.891"));
+        account.setRate(new BigDecimal("0.1236"));
+        account.setScientific(new BigDecimal("1234567.891"));
+        account.setTotal(1234567L);
+
+        ExcelExportRequest excelExportRequest = new ExcelExportRequest();
+        excelExportRequest.setColumns(new String[] {
+                "createDate", "balance", "accountingBalance", "rate", "scientific", "total"
+        });
+        excelExportRequest.setDataColl(Arrays.asList(account));
+        StringWriter writer = new StringWriter();
+        Assert.assertEquals(1, CsvUtils.writeData(writer, excelExportRequest, ','));
+
+        String[] lines = writer.toString().split("\r\n");
+        log.info("{}", lines[1]);
+        Assert.assertTrue(lines[1].startsWith(DateFormatUtils.format(account.getCreateDate(), "yyyy-MM-dd")));
+        // 日期、会计专用、科学计数、文本格式不是数值格式：会计专用按cellType格式化，其他按原值输出
+        Assert.assertEquals("\"1,234,567.89\",\"1,234,567.89\",12.36%,1234567.891,1234567", lines[1].substring(lines[1].indexOf(',') + 1));
+    }
+
+    @Test
+    public void exportDataForNonDateFormat() throws Exception {
+        Goods goods = new Goods();
+        goods.setName(" 商品 ");
+        goods.setPrice(new BigDecimal("-12.5"));
+        goods.setQuantity(3L);
+        goods.setCreateDate(new Date());
+
+        // 非日期格式的列不会在解析取值计划时按日期格式解析
+        ExcelColumnPlan columnPlan = ExcelColumnPlan.of(Goods.class, new String[] {
+                "name", "price", "quantity", "createDate"
+        });
+        Assert.assertEquals("[Red]0.00", columnPlan.getAccessor(1).getDataFormat());
+        Assert.assertEquals(DateFormatUtils.format(goods.getCreateDate(), "yyyy-MM-dd"), columnPlan.getAccessor(3).formatDate(goods.getCreateDate()));
+
+        ExcelExportRequest excelExportRequest = new ExcelExportRequest();
+        excelExportRequest.setColumns(new String[] {
+                "name", "price", "quantity", "createDate"
+        });
+        excelExportRequest.setDataColl(Arrays.asList(goods));
+        StringWriter writer = new StringWriter();
+        Assert.assertEquals(1, CsvUtils.writeData(writer, excelExportRequest, ','));
+
+        String[] lines = writer.toString().split("\r\n");
+        log.info("{}", lines[1]);
+        Assert.assertTrue(lines[1].endsWith("," + DateFormatUtils.format(goods.getCreateDate(), "yyyy-MM-dd")));
+    }
+
+    @Data
+    public static class Goods {
+        @ExcelCell(value = "名称", format = "General")
+        private String name;
+        @ExcelCell(value = "价格", format = "[Red]0.00")
+        private BigDecimal price;
+        @ExcelCell(value = "数量", format = "0 \"pcs\"")
+        private Long quantity;
+        @ExcelCell(value = "创建日期", cellType = CellTypeEnum.Date)
+        private Date createDate;
+    }
+
+    @Data
+    public static class Account {
+        @ExcelCell(value = "创建日期", format = "yyyy-MM-dd;@")
+        private Date createDate;
+        @ExcelCell(value = "余额", cellType = CellTypeEnum.Money)
+        private BigDecimal balance;
+        @ExcelCell(value = "会计余额", cellType = CellTypeEnum.Money, format = CellStyleConstants.STYLE_FORMAT_Accounting)
+        private BigDecimal accountingBalance;
+        @ExcelCell(value = "比率", format = "0.00%")
+        private BigDecimal rate;
+        @ExcelCell(value = "科学计数", format = "0.00E+00")
+        private BigDecimal scientific;
+        @ExcelCell(value = "合计", format = "@")
+        private Long total;
+    }
+
+}
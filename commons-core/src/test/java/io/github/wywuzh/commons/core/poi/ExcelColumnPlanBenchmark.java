@@ -0,0 +1,219 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import io.github.wywuzh.commons.core.poi.annotation.ExcelCell;
+import io.github.wywuzh.commons.core.poi.enums.CellTypeEnum;
+import io.github.wywuzh.commons.core.poi.enums.ColumnWidthModeEnum;
+import io.github.wywuzh.commons.core.poi.modle.ExcelExportRequest;
+import io.github.wywuzh.commons.core.poi.support.ExcelColumnPlan;
+import io.github.wywuzh.commons.core.reflect.ReflectUtils;
+import io.github.wywuzh.commons.core.util.DateUtils;
+
+/**
+ * 类ExcelColumnPlanBenchmark的实现描述：Excel导出列取值性能对比（20列POJO）
+ *
+ * <pre>
+ * 1. reflect：每个单元格都通过 ReflectUtils.getValue 取值，日期列再解析一次 @ExcelCell 注解（v3.5.0之前的导出方式）
+ * 2. plan：通过 ExcelColumnPlan 预先解析好的取值计划取值
+ * 3. writeData：ExcelUtils.writeData 完整写入（SXSSF）
+ * 4. writeData(列宽抽样)：ExcelUtils.writeData 完整写入（SXSSF），列宽按抽样数据行计算
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 10:48:02
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class ExcelColumnPlanBenchmark {
+
+    private static final int ROWS = 200000;
+    private static final int ROUNDS = 5;
+
+    private static final String[] COLUMNS = {
+            "c01", "c02", "c03", "c04", "c05", "c06", "c07", "c08", "c09", "c10", "c11", "c12", "c13", "c14", "c15", "c16", "c17", "c18", "c19", "c20"
+    };
+
+    public static void main(String[] args) throws Exception {
+        List<Row20> dataList = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            dataList.add(Row20.of(i));
+        }
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            long reflectRowsPerSecond = rowsPerSecond(ROWS, () -> {
+                long blackhole = 0;
+                for (Row20 data : dataList) {
+                    for (String column : COLUMNS) {
+                        Object value = ReflectUtils.getValue(data, column);
+                        if (value instanceof Date) {
+                            value = DateUtils.format((Date) value, getPattern(data, column));
+                        }
+                        blackhole += value == null ? 0 : 1;
+                    }
+                }
+                return blackhole;
+            });
+
+            long planRowsPerSecond = rowsPerSecond(ROWS, () -> {
+                long blackhole = 0;
+                ExcelColumnPlan columnPlan = ExcelColumnPlan.of(Row20.class, COLUMNS);
+                for (Row20 data : dataList) {
+                    for (int k = 0; k < columnPlan.size(); k++) {
+                        ExcelColumnPlan.ColumnAccessor columnAccessor = columnPlan.getAccessor(k);
+                        Object value = columnAccessor.getValue(data);
+                        if (value instanceof Date) {
+                            value = columnAccessor.formatDate((Date) value);
+                        }
+                        blackhole += value == null ? 0 : 1;
+                    }
+                }
+                return blackhole;
+            });
+
+            long writeRowsPerSecond = rowsPerSecond(ROWS, () -> writeData(dataList, ColumnWidthModeEnum.EXACT));
+            long sampledWriteRowsPerSecond = rowsPerSecond(ROWS, () -> writeData(dataList, ColumnWidthModeEnum.SAMPLED));
+
+            log.info("第{}轮：reflect={} 行/秒, plan={} 行/秒, writeData={} 行/秒, writeData(列宽抽样)={} 行/秒", round, reflectRowsPerSecond, planRowsPerSecond, writeRowsPerSecond,
+                    sampledWriteRowsPerSecond);
+        }
+    }
+
+    private static long writeData(List<Row20> dataList, ColumnWidthModeEnum columnWidthMode) throws Exception {
+        ExcelExportRequest excelExportRequest = new ExcelExportRequest();
+        excelExportRequest.setColumns(COLUMNS);
+        excelExportRequest.setColumnTitles(COLUMNS);
+        excelExportRequest.setDataColl(dataList);
+        excelExportRequest.setColumnWidthMode(columnWidthMode);
+        SXSSFWorkbook workbook = ExcelUtils.createStreamingWorkbook(excelExportRequest);
+        try {
+            Sheet sheet = ExcelUtils.createSheet(workbook, excelExportRequest);
+            ExcelUtils.writeData(workbook, sheet, excelExportRequest);
+            return sheet.getLastRowNum();
+        } finally {
+            ExcelUtils.dispose(workbook);
+        }
+    }
+
+    private static String getPattern(Object data, String column) {
+        Object realField = ReflectUtils.getRealField(data, column);
+        ExcelCell excelCell = null;
+        if (realField instanceof Field) {
+            excelCell = ((Field) realField).getAnnotation(ExcelCell.class);
+        } else if (realField instanceof Method) {
+            excelCell = ((Method) realField).getAnnotation(ExcelCell.class);
+        }
+        return excelCell != null && !excelCell.format().isEmpty() ? excelCell.format() : DateUtils.PATTERN_DATE_TIME;
+    }
+
+    private static long rowsPerSecond(int rows, Task task) throws Exception {
+        long startTime = System.nanoTime();
+        long blackhole = task.run();
+        long costTime = Math.max(System.nanoTime() - startTime, 1);
+        if (blackhole == Long.MIN_VALUE) {
+            log.info("blackhole={}", blackhole);
+        }
+        return rows * 1000000000L / costTime;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        long run() throws Exception;
+    }
+
+    @Data
+    public static class Row20 {
+        @ExcelCell(value = "c01", index = 0)
+        private String c01;
+        @ExcelCell(value = "c02", index = 1)
+        private String c02;
+        @ExcelCell(value = "c03", index = 2)
+        private String c03;
+        @ExcelCell(value = "c04", index = 3)
+        private String c04;
+        @ExcelCell(value = "c05", index = 4)
+        private String c05;
+        @ExcelCell(value = "c06", cellType = CellTypeEnum.Integer, index = 5)
+        private Integer c06;
+        @ExcelCell(value = "c07", cellType = CellTypeEnum.Integer, index = 6)
+        private Integer c07;
+        @ExcelCell(value = "c08", cellType = CellTypeEnum.Integer, index = 7)
+        private Long c08;
+        @ExcelCell(value = "c09", cellType = CellTypeEnum.Integer, index = 8)
+        private Long c09;
+        @ExcelCell(value = "c10", cellType = CellTypeEnum.BigDecimal, index = 9)
+        private Double c10;
+        @ExcelCell(value = "c11", cellType = CellTypeEnum.Money, index = 10)
+        private BigDecimal c11;
+        @ExcelCell(value = "c12", cellType = CellTypeEnum.Money, index = 11)
+        private BigDecimal c12;
+        @ExcelCell(value = "c13", cellType = CellTypeEnum.Rate, index = 12)
+        private BigDecimal c13;
+        @ExcelCell(value = "c14", cellType = CellTypeEnum.Date, format = "yyyy-MM-dd", index = 13)
+        private Date c14;
+        @ExcelCell(value = "c15", cellType = CellTypeEnum.DateTime, index = 14)
+        private Date c15;
+        @ExcelCell(value = "c16", index = 15)
+        private String c16;
+        @ExcelCell(value = "c17", index = 16)
+        private String c17;
+        @ExcelCell(value = "c18", index = 17)
+        private String c18;
+        @ExcelCell(value = "c19", index = 18)
+        private String c19;
+        @ExcelCell(value = "c20", index = 19)
+        private String c20;
+
+        static Row20 of(int i) {
+            Row20 row = new Row20();
+            row.setC01("name" + i);
+            row.setC02("nick" + i);
+            row.setC03("user" + i + "@163.com");
+            row.setC04("147" + i);
+            row.setC05(i % 2 == 0 ? "男" : "女");
+            row.setC06(i);
+            row.setC07(i * 2);
+            row.setC08((long) i * 3);
+            row.setC09((long) i * 4);
+            row.setC10(i / 3.0);
+            row.setC11(BigDecimal.valueOf(i, 2));
+            row.setC12(BigDecimal.valueOf(i * 7L, 2));
+            row.setC13(BigDecimal.valueOf(i % 10000, 4));
+            row.setC14(new Date());
+            row.setC15(new Date());
+            row.setC16("remark" + i);
+            row.setC17("a" + i);
+            row.setC18("b" + i);
+            row.setC19("c" + i);
+            row.setC20("d" + i);
+            return row;
+        }
+    }
+
+}
@@ -20,11 +20,21 @@ import java.lang.reflect.Field;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.poi.common.usermodel.fonts.FontCharset;
+import org.apache.poi.hssf.usermodel.HSSFWorkbook;
 import org.apache.poi.ss.usermodel.*;
+import org.apache.poi.xssf.usermodel.XSSFCellStyle;
+import org.apache.poi.xssf.usermodel.XSSFColor;
+import org.apache.poi.xssf.usermodel.XSSFFont;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.Assert;
 import org.junit.Test;
 
 import io.github.wywuzh.commons.core.json.jackson.JsonMapper;
@@ -32,7 +42,11 @@ import io.github.wywuzh.commons.core.poi.annotation.ExcelCell;
 import io.github.wywuzh.commons.core.poi.constants.CellStyleConstants;
 import io.github.wywuzh.commons.core.poi.entity.User;
 import io.github.wywuzh.commons.core.poi.modle.ExcelExportRequest;
+import io.github.wywuzh.commons.core.poi.style.CellStyleRegistry;
 import io.github.wywuzh.commons.core.poi.style.CellStyleTools;
+import io.github.wywuzh.commons.core.poi.support.ValidationListRegistry;
+import io.github.wywuzh.commons.core.util.DateUtils;
+import io.github.wywuzh.commons.core.util.PageIterator;
 
 /**
  * 类ExcelUtilsTest的实现描述：Excel 工具
@@ -273,6 +287,374 @@ public class ExcelUtilsTest {
         }
     }
 
+    @Test
+    public void exportDataForStreaming() throws Exception {
+        String[] columns = {
+                "username", "nick", "email", "mobile", "sex", "birthdate", "balance"
+        };
+        String[] columnTitles = {
+                "用户名", "昵称", "邮箱", "手机号", "性别", "出生日期", "资产余额"
+        };
+        List<User> dataColl = new ArrayList<>();
+        for (int i = 0; i < 2500; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setNick("用户" + i);
+            user.setEmail("user" + i + "@163.com");
+            user.setMobile("14700000000");
+            user.setSex("男");
+            user.setBirthdate(new Date());
+            user.setBalance(new BigDecimal(i));
+            dataColl.add(user);
+        }
+
+        ExcelExportRequest excelExportRequest = new ExcelExportRequest();
+        excelExportRequest.setSheetName("用户信息");
+        excelExportRequest.setColumns(columns);
+        excelExportRequest.setColumnTitles(columnTitles);
+        excelExportRequest.setDataColl(dataColl);
+        // 流式导出，每个sheet最多写入1000行
+        excelExportRequest.setStreaming(true);
+        excelExportRequest.setRowAccessWindowSize(100);
+        excelExportRequest.setMaxRowsPerSheet(1000);
+
+        File destFile = File.createTempFile("用户信息", ".xlsx");
+        destFile.deleteOnExit();
+        ExcelUtils.exportData(new FileOutputStream(destFile), destFile.getName(), excelExportRequest);
+
+        try (Workbook workbook = ExcelUtils.create(destFile)) {
+            log.info("sheet数量={}", workbook.getNumberOfSheets());
+            for (int i = 0; i < workbook.getNumberOfSheets(); i++) {
+                Sheet sheet = workbook.getSheetAt(i);
+                log.info("sheetName={}, lastRowNum={}", sheet.getSheetName(), sheet.getLastRowNum());
+            }
+        }
+
+        // 流式读取，每批次500行
+        List<User> streamingList = new ArrayList<>();
+        long total = ExcelUtils.importData(destFile, User.class, columns, 1, 500, batch -> {
+            log.info("batchSize={}, first={}", batch.size(), batch.get(0));
+            Assert.assertTrue(batch.size() <= 500);
+            streamingList.addAll(batch);
+        });
+        log.info("total={}", total);
+        Assert.assertEquals(2500, total);
+        Assert.assertEquals(2500, streamingList.size());
+        for (int i = 0; i < 2500; i++) {
+            User user = streamingList.get(i);
+            Assert.assertEquals("user" + i, user.getUsername());
+            Assert.assertEquals(0, new BigDecimal(i).compareTo(user.getBalance()));
+            // 出生日期按“yyyy-MM-dd”格式导出
+            Assert.assertEquals(DateUtils.format(dataColl.get(i).getBirthdate(), DateUtils.PATTERN_DATE), DateUtils.format(user.getBirthdate(), DateUtils.PATTERN_DATE));
+        }
+
+        // 并行读取，每个sheet一个线程
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try (InputStream inputStream = new FileInputStream(destFile)) {
+            List<User> userList = ExcelUtils.importData(inputStream, User.class, columns, 1, executor);
+            log.info("并行导入数量={}, first={}, last={}", userList.size(), userList.get(0).getUsername(), userList.get(userList.size() - 1).getUsername());
+            Assert.assertEquals(2500, userList.size());
+            Assert.assertEquals("user0", userList.get(0).getUsername());
+            Assert.assertEquals("user2499", userList.get(userList.size() - 1).getUsername());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void importDataForStreamingDateNumber() throws Exception {
+        File destFile = File.createTempFile("日期数值", ".xlsx");
+        destFile.deleteOnExit();
+        Date createDate = DateUtils.parse("2023-03-15 12:00:00", DateUtils.PATTERN_DATE_TIME);
+        try (Workbook workbook = new XSSFWorkbook(); OutputStream outputStream = new FileOutputStream(destFile)) {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.createDataFormat().getFormat("yyyy-mm-dd"));
+            Sheet sheet = workbook.createSheet("日期数值");
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("编号");
+            header.createCell(1).setCellValue("天数");
+            header.createCell(2).setCellValue("金额");
+            header.createCell(3).setCellValue("创建日期");
+            header.createCell(4).setCellValue("创建日期文本");
+            Row row = sheet.createRow(1);
+            // 所有列都设置了日期格式
+            for (int c = 0; c < 5; c++) {
+                row.createCell(c).setCellStyle(dateStyle);
+            }
+            row.getCell(0).setCellValue(45000);
+            row.getCell(1).setCellValue(45001);
+            row.getCell(2).setCellValue(45000.5);
+            row.getCell(3).setCellValue(createDate);
+            row.getCell(4).setCellValue(createDate);
+            workbook.write(outputStream);
+        }
+
+        String[] columns = {
+                "code", "days", "amount", "createDate", "createDateText"
+        };
+        List<DateNumberRow> rowList = new ArrayList<>();
+        long total = ExcelUtils.importData(destFile, DateNumberRow.class, columns, 1, 100, rowList::addAll);
+        Assert.assertEquals(1, total);
+        DateNumberRow dateNumberRow = rowList.get(0);
+        log.info("{}", dateNumberRow);
+        // 数值类型的字段按原始数值读取
+        Assert.assertEquals(Integer.valueOf(45000), dateNumberRow.getCode());
+        Assert.assertEquals(Long.valueOf(45001), dateNumberRow.getDays());
+        Assert.assertEquals(0, new BigDecimal("45000.5").compareTo(dateNumberRow.getAmount()));
+        // 日期、字符串类型的字段按日期读取
+        Assert.assertEquals(createDate, dateNumberRow.getCreateDate());
+        Assert.assertEquals("2023-03-15 12:00:00", dateNumberRow.getCreateDateText());
+    }
+
+    @Data
+    public static class DateNumberRow {
+        private Integer code;
+        private Long days;
+        private BigDecimal amount;
+        private Date createDate;
+        private String createDateText;
+    }
+
+    @Test
+    public void importDataParallel() throws Exception {
+        String[] columns = {
+                "username", "balance"
+        };
+        ExecutorService executor = Executors.newFixedThreadPool(3);
+        try {
+            // 每个sheet由各自的任务读取，结果按sheet、行的顺序合并
+            byte[] data = createSheets(new XSSFWorkbook(), 4, 300, -1);
+            List<User> userList = ExcelUtils.importData(new ByteArrayInputStream(data), User.class, columns, 1, executor);
+            Assert.assertEquals(4 * 300, userList.size());
+            for (int s = 0; s < 4; s++) {
+                for (int r = 0; r < 300; r++) {
+                    User user = userList.get(s * 300 + r);
+                    Assert.assertEquals("sheet" + s + "-" + r, user.getUsername());
+                    Assert.assertEquals(0, new BigDecimal(r).compareTo(user.getBalance()));
+                }
+            }
+
+            // 第1、3个sheet都有错误数据时，抛出第1个sheet的错误
+            data = createSheets(new XSSFWorkbook(), 4, 300, 1);
+            try {
+                ExcelUtils.importData(new ByteArrayInputStream(data), User.class, columns, 1, executor);
+                Assert.fail("importData should fail");
+            } catch (IOException e) {
+                log.info("导入错误：{}", e.getMessage());
+                Assert.assertTrue(e.getMessage().contains("[sheet1]Sheet的第101行第B列"));
+            }
+
+            // “.xls”文件只创建一次Workbook，按顺序读取
+            data = createSheets(new HSSFWorkbook(), 3, 200, -1);
+            userList = ExcelUtils.importData(new ByteArrayInputStream(data), User.class, columns, 1, executor);
+            Assert.assertEquals(3 * 200, userList.size());
+            Assert.assertEquals("sheet2-199", userList.get(3 * 200 - 1).getUsername());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * @param errorSheet 从该sheet开始，每隔一个sheet的第100条数据的资产余额为非数字，小于0时没有错误数据
+     */
+    private static byte[] createSheets(Workbook target, int sheets, int rows, int errorSheet) throws IOException {
+        try (Workbook workbook = target; ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            for (int s = 0; s < sheets; s++) {
+                Sheet sheet = workbook.createSheet("sheet" + s);
+                Row header = sheet.createRow(0);
+                header.createCell(0).setCellValue("用户名");
+                header.createCell(1).setCellValue("资产余额");
+                for (int r = 0; r < rows; r++) {
+                    Row row = sheet.createRow(r + 1);
+                    row.createCell(0).setCellValue("sheet" + s + "-" + r);
+                    if (errorSheet >= 0 && s >= errorSheet && (s - errorSheet) % 2 == 0 && r == 99) {
+                        row.createCell(1).setCellValue("abc");
+                    } else {
+                        row.createCell(1).setCellValue(r);
+                    }
+                }
+            }
+            workbook.write(outputStream);
+            return outputStream.toByteArray();
+        }
+    }
+
+    @Test
+    public void exportDataForPageIterator() throws Exception {
+        String[] columns = {
+                "username", "nick", "email", "mobile", "sex", "birthdate", "balance"
+        };
+        String[] columnTitles = {
+                "用户名", "昵称", "邮箱", "手机号", "性别", "出生日期", "资产余额"
+        };
+        int total = 2345;
+
+        ExcelExportRequest excelExportRequest = new ExcelExportRequest();
+        excelExportRequest.setSheetName("用户信息");
+        excelExportRequest.setColumns(columns);
+        excelExportRequest.setColumnTitles(columnTitles);
+        // 分页拉取数据，每页500条
+        excelExportRequest.setDataIterator(new PageIterator<User>((pageNo, pageSize) -> {
+            List<User> page = new ArrayList<>();
+            for (int i = (pageNo - 1) * pageSize; i < Math.min(pageNo * pageSize, total); i++) {
+                User user = new User();
+                user.setUsername("user" + i);
+                user.setNick("用户" + i);
+                user.setBirthdate(new Date());
+                user.setBalance(new BigDecimal(i));
+                page.add(user);
+            }
+            log.info("pageNo={}, size={}", pageNo, page.size());
+            return page;
+        }, 500));
+        excelExportRequest.setStreaming(true);
+
+        File destFile = File.createTempFile("用户信息", ".xlsx");
+        destFile.deleteOnExit();
+        ExcelUtils.exportData(new FileOutputStream(destFile), destFile.getName(), excelExportRequest);
+
+        try (Workbook workbook = ExcelUtils.create(destFile)) {
+            log.info("lastRowNum={}", workbook.getSheetAt(0).getLastRowNum());
+        }
+    }
+
+    @Test
+    public void writeDataForCellStyleRegistry() throws Exception {
+        String[] columns = {
+                "username", "nick", "birthdate", "balance"
+        };
+        String[] columnTitles = {
+                "用户名", "昵称", "出生日期", "资产余额"
+        };
+        User user = new User();
+        user.setUsername("wywuzh");
+        user.setNick("伍章红");
+        user.setBirthdate(new Date());
+        user.setBalance(new BigDecimal("100000000000.3698"));
+
+        try (Workbook workbook = ExcelUtils.createWorkbook("用户信息.xlsx")) {
+            for (int i = 0; i < 10; i++) {
+                ExcelExportRequest excelExportRequest = new ExcelExportRequest();
+                excelExportRequest.setSheetName("用户信息" + i);
+                excelExportRequest.setColumns(columns);
+                excelExportRequest.setColumnTitles(columnTitles);
+                excelExportRequest.setRequiredColumnTitles(Arrays.asList("用户名"));
+                excelExportRequest.setTips("注：用户信息不能删除！");
+                excelExportRequest.setDataColl(Collections.singletonList(user));
+                Sheet sheet = ExcelUtils.createSheet(workbook, excelExportRequest);
+                ExcelUtils.writeData(workbook, sheet, excelExportRequest);
+                // 同一工作簿中属性相同的样式只创建一次，样式数量不随sheet数量增长
+                log.info("sheet数量={}, 样式数量={}, 字体数量={}", workbook.getNumberOfSheets(), workbook.getNumCellStyles(), workbook.getNumberOfFonts());
+            }
+        }
+    }
+
+    @Test
+    public void getCellStyleKeepsBaseStyle() throws Exception {
+        try (Workbook workbook = new XSSFWorkbook()) {
+            CellStyle baseStyle = workbook.createCellStyle();
+            baseStyle.setBorderTop(BorderStyle.THIN);
+            baseStyle.setTopBorderColor(IndexedColors.RED.getIndex());
+            baseStyle.setRotation((short) 45);
+            baseStyle.setIndention((short) 2);
+            baseStyle.setLocked(false);
+            baseStyle.setHidden(true);
+            baseStyle.setShrinkToFit(true);
+            short dataFormat = workbook.createDataFormat().getFormat("0.00");
+
+            CellStyle cellStyle = CellStyleRegistry.getCellStyle(workbook, baseStyle, dataFormat);
+            Assert.assertEquals(dataFormat, cellStyle.getDataFormat());
+            Assert.assertEquals(IndexedColors.RED.getIndex(), cellStyle.getTopBorderColor());
+            Assert.assertEquals(45, cellStyle.getRotation());
+            Assert.assertEquals(2, cellStyle.getIndention());
+            Assert.assertFalse(cellStyle.getLocked());
+            Assert.assertTrue(cellStyle.getHidden());
+            Assert.assertTrue(cellStyle.getShrinkToFit());
+
+            // 只有旋转角度不同的基础样式不能复用同一个样式
+            CellStyle otherBaseStyle = workbook.createCellStyle();
+            otherBaseStyle.cloneStyleFrom(baseStyle);
+            otherBaseStyle.setRotation((short) 90);
+            CellStyle otherCellStyle = CellStyleRegistry.getCellStyle(workbook, otherBaseStyle, dataFormat);
+            Assert.assertNotEquals(cellStyle.getIndex(), otherCellStyle.getIndex());
+            Assert.assertEquals(90, otherCellStyle.getRotation());
+            Assert.assertEquals(cellStyle.getIndex(), CellStyleRegistry.getCellStyle(workbook, baseStyle, dataFormat).getIndex());
+        }
+    }
+
+    @Test
+    public void getCellStyleKeepsXssfColor() throws Exception {
+        try (XSSFWorkbook workbook = new XSSFWorkbook()) {
+            XSSFFont font = workbook.createFont();
+            font.setFontName("宋体");
+            font.setCharSet(FontCharset.GB2312.getNativeId());
+            font.setColor(new XSSFColor(new byte[] {
+                    (byte) 0x12, (byte) 0x34, (byte) 0x56
+            }, null));
+            XSSFCellStyle baseStyle = workbook.createCellStyle();
+            baseStyle.setFont(font);
+            baseStyle.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+            baseStyle.setFillForegroundColor(new XSSFColor(new byte[] {
+                    (byte) 0xAB, (byte) 0xCD, (byte) 0xEF
+            }, null));
+            baseStyle.setBorderTop(BorderStyle.THIN);
+            baseStyle.setTopBorderColor(new XSSFColor(new byte[] {
+                    (byte) 0x01, (byte) 0x02, (byte) 0x03
+            }, null));
+            short dataFormat = workbook.createDataFormat().getFormat("0.00");
+
+            XSSFCellStyle cellStyle = (XSSFCellStyle) CellStyleRegistry.getCellStyle(workbook, baseStyle, dataFormat);
+            Assert.assertEquals(dataFormat, cellStyle.getDataFormat());
+            Assert.assertEquals("FFABCDEF", cellStyle.getFillForegroundXSSFColor().getARGBHex());
+            Assert.assertEquals("FF010203", cellStyle.getTopBorderXSSFColor().getARGBHex());
+            Assert.assertEquals("FF123456", cellStyle.getFont().getXSSFColor().getARGBHex());
+            Assert.assertEquals(FontCharset.GB2312.getNativeId(), cellStyle.getFont().getCharSet());
+
+            // 只有RGB填充色不同的基础样式不能复用同一个样式
+            XSSFCellStyle otherBaseStyle = workbook.createCellStyle();
+            otherBaseStyle.cloneStyleFrom(baseStyle);
+            otherBaseStyle.setFillForegroundColor(new XSSFColor(new byte[] {
+                    (byte) 0xFE, (byte) 0xDC, (byte) 0xBA
+            }, null));
+            XSSFCellStyle otherCellStyle = (XSSFCellStyle) CellStyleRegistry.getCellStyle(workbook, otherBaseStyle, dataFormat);
+            Assert.assertNotEquals(cellStyle.getIndex(), otherCellStyle.getIndex());
+            Assert.assertEquals("FFFEDCBA", otherCellStyle.getFillForegroundXSSFColor().getARGBHex());
+            Assert.assertEquals(cellStyle.getIndex(), CellStyleRegistry.getCellStyle(workbook, baseStyle, dataFormat).getIndex());
+        }
+    }
+
+    @Test
+    public void setValidationForSharedList() throws Exception {
+        String[] columns = {
+                "username", "nick", "sex"
+        };
+        String[] columnTitles = {
+                "用户名", "昵称", "性别"
+        };
+        String[] names = new String[20];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = "用户" + i;
+        }
+        Map<String, String[]> columnValidation = new HashMap<>();
+        columnValidation.put("用户名", names);
+        columnValidation.put("昵称", names);
+
+        try (Workbook workbook = ExcelUtils.createWorkbook("用户信息.xlsx")) {
+            for (int i = 0; i < 5; i++) {
+                ExcelExportRequest excelExportRequest = new ExcelExportRequest();
+                excelExportRequest.setSheetName("用户信息" + i);
+                excelExportRequest.setColumns(columns);
+                excelExportRequest.setColumnTitles(columnTitles);
+                excelExportRequest.setColumnValidation(columnValidation);
+                Sheet sheet = ExcelUtils.createSheet(workbook, excelExportRequest);
+                ExcelUtils.writeData(workbook, sheet, excelExportRequest);
+            }
+            // 内容相同的下拉列表只写入一次：1个隐藏sheet、1个名称
+            log.info("sheet数量={}, 名称数量={}, 隐藏sheet行数={}", workbook.getNumberOfSheets(), workbook.getAllNames().size(),
+                    workbook.getSheet(ValidationListRegistry.HIDDEN_SHEET_NAME).getPhysicalNumberOfRows());
+        }
+    }
+
     @Test
     public void importTest() throws Exception {
         InputStream inputStream = null;
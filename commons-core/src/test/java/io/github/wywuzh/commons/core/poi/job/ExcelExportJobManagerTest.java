@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.poi.job;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import io.github.wywuzh.commons.core.poi.entity.User;
+import io.github.wywuzh.commons.core.poi.enums.ExportJobStatusEnum;
+import io.github.wywuzh.commons.core.poi.modle.ExcelExportRequest;
+
+/**
+ * 类ExcelExportJobManagerTest的实现描述：Excel异步导出任务管理
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 16:05:40
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class ExcelExportJobManagerTest {
+
+    private static ExcelExportRequest createRequest(int rows) {
+        List<User> dataColl = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            User user = new User();
+            user.setUsername("user" + i);
+            user.setNick("用户" + i);
+            user.setBirthdate(new Date());
+            user.setBalance(new BigDecimal(i));
+            dataColl.add(user);
+        }
+        ExcelExportRequest excelExportRequest = new ExcelExportRequest();
+        excelExportRequest.setSheetName("用户信息");
+        excelExportRequest.setColumns(new String[] {
+                "username", "nick", "birthdate", "balance"
+        });
+        excelExportRequest.setColumnTitles(new String[] {
+                "用户名", "昵称", "出生日期", "资产余额"
+        });
+        excelExportRequest.setDataColl(dataColl);
+        excelExportRequest.setStreaming(true);
+        return excelExportRequest;
+    }
+
+    @Test
+    public void submit() throws Exception {
+        try (ExcelExportJobManager jobManager = new ExcelExportJobManager(2, 10)) {
+            ExcelExportJob job = jobManager.submit("用户信息.xlsx", createRequest(5000));
+            while (!job.isDone()) {
+                log.info("jobId={}, status={}, rowsWritten={}, progress={}", job.getJobId(), job.getStatus(), job.getRowsWritten(), job.getProgress());
+                Thread.sleep(50);
+            }
+            Assert.assertEquals(ExportJobStatusEnum.SUCCESS, job.getStatus());
+            Assert.assertEquals(5000, job.getRowsWritten());
+            Assert.assertTrue(job.getFile().length() > 0);
+
+            jobManager.remove(job.getJobId());
+            Assert.assertFalse(job.getFile().exists());
+        }
+    }
+
+    @Test
+    public void cancel() throws Exception {
+        try (ExcelExportJobManager jobManager = new ExcelExportJobManager(1, 10)) {
+            ExcelExportJob job = jobManager.submit("用户信息.xlsx", createRequest(200000));
+            Thread.sleep(100);
+            Assert.assertTrue(jobManager.cancel(job.getJobId()));
+            Assert.assertEquals(ExportJobStatusEnum.CANCELLED, job.getStatus());
+            log.info("jobId={} 取消时已写入数据行数={}", job.getJobId(), job.getRowsWritten());
+        }
+    }
+
+}
@@ -15,13 +15,16 @@
  */
 package io.github.wywuzh.commons.core.reflect;
 
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
 
+import lombok.Data;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 
+import org.junit.Assert;
 import org.junit.Test;
 
 import io.github.wywuzh.commons.core.poi.entity.User;
@@ -49,4 +52,110 @@ public class ReflectUtilsTest {
 
     }
 
+    @SneakyThrows
+    @Test
+    public void setValue() {
+        User user = new User();
+        ReflectUtils.setValue(user, "username", "wywuzh");
+        ReflectUtils.setValue(user, "balance", new BigDecimal("100.00"));
+        Assert.assertEquals("wywuzh", ReflectUtils.getValue(user, "username"));
+        Assert.assertEquals(new BigDecimal("100.00"), ReflectUtils.getValue(user, "balance"));
+        // 同一个类、同一个字段只会解析一次
+        Assert.assertSame(PropertyAccessor.of(User.class, "username"), PropertyAccessor.of(User.class, "username"));
+
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < 1000000; i++) {
+            ReflectUtils.getValue(user, "username");
+        }
+        log.info("ReflectUtils.getValue取值1000000次，耗时={}ms", System.currentTimeMillis() - startTime);
+    }
+
+    @Test
+    public void setValueKeepsCause() {
+        // 类型不匹配：MethodHandle抛出ClassCastException，需要保留为IllegalAccessException的cause
+        try {
+            PropertyAccessor.of(User.class, "balance").setValue(new User(), "100.00");
+            Assert.fail();
+        } catch (IllegalAccessException e) {
+            Assert.assertTrue(e.getCause() instanceof ClassCastException);
+        }
+    }
+
+    @SneakyThrows
+    @Test
+    public void copyAndMergeProperties() {
+        User source = new User();
+        source.setUsername("wywuzh");
+        source.setBalance(new BigDecimal("100.125"));
+
+        User target = new User();
+        ReflectUtils.copyProperties(source, target, new String[] {
+                "username", "balance"
+        });
+        Assert.assertEquals("wywuzh", target.getUsername());
+
+        String[] fields = {
+                "balance"
+        };
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < 1000000; i++) {
+            ReflectUtils.mergeProperties(source, target, fields);
+        }
+        log.info("ReflectUtils.mergeProperties合并1000000次，balance={}，耗时={}ms", target.getBalance(), System.currentTimeMillis() - startTime);
+    }
+
+    @SneakyThrows
+    @Test
+    public void mergeProperties() {
+        String[] fields = {
+                "count", "total", "amount", "rate", "balance"
+        };
+        Account source = new Account();
+        source.setCount(3);
+        source.setTotal(10000000000L);
+        source.setAmount(1.005D);
+        source.setRate(0.125F);
+        source.setBalance(new BigDecimal("100.125"));
+        Account target = new Account();
+        // null视为0
+        ReflectUtils.mergeProperties(source, target, fields);
+        Assert.assertEquals(Integer.valueOf(3), target.getCount());
+        Assert.assertEquals(Long.valueOf(10000000000L), target.getTotal());
+        // 按二进制精确值计算，1.005实际为1.00499999...，保留2位小数后为1.0
+        Assert.assertEquals(Double.valueOf(1.0D), target.getAmount());
+        Assert.assertEquals(Float.valueOf(0.13F), target.getRate());
+        Assert.assertEquals(new BigDecimal("100.13"), target.getBalance());
+
+        ReflectUtils.mergeProperties(source, target, fields);
+        Assert.assertEquals(Integer.valueOf(6), target.getCount());
+        Assert.assertEquals(Long.valueOf(20000000000L), target.getTotal());
+        Assert.assertEquals(Double.valueOf(2.0D), target.getAmount());
+        Assert.assertEquals(new BigDecimal("200.26"), target.getBalance());
+
+        // Double：0.1 + 0.2 保留2位小数
+        source.setAmount(0.1D);
+        target.setAmount(0.2D);
+        ReflectUtils.mergeProperties(source, target, fields);
+        Assert.assertEquals(Double.valueOf(0.3D), target.getAmount());
+
+        // Double：两个整数直接相加，-0.0的结果与BigDecimal计算一致为0.0
+        source.setAmount(-0.0D);
+        target.setAmount(-0.0D);
+        ReflectUtils.mergeProperties(source, target, fields);
+        Assert.assertEquals(Double.valueOf(0.0D), target.getAmount());
+        source.setAmount(4503599627370496D);
+        target.setAmount(-3D);
+        ReflectUtils.mergeProperties(source, target, fields);
+        Assert.assertEquals(Double.valueOf(4503599627370493D), target.getAmount());
+    }
+
+    @Data
+    public static class Account {
+        private Integer count;
+        private Long total;
+        private Double amount;
+        private Float rate;
+        private BigDecimal balance;
+    }
+
 }
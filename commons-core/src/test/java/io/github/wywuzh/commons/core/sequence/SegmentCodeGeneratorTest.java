@@ -0,0 +1,160 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.sequence;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * 类SegmentCodeGeneratorTest的实现描述：号段编码生成器
+ *
+ * <pre>
+ * 使用H2内存数据库中的序列表测试号段预留
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 20:08:41
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class SegmentCodeGeneratorTest {
+
+    private static final String SEQUENCE_NAME = "order_code";
+
+    private JdbcDataSource dataSource;
+    /**
+     * 保持一个连接，避免内存数据库在测试过程中被关闭
+     */
+    private Connection keepAlive;
+
+    @Before
+    public void setUp() throws SQLException {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:sequence_" + System.nanoTime());
+        keepAlive = dataSource.getConnection();
+        try (Statement statement = keepAlive.createStatement()) {
+            statement.execute("CREATE TABLE " + SegmentCodeGenerator.DEFAULT_TABLE_NAME + " (name VARCHAR(64) PRIMARY KEY, max_value BIGINT NOT NULL)");
+            statement.execute("INSERT INTO " + SegmentCodeGenerator.DEFAULT_TABLE_NAME + " (name, max_value) VALUES ('" + SEQUENCE_NAME + "', 0)");
+        }
+    }
+
+    @After
+    public void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Test
+    public void format() {
+        Assert.assertEquals("HC0001", SegmentCodeGenerator.format("HC", 1, 4));
+        Assert.assertEquals("HC12345", SegmentCodeGenerator.format("HC", 12345, 4));
+        Assert.assertEquals("0000", SegmentCodeGenerator.format(null, 0, 4));
+        Assert.assertEquals("HC02", CodeUtil.nextCode("HC01", 2, "HC"));
+    }
+
+    @Test
+    public void nextCode() throws SQLException {
+        SegmentCodeGenerator generator = new SegmentCodeGenerator(dataSource, SEQUENCE_NAME, 100);
+        for (int i = 1; i <= 250; i++) {
+            Assert.assertEquals(SegmentCodeGenerator.format("DD", i, 8), generator.nextCode(8, "DD"));
+        }
+        long maxValue = maxValue(dataSource);
+        log.info("max_value={}", maxValue);
+        // 3个号段 + 最多1个预取的号段
+        Assert.assertTrue(maxValue >= 300 && maxValue <= 400);
+    }
+
+    @Test
+    public void concurrentNextValue() throws Exception {
+        SegmentCodeGenerator generator = new SegmentCodeGenerator(dataSource, SEQUENCE_NAME, 1000);
+        Set<Long> values = ConcurrentHashMap.newKeySet();
+        long startTime = System.currentTimeMillis();
+        int count = generate(values, 8, 20000, generator);
+        log.info("生成{}个序号，耗时={}ms，max_value={}", values.size(), System.currentTimeMillis() - startTime, maxValue(dataSource));
+        Assert.assertEquals(count, values.size());
+    }
+
+    /**
+     * 两个生成器（模拟两个应用节点）竞争同一个序列的号段，生成的序号不能重复
+     */
+    @Test
+    public void competingGenerators() throws Exception {
+        SegmentCodeGenerator generator1 = new SegmentCodeGenerator(dataSource, SEQUENCE_NAME, 100);
+        SegmentCodeGenerator generator2 = new SegmentCodeGenerator(dataSource, SEQUENCE_NAME, 100);
+        Set<Long> values = ConcurrentHashMap.newKeySet();
+        int count = generate(values, 8, 5000, generator1, generator2);
+        Assert.assertEquals(count, values.size());
+        // 每个号段只分配给一个生成器：序号都不超过已预留的最大值
+        long maxValue = maxValue(dataSource);
+        Assert.assertTrue(values.stream().allMatch(value -> value > 0 && value <= maxValue));
+        log.info("生成{}个序号，max_value={}", values.size(), maxValue);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void sequenceNotExists() {
+        SegmentCodeGenerator generator = new SegmentCodeGenerator(dataSource, "not_exists", 100);
+        generator.nextValue();
+    }
+
+    /**
+     * 多线程生成序号，线程按顺序轮流使用各个生成器
+     *
+     * @return 生成的序号数量
+     */
+    private static int generate(Set<Long> values, int threads, int perThread, SegmentCodeGenerator... generators) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        for (int t = 0; t < threads; t++) {
+            SegmentCodeGenerator generator = generators[t % generators.length];
+            executorService.execute(() -> {
+                for (int i = 0; i < perThread; i++) {
+                    values.add(generator.nextValue());
+                }
+            });
+        }
+        executorService.shutdown();
+        Assert.assertTrue(executorService.awaitTermination(1, TimeUnit.MINUTES));
+        return threads * perThread;
+    }
+
+    private static long maxValue(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+                PreparedStatement statement = connection.prepareStatement("SELECT max_value FROM " + SegmentCodeGenerator.DEFAULT_TABLE_NAME + " WHERE name = ?")) {
+            statement.setString(1, SEQUENCE_NAME);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                Assert.assertTrue(resultSet.next());
+                return resultSet.getLong(1);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.sequence;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 类StripedSnowflakeIdWorkerTest的实现描述：分段雪花ID生成器
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-19 10:06:31
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class StripedSnowflakeIdWorkerTest {
+
+    private static final int IDS = 500000;
+
+    /**
+     * 单线程突发：主分段每毫秒的4096个序列用完后借用后面的分段，ID保持递增且不重复
+     */
+    @Test
+    public void nextIdForSingleThreadBurst() {
+        StripedSnowflakeIdWorker idWorker = new StripedSnowflakeIdWorker(0, 4, 1);
+        Set<Long> workerIds = new HashSet<>();
+        long lastId = -1L;
+        long startTime = System.currentTimeMillis();
+        for (int i = 0; i < IDS; i++) {
+            long id = idWorker.nextId();
+            Assert.assertTrue(id > lastId);
+            lastId = id;
+            workerIds.add((id >>> 12) & 31);
+        }
+        log.info("生成{}个ID，耗时={}ms，使用的工作ID={}", IDS, System.currentTimeMillis() - startTime, workerIds);
+        // 当前线程的主分段为第一个分段，序列用完时借用了后面的分段
+        Assert.assertTrue(workerIds.size() > 1);
+    }
+
+    @Test
+    public void nextIdsForSingleThreadBurst() {
+        StripedSnowflakeIdWorker idWorker = new StripedSnowflakeIdWorker(0, 4, 1);
+        long[] ids = idWorker.nextIds(IDS);
+        Set<Long> workerIds = new HashSet<>();
+        for (int i = 0; i < ids.length; i++) {
+            Assert.assertTrue(i == 0 || ids[i] > ids[i - 1]);
+            workerIds.add((ids[i] >>> 12) & 31);
+        }
+        Assert.assertTrue(workerIds.size() > 1);
+        Assert.assertTrue(idWorker.nextId() > ids[ids.length - 1]);
+    }
+
+}
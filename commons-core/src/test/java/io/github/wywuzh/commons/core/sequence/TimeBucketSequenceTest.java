@@ -0,0 +1,126 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.sequence;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 类TimeBucketSequenceTest的实现描述：按时间分段的序列基类
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 20:46:19
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class TimeBucketSequenceTest {
+
+    private static final int THREADS = 8;
+    private static final int CODES_PER_THREAD = 100000;
+
+    @Test
+    public void getCode() {
+        OrderSequence sequence = new OrderSequence();
+        String code = sequence.getCode();
+        log.info("code={}", code);
+        // DD + yyyyMMddHHmmss + 6位序号
+        Assert.assertEquals(2 + 14 + 6, code.length());
+        Assert.assertTrue(code.startsWith("DD"));
+    }
+
+    @Test
+    public void concurrentGetCode() throws Exception {
+        OrderSequence sequence = new OrderSequence();
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        long elapsed = run(() -> {
+            String code = sequence.getCode();
+            codes.add(code);
+            return code;
+        });
+        log.info("生成{}个编码，耗时={}ms", codes.size(), elapsed);
+        Assert.assertEquals(THREADS * CODES_PER_THREAD, codes.size());
+    }
+
+    /**
+     * 与 {@link AbstractSequence} 的吞吐对比
+     */
+    public static void main(String[] args) throws Exception {
+        AbstractSequence lockSequence = new AbstractSequence() {
+            @Override
+            protected Object getFirstPart() {
+                return "DD";
+            }
+
+            @Override
+            protected String datePattern() {
+                return "yyyyMMddHHmmss";
+            }
+
+            @Override
+            protected int getThreePartLength() {
+                return 6;
+            }
+        };
+        OrderSequence bucketSequence = new OrderSequence();
+        for (int i = 0; i < 3; i++) {
+            long lockElapsed = run(lockSequence::getCode);
+            long bucketElapsed = run(bucketSequence::getCode);
+            log.info("{}线程 x {}个编码：AbstractSequence={}ms，TimeBucketSequence={}ms", THREADS, CODES_PER_THREAD, lockElapsed, bucketElapsed);
+        }
+    }
+
+    private static long run(Supplier<String> supplier) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        long startTime = System.currentTimeMillis();
+        for (int t = 0; t < THREADS; t++) {
+            executorService.execute(() -> {
+                for (int i = 0; i < CODES_PER_THREAD; i++) {
+                    supplier.get();
+                }
+            });
+        }
+        executorService.shutdown();
+        executorService.awaitTermination(1, TimeUnit.MINUTES);
+        return System.currentTimeMillis() - startTime;
+    }
+
+    private static class OrderSequence extends TimeBucketSequence {
+        @Override
+        protected Object getFirstPart() {
+            return "DD";
+        }
+
+        @Override
+        protected String datePattern() {
+            return "yyyyMMddHHmmss";
+        }
+
+        @Override
+        protected int getThreePartLength() {
+            return 6;
+        }
+    }
+
+}
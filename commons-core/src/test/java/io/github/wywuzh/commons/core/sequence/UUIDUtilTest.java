@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.sequence;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.UUID;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 类UUIDUtilTest的实现描述：UUID工具类
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 21:05:37
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class UUIDUtilTest {
+
+    @Test
+    public void getTimeOrderedUUID() {
+        UUID uuid = UUIDUtil.getTimeOrderedUUID();
+        log.info("uuid={}, uuid32={}, uuid22={}", uuid, UUIDUtil.toString32(uuid), UUIDUtil.toString22(uuid));
+        Assert.assertEquals(7, uuid.version());
+        Assert.assertEquals(2, uuid.variant());
+        // 高48位为毫秒时间戳
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        Assert.assertTrue(Math.abs(System.currentTimeMillis() - timestamp) < 1000);
+
+        // 严格递增，并且十六进制字符串的排序与时间顺序一致
+        UUID previous = uuid;
+        String previous36 = uuid.toString();
+        for (int i = 0; i < 100000; i++) {
+            UUID current = UUIDUtil.getTimeOrderedUUID();
+            String current36 = UUIDUtil.toString36(current);
+            Assert.assertTrue(Long.compareUnsigned(current.getMostSignificantBits(), previous.getMostSignificantBits()) > 0);
+            Assert.assertTrue(current36.compareTo(previous36) > 0);
+            previous = current;
+            previous36 = current36;
+        }
+    }
+
+    @Test
+    public void toStringAndFromString() {
+        for (int i = 0; i < 1000; i++) {
+            UUID uuid = i % 2 == 0 ? UUID.randomUUID() : UUIDUtil.getTimeOrderedUUID();
+            Assert.assertEquals(uuid.toString(), UUIDUtil.toString36(uuid));
+            Assert.assertEquals(uuid.toString().replace("-", ""), UUIDUtil.toString32(uuid));
+
+            byte[] bytes = ByteBuffer.allocate(16).putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits()).array();
+            String uuid22 = UUIDUtil.toString22(uuid);
+            Assert.assertEquals(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes), uuid22);
+            Assert.assertEquals(uuid, UUIDUtil.fromString22(uuid22));
+        }
+        Assert.assertEquals(32, UUIDUtil.getUUID32().length());
+        Assert.assertEquals(22, UUIDUtil.getTimeOrderedUUID22().length());
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.util;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.wywuzh.commons.core.sequence.SnowflakeIdWorker;
+import io.github.wywuzh.commons.core.sequence.StripedSnowflakeIdWorker;
+
+/**
+ * 类SnowflakeIdWorkerBenchmark的实现描述：雪花ID并发性能对比
+ *
+ * <pre>
+ * 1. synchronized：nextId外层加锁（v3.5.0之前的实现方式）
+ * 2. nextId：CAS无锁获取
+ * 3. nextIds(256)：批量获取，同一毫秒内的序列一次CAS预留
+ * 4. striped(8)：8个分段，每个线程固定使用其中一个工作ID
+ *
+ * 注：每毫秒最多生成4096个ID，单节点吞吐上限约为409万/秒，线程数较多时各方式都会趋近于该上限，差异主要体现在CPU占用上
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 18:58:36
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class SnowflakeIdWorkerBenchmark {
+
+    private static final int IDS_PER_THREAD = 200000;
+    private static final int[] THREADS = {
+            1, 4, 16, 64
+    };
+
+    public static void main(String[] args) throws Exception {
+        for (int threads : THREADS) {
+            SnowflakeIdWorker lockWorker = new SnowflakeIdWorker(1, 1);
+            long synchronizedIdsPerSecond = idsPerSecond(threads, () -> {
+                long blackhole = 0;
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    synchronized (lockWorker) {
+                        blackhole ^= lockWorker.nextId();
+                    }
+                }
+                return blackhole;
+            });
+
+            SnowflakeIdWorker casWorker = new SnowflakeIdWorker(1, 2);
+            long casIdsPerSecond = idsPerSecond(threads, () -> {
+                long blackhole = 0;
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    blackhole ^= casWorker.nextId();
+                }
+                return blackhole;
+            });
+
+            SnowflakeIdWorker bulkWorker = new SnowflakeIdWorker(1, 3);
+            long bulkIdsPerSecond = idsPerSecond(threads, () -> {
+                long blackhole = 0;
+                for (int i = 0; i < IDS_PER_THREAD; i += 256) {
+                    for (long id : bulkWorker.nextIds(256)) {
+                        blackhole ^= id;
+                    }
+                }
+                return blackhole;
+            });
+
+            StripedSnowflakeIdWorker stripedWorker = new StripedSnowflakeIdWorker(8, 8, 1, 5);
+            long stripedIdsPerSecond = idsPerSecond(threads, () -> {
+                long blackhole = 0;
+                for (int i = 0; i < IDS_PER_THREAD; i++) {
+                    blackhole ^= stripedWorker.nextId();
+                }
+                return blackhole;
+            });
+
+            log.info("threads={}, synchronized={}/s, nextId={}/s, nextIds(256)={}/s, striped(8)={}/s", threads, synchronizedIdsPerSecond, casIdsPerSecond, bulkIdsPerSecond,
+                    stripedIdsPerSecond);
+        }
+
+        // 格式化：十进制、十六进制
+        char[] buffer = new char[19];
+        long id = SnowflakeIdWorker.nextIdLong();
+        int length = SnowflakeIdWorker.writeHex(id, buffer, 0);
+        log.info("id={}, hex={}, writeHex={}, appendHex={}", id, Long.toHexString(id), new String(buffer, 0, length), SnowflakeIdWorker.appendHex(new StringBuilder(), id));
+        length = SnowflakeIdWorker.writeDecimal(id, buffer, 0);
+        log.info("id={}, writeDecimal={}", id, new String(buffer, 0, length));
+    }
+
+    private static long idsPerSecond(int threads, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        AtomicLong blackhole = new AtomicLong();
+        long startTime = System.nanoTime();
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                blackhole.addAndGet(task.run());
+                latch.countDown();
+            });
+        }
+        latch.await();
+        long costTime = Math.max(System.nanoTime() - startTime, 1);
+        executor.shutdown();
+        if (blackhole.get() == Long.MIN_VALUE) {
+            log.info("blackhole={}", blackhole.get());
+        }
+        return (long) threads * IDS_PER_THREAD * 1000000000L / costTime;
+    }
+
+    @FunctionalInterface
+    private interface Task {
+        long run();
+    }
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.util;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.commons.beanutils.BeanComparator;
+import org.apache.commons.collections.ComparatorUtils;
+import org.apache.commons.collections.comparators.ComparableComparator;
+import org.apache.commons.collections.comparators.ComparatorChain;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * 类SortUtilsBenchmark的实现描述：多字段排序性能对比（3个排序字段）
+ *
+ * <pre>
+ * 1. beanComparator：BeanComparator + ComparatorChain，每次比较都反射取值（v3.5.0之前的排序方式）
+ * 2. sortUtils：SortUtils.sort，预先取出排序字段值后对下标进行并行归并排序
+ * </pre>
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-18 18:31:09
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class SortUtilsBenchmark {
+
+    private static final int ROWS = 500000;
+    private static final int ROUNDS = 5;
+
+    public static void main(String[] args) {
+        Random random = new Random(20261018L);
+        List<Order> dataList = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            Order order = new Order();
+            order.setShopCode(random.nextInt(10) == 0 ? null : "shop" + random.nextInt(100));
+            order.setQuantity(random.nextInt(10) == 0 ? null : random.nextInt(1000));
+            order.setAmount(BigDecimal.valueOf(random.nextInt(100000), 2));
+            order.setOrderNo(i);
+            dataList.add(order);
+        }
+        Map<String, String> fieldNameMap = new LinkedHashMap<>();
+        fieldNameMap.put("shopCode", "ASC");
+        fieldNameMap.put("quantity", "DESC");
+        fieldNameMap.put("amount", "ASC");
+
+        for (int round = 1; round <= ROUNDS; round++) {
+            List<Order> expected = new ArrayList<>(dataList);
+            long startTime = System.currentTimeMillis();
+            sortByBeanComparator(expected, fieldNameMap);
+            long beanComparatorCost = System.currentTimeMillis() - startTime;
+
+            List<Order> actual = new ArrayList<>(dataList);
+            startTime = System.currentTimeMillis();
+            SortUtils.sort(actual, fieldNameMap);
+            long sortUtilsCost = System.currentTimeMillis() - startTime;
+
+            // 排序是稳定的，两种方式的排序结果必须完全一致
+            for (int i = 0; i < ROWS; i++) {
+                if (expected.get(i) != actual.get(i)) {
+                    throw new IllegalStateException("排序结果不一致，index=" + i);
+                }
+            }
+            log.info("round={}, rows={}, beanComparator={}ms, sortUtils={}ms", round, ROWS, beanComparatorCost, sortUtilsCost);
+        }
+    }
+
+    private static void sortByBeanComparator(List<Order> data, Map<String, String> fieldNameMap) {
+        List<Object> sortFields = new LinkedList<>();
+        for (Map.Entry<String, String> entry : fieldNameMap.entrySet()) {
+            Comparator comparator = ComparatorUtils.nullHighComparator(ComparableComparator.getInstance());
+            if (StringUtils.equalsIgnoreCase(entry.getValue(), "DESC")) {
+                comparator = ComparatorUtils.reversedComparator(comparator);
+            }
+            sortFields.add(new BeanComparator<>(entry.getKey(), comparator));
+        }
+        Collections.sort(data, new ComparatorChain(sortFields));
+    }
+
+    @Data
+    public static class Order {
+        private String shopCode;
+        private Integer quantity;
+        private BigDecimal amount;
+        private Integer orderNo;
+    }
+
+}
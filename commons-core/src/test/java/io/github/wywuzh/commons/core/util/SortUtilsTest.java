@@ -0,0 +1,226 @@
+/*
+ * Copyright 2015-2025 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.github.wywuzh.commons.core.util;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import lombok.Data;
+import lombok.extern.slf4j.Slf4j;
+
+import org.apache.commons.beanutils.BeanComparator;
+import org.apache.commons.collections.ComparatorUtils;
+import org.apache.commons.collections.comparators.ComparableComparator;
+import org.apache.commons.collections.comparators.ComparatorChain;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * 类SortUtilsTest的实现描述：多字段排序
+ *
+ * @author <a href="mailto:wywuzh@163.com">伍章红</a> 2026-10-19 09:42:16
+ * @version v3.5.0
+ * @since JDK 17
+ */
+@Slf4j
+public class SortUtilsTest {
+
+    /**
+     * 与BeanComparator一致，通过读方法取值：isXxx方法、没有对应字段的派生属性、Getter对字段值做了转换
+     */
+    @Test
+    public void sortByReadMethod() {
+        Member m1 = new Member("Bob", 3, 30);
+        Member m2 = new Member("alice", 1, 10);
+        Member m3 = new Member("carol", 2, 20);
+        Member m4 = new Member(null, 0, 40);
+
+        // isActive()：status > 1
+        List<Member> data = SortUtils.sort(new ArrayList<>(Arrays.asList(m1, m2, m3, m4)), new String[] {
+                "active", "name"
+        });
+        Assert.assertEquals(Arrays.asList(m2, m4, m1, m3), data);
+
+        // getTotal()：status * 100 + points，没有total字段
+        Map<String, String> fieldNameMap = new LinkedHashMap<>();
+        fieldNameMap.put("total", "DESC");
+        data = SortUtils.sort(new ArrayList<>(Arrays.asList(m1, m2, m3, m4)), fieldNameMap);
+        Assert.assertEquals(Arrays.asList(m1, m3, m2, m4), data);
+
+        // getName()：转换为小写，字段值为Bob时也应排在alice之后
+        data = SortUtils.sort(new ArrayList<>(Arrays.asList(m1, m2, m3, m4)), new String[] {
+                "name"
+        });
+        Assert.assertEquals(Arrays.asList(m2, m1, m3, m4), data);
+    }
+
+    @Test
+    public void sortByField() {
+        // 没有读方法时直接读取字段
+        Member m1 = new Member("b", 1, 20);
+        Member m2 = new Member("a", 1, 10);
+        List<Member> data = SortUtils.sort(new ArrayList<>(Arrays.asList(m1, m2)), new String[] {
+                "points"
+        });
+        Assert.assertEquals(Arrays.asList(m2, m1), data);
+    }
+
+    /**
+     * null排在最后，DESC时整体反转（null排在最前），多字段依次比较
+     */
+    @Test
+    public void sortByMultiKey() {
+        Item i1 = new Item("a", 2, null, 1L, 1.5D);
+        Item i2 = new Item("a", 1, new BigDecimal("3.0"), 2L, null);
+        Item i3 = new Item(null, 1, new BigDecimal("2"), 3L, 0.5D);
+        Item i4 = new Item("b", null, new BigDecimal("2.00"), null, -1D);
+        Item i5 = new Item("a", 1, new BigDecimal("1"), 5L, 2D);
+
+        List<Item> data = SortUtils.sort(new ArrayList<>(Arrays.asList(i1, i2, i3, i4, i5)), new String[] {
+                "code", "quantity"
+        });
+        Assert.assertEquals(Arrays.asList(i2, i5, i1, i4, i3), data);
+
+        Map<String, String> fieldNameMap = new LinkedHashMap<>();
+        fieldNameMap.put("code", "DESC");
+        fieldNameMap.put("amount", "ASC");
+        data = SortUtils.sort(new ArrayList<>(Arrays.asList(i1, i2, i3, i4, i5)), fieldNameMap);
+        Assert.assertEquals(Arrays.asList(i3, i4, i5, i2, i1), data);
+
+        // BigDecimal按compareTo比较，2与2.00相等时再按ratio排序
+        fieldNameMap = new LinkedHashMap<>();
+        fieldNameMap.put("amount", "desc");
+        fieldNameMap.put("ratio", "ASC");
+        data = SortUtils.sort(new ArrayList<>(Arrays.asList(i1, i2, i3, i4, i5)), fieldNameMap);
+        Assert.assertEquals(Arrays.asList(i1, i2, i4, i3, i5), data);
+    }
+
+    /**
+     * 与原有的BeanComparator排序链结果完全一致：多字段、null、ASC/DESC混合
+     */
+    @Test
+    public void sortSameAsBeanComparator() {
+        Random random = new Random(20261019L);
+        List<Item> dataList = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            dataList.add(new Item(random.nextInt(6) == 0 ? null : "C" + random.nextInt(5), random.nextInt(6) == 0 ? null : random.nextInt(10),
+                    random.nextInt(6) == 0 ? null : BigDecimal.valueOf(random.nextInt(200), random.nextInt(3)), random.nextInt(6) == 0 ? null : (long) random.nextInt(8),
+                    random.nextInt(6) == 0 ? null : random.nextInt(20) / 4D - 2));
+        }
+
+        List<Map<String, String>> sortList = new ArrayList<>();
+        sortList.add(sortMap("code", "ASC", "quantity", "ASC", "amount", "ASC"));
+        sortList.add(sortMap("code", "DESC", "quantity", "ASC", "ratio", "DESC"));
+        sortList.add(sortMap("amount", "DESC", "total", "DESC", "code", "ASC"));
+        sortList.add(sortMap("ratio", "ASC", "total", "desc", "quantity", null));
+        for (Map<String, String> fieldNameMap : sortList) {
+            List<Item> expected = new ArrayList<>(dataList);
+            sortByBeanComparator(expected, fieldNameMap);
+            List<Item> actual = SortUtils.sort(new ArrayList<>(dataList), fieldNameMap);
+            assertSameOrder(fieldNameMap.toString(), expected, actual);
+        }
+
+        // 字段名数组：全部正序
+        String[] fieldNames = {
+                "total", "ratio", "code"
+        };
+        List<Item> expected = new ArrayList<>(dataList);
+        sortByBeanComparator(expected, sortMap("total", "ASC", "ratio", "ASC", "code", "ASC"));
+        assertSameOrder(Arrays.toString(fieldNames), expected, SortUtils.sort(new ArrayList<>(dataList), fieldNames));
+    }
+
+    private static Map<String, String> sortMap(String... fieldAndTypes) {
+        Map<String, String> fieldNameMap = new LinkedHashMap<>();
+        for (int i = 0; i < fieldAndTypes.length; i += 2) {
+            fieldNameMap.put(fieldAndTypes[i], fieldAndTypes[i + 1]);
+        }
+        return fieldNameMap;
+    }
+
+    private static void assertSameOrder(String message, List<Item> expected, List<Item> actual) {
+        Assert.assertEquals(message, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            // 排序是稳定的，相等的元素也必须保持相同的顺序
+            Assert.assertSame(message + " index=" + i, expected.get(i), actual.get(i));
+        }
+    }
+
+    /**
+     * 原有的排序方式：BeanComparator + ComparatorChain
+     */
+    @SuppressWarnings({
+            "unchecked", "rawtypes"
+    })
+    private static void sortByBeanComparator(List<Item> data, Map<String, String> fieldNameMap) {
+        List<Object> sortFields = new LinkedList<>();
+        for (Map.Entry<String, String> entry : fieldNameMap.entrySet()) {
+            Comparator comparator = ComparatorUtils.nullHighComparator(ComparableComparator.getInstance());
+            if (StringUtils.equalsIgnoreCase(entry.getValue(), "DESC")) {
+                comparator = ComparatorUtils.reversedComparator(comparator);
+            }
+            sortFields.add(new BeanComparator<>(entry.getKey(), comparator));
+        }
+        Collections.sort(data, new ComparatorChain(sortFields));
+    }
+
+    @Data
+    public static class Item {
+        private String code;
+        private Integer quantity;
+        private BigDecimal amount;
+        private Long total;
+        private Double ratio;
+
+        public Item(String code, Integer quantity, BigDecimal amount, Long total, Double ratio) {
+            this.code = code;
+            this.quantity = quantity;
+            this.amount = amount;
+            this.total = total;
+            this.ratio = ratio;
+        }
+    }
+
+    public static class Member {
+        private final String name;
+        private final int status;
+        private final int points;
+
+        public Member(String name, int status, int points) {
+            this.name = name;
+            this.status = status;
+            this.points = points;
+        }
+
+        public String getName() {
+            return name == null ? null : name.toLowerCase();
+        }
+
+        public boolean isActive() {
+            return status > 1;
+        }
+
+        public int getTotal() {
+            return status * 100 + points;
+        }
+
+        @Override
+        public String toString() {
+            return name;
+        }
+    }
+
+}
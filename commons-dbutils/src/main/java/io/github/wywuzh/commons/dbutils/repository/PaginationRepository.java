@@ -17,7 +17,9 @@ package io.github.wywuzh.commons.dbutils.repository;
 
 import java.sql.SQLException;
 import java.text.MessageFormat;
+import java.util.Iterator;
 import java.util.List;
+import java.util.regex.Pattern;
 
 import org.apache.commons.dbutils.handlers.BeanListHandler;
 import org.apache.commons.lang3.StringUtils;
@@ -27,10 +29,12 @@ import org.springframework.util.Assert;
 
 import io.github.wywuzh.commons.core.sql.DataBase;
 import io.github.wywuzh.commons.core.sql.Type;
+import io.github.wywuzh.commons.core.util.PageIterator;
 import io.github.wywuzh.commons.dbutils.JdbcUtils;
 import io.github.wywuzh.commons.dbutils.Sql;
 import io.github.wywuzh.commons.dbutils.entity.AbstractEntity;
 import io.github.wywuzh.commons.dbutils.vo.AbstractVo;
+import io.github.wywuzh.commons.pager.Order;
 import io.github.wywuzh.commons.pager.PaginationParameter;
 import io.github.wywuzh.commons.pager.Sort;
 
@@ -44,6 +48,11 @@ import io.github.wywuzh.commons.pager.Sort;
 public class PaginationRepository<E extends AbstractEntity, V extends AbstractVo> extends BasicRepository<E, V> {
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
+    /**
+     * 排序字段：字段名，可带表别名
+     */
+    private static final Pattern SORT_COLUMN_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*(\\.[A-Za-z_][A-Za-z0-9_]*)?");
+
     /**
      * 根据条件查询数据列表
      *
@@ -153,6 +162,95 @@ public class PaginationRepository<E extends AbstractEntity, V extends AbstractVo
         return this.queryForList(tableName, columnSql, conditionSql.toString(), conditionObjs, sorts, pageNo, pageSize);
     }
 
+    /**
+     * 根据条件分页迭代数据，每次只查询一页数据，适用于大数据量导出等场景
+     *
+     * <pre>
+     * 数据库不保证没有ORDER BY时每次查询的顺序一致，按LIMIT/OFFSET分页时可能出现重复、遗漏的数据，
+     * 因此必须传入排序字段，且排序字段的组合应唯一（如最后加上主键）
+     * </pre>
+     *
+     * @param tableName     表名
+     * @param columnSql     查询字段SQL。SQL格式：ID, IS_DELETE, DESCRIPTION, CREATE_USER, CREATE_TIME, UPDATE_USER, UPDATE_TIME
+     * @param conditionSql  查询条件字段。SQL格式：AND ID=? AND NAME=?
+     * @param conditionObjs 查询条件，条件数组字段的顺序需要和查询条件字段的顺序一致
+     * @param sorts         排序，不能为空
+     * @param pageSize      每页查询数据量
+     * @return 数据迭代器，遍历时按需查询下一页数据
+     * @since v3.5.0
+     */
+    public Iterator<E> iterateForList(String tableName, String columnSql, String conditionSql, Object[] conditionObjs, Sort[] sorts, int pageSize) {
+        Assert.notNull(tableName, "tableName must not be null");
+        Assert.notNull(columnSql, "columnSql must not be null");
+        Assert.notEmpty(sorts, "sorts must not be empty");
+        // 提前校验排序字段，避免遍历时才失败
+        String orderSql = generateOrderSql(sorts);
+
+        return new PageIterator<>((pageNo, size) -> this.queryForPage(tableName, columnSql, conditionSql, conditionObjs, orderSql, pageNo, size), pageSize);
+    }
+
+    /**
+     * 根据条件分页迭代数据，每次只查询一页数据，适用于大数据量导出等场景
+     *
+     * @param tableName        表名
+     * @param columnSql        查询字段SQL。SQL格式：ID, IS_DELETE, DESCRIPTION, CREATE_USER, CREATE_TIME, UPDATE_USER, UPDATE_TIME
+     * @param conditionColumns 查询条件字段数组
+     * @param conditionObjs    查询条件，条件数组字段的顺序需要和查询条件字段的顺序一致
+     * @param sorts            排序，不能为空，见 {@link #iterateForList(String, String, String, Object[], Sort[], int)}
+     * @param pageSize         每页查询数据量
+     * @return 数据迭代器，遍历时按需查询下一页数据
+     * @since v3.5.0
+     */
+    public Iterator<E> iterateForList(String tableName, String columnSql, String[] conditionColumns, Object[] conditionObjs, Sort[] sorts, int pageSize) {
+        Assert.notNull(tableName, "tableName must not be null");
+        Assert.notNull(columnSql, "columnSql must not be null");
+        Assert.notEmpty(sorts, "sorts must not be empty");
+
+        StringBuilder conditionSql = new StringBuilder();
+        int length = (conditionColumns == null ? 0 : conditionColumns.length);
+        for (int i = 0; i < length; i++) {
+            conditionSql.append(" AND ").append(conditionColumns[i]).append("=?");
+        }
+        return this.iterateForList(tableName, columnSql, conditionSql.toString(), conditionObjs, sorts, pageSize);
+    }
+
+    /**
+     * 按排序SQL查询一页数据。queryForList 的 sorts 参数历来不参与查询，为保持其行为不变，分页迭代单独使用该方法排序
+     *
+     * @param orderSql 排序SQL，见 {@link #generateOrderSql(Sort[])}
+     */
+    private List<E> queryForPage(String tableName, String columnSql, String conditionSql, Object[] conditionObjs, String orderSql, int pageNo, int pageSize) throws SQLException {
+        // 查询SQL
+        StringBuilder querySql = new StringBuilder(MessageFormat.format(Sql.QUERY, columnSql, tableName, StringUtils.stripToEmpty(conditionSql)));
+        querySql.append(orderSql);
+
+        PaginationParameter<V> paginationParameter = new PaginationParameter<>(pageNo, pageSize);
+        return getQueryRunner().query(JdbcUtils.getConnection(), generatePageSql(querySql.toString(), paginationParameter), new BeanListHandler<E>(getEntityClass()), conditionObjs);
+    }
+
+    /**
+     * 生成排序SQL
+     *
+     * @param sorts 排序
+     * @return 排序SQL，如： ORDER BY CREATE_TIME DESC,ID ASC。排序为空时返回空字符串
+     * @since v3.5.0
+     */
+    protected String generateOrderSql(Sort[] sorts) {
+        if (null == sorts || sorts.length == 0) {
+            return "";
+        }
+        StringBuilder sortStr = new StringBuilder();
+        for (Sort sort : sorts) {
+            // 排序字段直接拼接到SQL中，只允许字段名
+            Assert.isTrue(sort != null && StringUtils.isNotBlank(sort.getSort()) && SORT_COLUMN_PATTERN.matcher(sort.getSort()).matches(), "sort column is invalid");
+            if (sortStr.length() > 0) {
+                sortStr.append(",");
+            }
+            sortStr.append(sort.getSort()).append(" ").append(sort.getOrder() == null ? Order.ASC.getValue() : sort.getOrder().getValue());
+        }
+        return " ORDER BY " + sortStr;
+    }
+
     /**
      * 生成分页SQL语句
      *